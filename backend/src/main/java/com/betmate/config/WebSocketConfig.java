@@ -1,13 +1,20 @@
 package com.betmate.config;
 
+import com.betmate.websocket.PresenceHeartbeatInterceptor;
+import com.betmate.websocket.SlowConsumerInterceptor;
 import com.betmate.websocket.WebSocketAuthenticationInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket configuration for real-time messaging.
@@ -18,16 +25,63 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthenticationInterceptor authenticationInterceptor;
+    private final PresenceHeartbeatInterceptor presenceHeartbeatInterceptor;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
+    private final long heartbeatIntervalMs;
+
+    @Value("${websocket.inbound.core-pool-size:4}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:5000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.transport.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    private TaskScheduler messageBrokerTaskScheduler;
 
     @Autowired
-    public WebSocketConfig(WebSocketAuthenticationInterceptor authenticationInterceptor) {
+    public WebSocketConfig(WebSocketAuthenticationInterceptor authenticationInterceptor,
+                           PresenceHeartbeatInterceptor presenceHeartbeatInterceptor,
+                           SlowConsumerInterceptor slowConsumerInterceptor,
+                           @Value("${websocket.heartbeat-interval-ms:10000}") long heartbeatIntervalMs) {
         this.authenticationInterceptor = authenticationInterceptor;
+        this.presenceHeartbeatInterceptor = presenceHeartbeatInterceptor;
+        this.slowConsumerInterceptor = slowConsumerInterceptor;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(
+            @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enable a simple memory-based message broker for subscriptions and broadcasts
-        config.enableSimpleBroker("/topic", "/queue", "/user");
+        // Enable a simple memory-based message broker for subscriptions and broadcasts.
+        // STOMP heart-beats keep presence alive for clients that are connected but idle.
+        config.enableSimpleBroker("/topic", "/queue", "/user")
+                .setHeartbeatValue(new long[] {heartbeatIntervalMs, heartbeatIntervalMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         
         // Set application destination prefix for messages that are bound for @MessageMapping methods
         config.setApplicationDestinationPrefixes("/app");
@@ -46,7 +100,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // Add authentication interceptor for WebSocket connections
-        registration.interceptors(authenticationInterceptor);
+        // Add authentication interceptor for WebSocket connections, then refresh presence on every frame
+        registration.interceptors(authenticationInterceptor, presenceHeartbeatInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // Bounded pool so a burst of broadcasts cannot grow threads without limit;
+        // the interceptor sheds typing/presence frames for sessions that fall behind
+        registration.interceptors(slowConsumerInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Sessions that stay over the buffer or time limit are closed as unreliable
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import com.betmate.service.bet.BetService;
 import com.betmate.service.bet.BetCreationService;
 import com.betmate.service.bet.BetParticipationService;
 import com.betmate.service.bet.BetResolutionService;
+import com.betmate.service.common.IdempotencyService;
 import com.betmate.entity.betting.BetParticipation;
 import com.betmate.service.group.GroupService;
 import com.betmate.service.group.GroupMembershipService;
@@ -49,6 +50,7 @@ public class BetController {
     private final GroupService groupService;
     private final GroupMembershipService groupMembershipService;
     private final UserService userService;
+    private final IdempotencyService idempotencyService;
 
     @Autowired
     public BetController(BetService betService,
@@ -57,7 +59,8 @@ public class BetController {
                         BetResolutionService betResolutionService,
                         GroupService groupService,
                         GroupMembershipService groupMembershipService,
-                        UserService userService) {
+                        UserService userService,
+                        IdempotencyService idempotencyService) {
         this.betService = betService;
         this.betCreationService = betCreationService;
         this.betParticipationService = betParticipationService;
@@ -65,6 +68,7 @@ public class BetController {
         this.groupService = groupService;
         this.groupMembershipService = groupMembershipService;
         this.userService = userService;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
@@ -234,34 +238,36 @@ public class BetController {
 
     /**
      * Place a bet on an existing bet.
+     * Retries sending the same Idempotency-Key get the original response instead of placing the bet again.
      */
     @PostMapping("/{betId}/participate")
     public ResponseEntity<BetResponseDto> placeBet(
             @PathVariable Long betId,
             @Valid @RequestBody PlaceBetRequestDto request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
 
         try {
             User currentUser = userService.getUserByUsername(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-            System.out.println("DEBUG: Placing bet - User: " + currentUser.getUsername() +
-                             ", BetId: " + betId + ", Option: " + request.getChosenOption() +
-                             ", Amount: " + request.getAmount());
-
-            // Place the bet
-            BetParticipation participation = betParticipationService.placeBet(
-                currentUser,
-                betId,
-                request.getChosenOption(),
-                request.getAmount()
-            );
-
-            // Get updated bet details
-            Bet bet = betService.getBetById(betId);
-            BetResponseDto response = convertToDetailedResponse(bet, currentUser);
-
-            return ResponseEntity.ok(response);
+            // The bet is placed first and rendered separately, so a failure while building the
+            // response can't release the key and let a retry place the bet twice
+            return idempotencyService.execute(currentUser.getId(), "bet-participate:" + betId, idempotencyKey, request,
+                BetResponseDto.class,
+                () -> betParticipationService.placeBet(
+                    currentUser,
+                    betId,
+                    request.getChosenOption(),
+                    request.getAmount()
+                ),
+                () -> {
+                    // Get updated bet details
+                    Bet bet = betService.getBetById(betId);
+                    BetResponseDto response = convertToDetailedResponse(bet, currentUser);
+
+                    return ResponseEntity.ok(response);
+                });
         } catch (Exception e) {
             System.err.println("ERROR placing bet: " + e.getMessage());
             e.printStackTrace();
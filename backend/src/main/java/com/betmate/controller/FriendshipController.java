@@ -1,5 +1,6 @@
 package com.betmate.controller;
 
+import com.betmate.dto.user.response.FriendSuggestionResponseDto;
 import com.betmate.dto.user.response.UserSearchResultResponseDto;
 import com.betmate.entity.user.Friendship;
 import com.betmate.entity.user.Friendship.FriendshipStatus;
@@ -238,6 +239,22 @@ public class FriendshipController {
         }
     }
 
+    /**
+     * Get "people you may know" suggestions for the current user.
+     */
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<FriendSuggestionResponseDto>> getFriendSuggestions(
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        try {
+            Long currentUserId = getCurrentUserId();
+            return ResponseEntity.ok(friendshipService.getFriendSuggestions(currentUserId, limit));
+        } catch (Exception e) {
+            logger.error("Error getting friend suggestions for user", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(List.of());
+        }
+    }
+
     // ==========================================
     // FRIEND REQUESTS DATA RETRIEVAL
     // ==========================================
@@ -3,24 +3,33 @@ package com.betmate.controller;
 import com.betmate.dto.group.request.GroupCreationRequestDto;
 import com.betmate.dto.group.request.GroupUpdateRequestDto;
 import com.betmate.dto.group.request.UpdateMemberRoleRequestDto;
+import com.betmate.dto.group.response.GroupDashboardResponseDto;
+import com.betmate.dto.group.response.GroupLeaderboardResponseDto;
 import com.betmate.dto.group.response.GroupResponseDto;
 import com.betmate.dto.group.response.GroupSummaryResponseDto;
 import com.betmate.dto.group.response.GroupMemberResponseDto;
+import com.betmate.dto.group.response.MemberPreviewDto;
+import com.betmate.dto.store.response.LoadoutPreviewDto;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.group.GroupMembership;
 import com.betmate.entity.user.User;
 import com.betmate.service.group.GroupCreationService;
+import com.betmate.service.group.GroupDashboardService;
+import com.betmate.service.group.GroupLeaderboardService;
 import com.betmate.service.group.GroupMembershipService;
 import com.betmate.service.group.GroupService;
+import com.betmate.service.user.UserLoadoutService;
 import com.betmate.service.user.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for group management operations.
@@ -34,16 +43,25 @@ public class GroupController {
     private final GroupCreationService groupCreationService;
     private final GroupMembershipService groupMembershipService;
     private final UserService userService;
+    private final GroupDashboardService groupDashboardService;
+    private final GroupLeaderboardService groupLeaderboardService;
+    private final UserLoadoutService userLoadoutService;
 
     @Autowired
     public GroupController(GroupService groupService,
                           GroupCreationService groupCreationService,
                           GroupMembershipService groupMembershipService,
-                          UserService userService) {
+                          UserService userService,
+                          GroupDashboardService groupDashboardService,
+                          GroupLeaderboardService groupLeaderboardService,
+                          UserLoadoutService userLoadoutService) {
         this.groupService = groupService;
         this.groupCreationService = groupCreationService;
         this.groupMembershipService = groupMembershipService;
         this.userService = userService;
+        this.groupDashboardService = groupDashboardService;
+        this.groupLeaderboardService = groupLeaderboardService;
+        this.userLoadoutService = userLoadoutService;
     }
 
     /**
@@ -74,26 +92,19 @@ public class GroupController {
     }
 
     /**
-     * Get public groups for discovery.
+     * Get public groups for discovery, one page at a time.
      * Excludes groups that the current user is already a member of.
      */
     @GetMapping("/public")
-    public ResponseEntity<List<GroupSummaryResponseDto>> getPublicGroups(Authentication authentication) {
+    public ResponseEntity<Page<GroupSummaryResponseDto>> getPublicGroups(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "ACTIVITY") GroupService.DiscoverySort sort,
+            Authentication authentication) {
         User currentUser = userService.getUserByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("User not found"));
-            
-        List<Group> allPublicGroups = groupService.getPublicGroups();
-        List<Group> userGroups = groupMembershipService.getUserGroups(currentUser);
-        
-        // Filter out groups the user is already a member of
-        List<Group> filteredGroups = allPublicGroups.stream()
-            .filter(group -> userGroups.stream()
-                .noneMatch(userGroup -> userGroup.getId().equals(group.getId())))
-            .toList();
-            
-        List<GroupSummaryResponseDto> response = filteredGroups.stream()
-            .map(group -> convertToSummaryResponse(group, currentUser))
-            .toList();
+
+        Page<GroupSummaryResponseDto> response = groupService.discoverPublicGroups(currentUser.getId(), page, size, sort);
         return ResponseEntity.ok(response);
     }
 
@@ -114,15 +125,17 @@ public class GroupController {
     }
 
     /**
-     * Search groups by name or description.
+     * Search groups by name or description, most relevant first.
      */
     @GetMapping("/search")
     public ResponseEntity<List<GroupSummaryResponseDto>> searchGroups(
-            @RequestParam String q, Authentication authentication) {
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
         User currentUser = userService.getUserByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("User not found"));
             
-        List<Group> groups = groupService.searchGroups(q);
+        List<Group> groups = groupService.searchGroups(q, limit);
         List<GroupSummaryResponseDto> response = groups.stream()
             .map(group -> convertToSummaryResponse(group, currentUser))
             .toList();
@@ -147,13 +160,74 @@ public class GroupController {
         }
         
         List<GroupMembership> memberships = groupMembershipService.getGroupMembers(group);
+        Map<Long, LoadoutPreviewDto> loadouts = userLoadoutService.getLoadouts(
+            memberships.stream().map(membership -> membership.getUser().getId()).toList());
         List<GroupMemberResponseDto> response = memberships.stream()
-            .map(this::convertToMemberResponse)
+            .map(membership -> convertToMemberResponse(membership, loadouts.get(membership.getUser().getId())))
             .toList();
         
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get one page of group members as lightweight projections.
+     * Sort by ROLE (default), JOINED or NEWEST.
+     */
+    @GetMapping("/{groupId}/members/page")
+    public ResponseEntity<Page<MemberPreviewDto>> getGroupMemberPage(
+            @PathVariable Long groupId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "ROLE") GroupMembershipService.MemberSort sort,
+            Authentication authentication) {
+
+        User currentUser = userService.getUserByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        Group group = groupService.getGroupById(groupId);
+
+        // Check if user is a member of the group (for security)
+        if (!groupMembershipService.isMember(currentUser, group)) {
+            throw new RuntimeException("Access denied - not a member of this group");
+        }
+
+        return ResponseEntity.ok(groupMembershipService.getGroupMemberPage(groupId, page, size, sort));
+    }
+
+    /**
+     * Get everything the group screen needs in one round trip:
+     * group details, members, recent bets, recent messages and message stats.
+     */
+    @GetMapping("/{groupId}/dashboard")
+    public ResponseEntity<GroupDashboardResponseDto> getGroupDashboard(
+            @PathVariable Long groupId,
+            @RequestParam(defaultValue = "20") int memberLimit,
+            @RequestParam(defaultValue = "10") int betLimit,
+            @RequestParam(defaultValue = "30") int messageLimit,
+            Authentication authentication) {
+
+        User currentUser = userService.getUserByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("User not found"));
+
+        GroupDashboardResponseDto response = groupDashboardService.getDashboard(groupId, currentUser,
+            new GroupDashboardService.DashboardLimits(memberLimit, betLimit, messageLimit));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the group leaderboard: top members by net winnings plus the caller's own rank.
+     */
+    @GetMapping("/{groupId}/leaderboard")
+    public ResponseEntity<GroupLeaderboardResponseDto> getGroupLeaderboard(
+            @PathVariable Long groupId,
+            @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication) {
+
+        User currentUser = userService.getUserByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("User not found"));
+
+        return ResponseEntity.ok(groupLeaderboardService.getLeaderboard(groupId, currentUser, limit));
+    }
+
     /**
      * Update a member's role in the group.
      */
@@ -181,7 +255,8 @@ public class GroupController {
 
         System.out.println("🔄 [DEBUG] Role update successful - New role: " + updatedMembership.getRole());
 
-        return ResponseEntity.ok(convertToMemberResponse(updatedMembership));
+        Long memberUserId = updatedMembership.getUser().getId();
+        return ResponseEntity.ok(convertToMemberResponse(updatedMembership, userLoadoutService.getLoadout(memberUserId)));
     }
 
     /**
@@ -287,7 +362,7 @@ public class GroupController {
         return response;
     }
 
-    private GroupMemberResponseDto convertToMemberResponse(GroupMembership membership) {
+    private GroupMemberResponseDto convertToMemberResponse(GroupMembership membership, LoadoutPreviewDto loadout) {
         GroupMemberResponseDto response = new GroupMemberResponseDto();
         User user = membership.getUser();
         
@@ -303,6 +378,7 @@ public class GroupController {
         response.setTotalBets(membership.getTotalBets());
         response.setTotalWins(membership.getTotalWins());
         response.setTotalLosses(membership.getTotalLosses());
+        response.setLoadout(loadout);
         
         return response;
     }
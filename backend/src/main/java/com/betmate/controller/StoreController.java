@@ -1,5 +1,6 @@
 package com.betmate.controller;
 
+import com.betmate.dto.store.request.ApplyLoadoutRequestDto;
 import com.betmate.dto.store.request.EquipItemRequestDto;
 import com.betmate.dto.store.request.PurchaseItemRequestDto;
 import com.betmate.dto.store.request.RemoveItemRequestDto;
@@ -7,7 +8,11 @@ import com.betmate.dto.store.response.*;
 import com.betmate.entity.store.StoreItem;
 import com.betmate.entity.user.User;
 import com.betmate.entity.user.UserInventory;
+import com.betmate.exception.store.StoreItemNotFoundException;
+import com.betmate.service.common.IdempotencyService;
+import com.betmate.service.store.StoreCatalog;
 import com.betmate.service.store.StoreService;
+import com.betmate.service.store.TauntUsageService;
 import com.betmate.service.user.UserInventoryService;
 import com.betmate.service.user.UserService;
 import jakarta.validation.Valid;
@@ -16,8 +21,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for store operations.
@@ -30,32 +37,36 @@ public class StoreController {
     private final StoreService storeService;
     private final UserInventoryService userInventoryService;
     private final UserService userService;
+    private final TauntUsageService tauntUsageService;
+    private final IdempotencyService idempotencyService;
 
     @Autowired
     public StoreController(StoreService storeService,
                           UserInventoryService userInventoryService,
-                          UserService userService) {
+                          UserService userService,
+                          TauntUsageService tauntUsageService,
+                          IdempotencyService idempotencyService) {
         this.storeService = storeService;
         this.userInventoryService = userInventoryService;
         this.userService = userService;
+        this.tauntUsageService = tauntUsageService;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
      * Get all available store items.
+     * Catalog responses carry an ETag; clients sending it back in If-None-Match get 304.
      */
     @GetMapping("/items")
     public ResponseEntity<List<StoreItemResponseDto>> getStoreItems(
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
         
         User currentUser = userService.getUserByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        List<StoreItem> items = storeService.getAvailableItems();
-        List<StoreItemResponseDto> response = items.stream()
-            .map(item -> convertToStoreItemResponse(item, currentUser))
-            .toList();
-        
-        return ResponseEntity.ok(response);
+        StoreCatalog catalog = storeService.getCatalog();
+        return catalogResponse(catalog, catalog.available(), currentUser, webRequest);
     }
 
     /**
@@ -64,17 +75,14 @@ public class StoreController {
     @GetMapping("/items/category/{category}")
     public ResponseEntity<List<StoreItemResponseDto>> getItemsByCategory(
             @PathVariable StoreItem.ItemCategory category,
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
         
         User currentUser = userService.getUserByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        List<StoreItem> items = storeService.getItemsByCategory(category);
-        List<StoreItemResponseDto> response = items.stream()
-            .map(item -> convertToStoreItemResponse(item, currentUser))
-            .toList();
-        
-        return ResponseEntity.ok(response);
+        StoreCatalog catalog = storeService.getCatalog();
+        return catalogResponse(catalog, catalog.byCategory(category), currentUser, webRequest);
     }
 
     /**
@@ -82,17 +90,14 @@ public class StoreController {
      */
     @GetMapping("/items/featured")
     public ResponseEntity<List<StoreItemResponseDto>> getFeaturedItems(
-            Authentication authentication) {
+            Authentication authentication,
+            WebRequest webRequest) {
         
         User currentUser = userService.getUserByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        List<StoreItem> items = storeService.getFeaturedItems();
-        List<StoreItemResponseDto> response = items.stream()
-            .map(item -> convertToStoreItemResponse(item, currentUser))
-            .toList();
-        
-        return ResponseEntity.ok(response);
+        StoreCatalog catalog = storeService.getCatalog();
+        return catalogResponse(catalog, catalog.featured(), currentUser, webRequest);
     }
 
     /**
@@ -101,32 +106,78 @@ public class StoreController {
     @GetMapping("/items/{itemId}")
     public ResponseEntity<StoreItemResponseDto> getStoreItem(
             @PathVariable Long itemId,
+            Authentication authentication,
+            WebRequest webRequest) {
+        
+        User currentUser = userService.getUserByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        
+        StoreCatalog catalog = storeService.getCatalog();
+        StoreItem item = catalog.item(itemId)
+            .orElseThrow(() -> new StoreItemNotFoundException("Store item not found: " + itemId));
+        Set<Long> ownedItemIds = userInventoryService.getOwnedStoreItemIds(currentUser);
+        String etag = catalog.etag(ownedItemIds);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        
+        StoreItemResponseDto response = convertToStoreItemResponse(item, ownedItemIds);
+        
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    /**
+     * Get the taunts used most in the recent past, served from memory.
+     */
+    @GetMapping("/taunts/trending")
+    public ResponseEntity<List<TauntMessageResponseDto>> getTrendingTaunts(
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        List<TauntMessageResponseDto> response = tauntUsageService.getTrendingTaunts(Math.min(limit, 50)).stream()
+            .map(TauntMessageResponseDto::fromTaunt)
+            .toList();
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Use a taunt. Counts towards its usage total and the trending list, at most once per
+     * minimum interval for each user.
+     */
+    @PostMapping("/taunts/{tauntId}/use")
+    public ResponseEntity<TauntMessageResponseDto> useTaunt(
+            @PathVariable Long tauntId,
             Authentication authentication) {
         
         User currentUser = userService.getUserByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        StoreItem item = storeService.getStoreItem(itemId);
-        StoreItemResponseDto response = convertToStoreItemResponse(item, currentUser);
+        TauntMessageResponseDto response = TauntMessageResponseDto.fromTaunt(
+            tauntUsageService.useTaunt(currentUser.getId(), tauntId));
         
         return ResponseEntity.ok(response);
     }
 
     /**
      * Purchase a store item.
+     * Retries sending the same Idempotency-Key get the original response instead of a second purchase.
      */
     @PostMapping("/purchase")
     public ResponseEntity<InventoryItemResponseDto> purchaseItem(
             @Valid @RequestBody PurchaseItemRequestDto request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
         
         User currentUser = userService.getUserByUsername(authentication.getName())
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        UserInventory purchasedItem = storeService.purchaseItem(currentUser, request.getStoreItemId(), request.getPricePaid());
-        InventoryItemResponseDto response = convertToInventoryItemResponse(purchasedItem);
-        
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return idempotencyService.execute(currentUser.getId(), "store-purchase", idempotencyKey, request,
+            InventoryItemResponseDto.class, () -> {
+                UserInventory purchasedItem = storeService.purchaseItem(currentUser, request.getStoreItemId(), request.getPricePaid());
+                InventoryItemResponseDto response = convertToInventoryItemResponse(purchasedItem);
+                
+                return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            });
     }
 
     /**
@@ -209,8 +260,41 @@ public class StoreController {
         return ResponseEntity.ok(loadout);
     }
 
+    /**
+     * Change several loadout slots in one request; a null item clears its slot.
+     */
+    @PutMapping("/inventory/loadout")
+    public ResponseEntity<UserLoadoutResponseDto> applyLoadout(
+            @Valid @RequestBody ApplyLoadoutRequestDto request,
+            Authentication authentication) {
+        
+        User currentUser = userService.getUserByUsername(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        
+        userInventoryService.applyLoadout(currentUser, request.getSlots());
+        UserLoadoutResponseDto loadout = userInventoryService.getUserLoadout(currentUser);
+        
+        return ResponseEntity.ok(loadout);
+    }
+
+    // Ownership is loaded once per request and folded into the ETag, since it is per user
+    private ResponseEntity<List<StoreItemResponseDto>> catalogResponse(StoreCatalog catalog, List<StoreItem> items,
+                                                                       User currentUser, WebRequest webRequest) {
+        Set<Long> ownedItemIds = userInventoryService.getOwnedStoreItemIds(currentUser);
+        String etag = catalog.etag(ownedItemIds);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        
+        List<StoreItemResponseDto> response = items.stream()
+            .map(item -> convertToStoreItemResponse(item, ownedItemIds))
+            .toList();
+        
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
     // Helper methods for DTO conversion
-    private StoreItemResponseDto convertToStoreItemResponse(StoreItem item, User currentUser) {
+    private StoreItemResponseDto convertToStoreItemResponse(StoreItem item, Set<Long> ownedItemIds) {
         StoreItemResponseDto response = new StoreItemResponseDto();
         response.setId(item.getId());
         response.setItemType(item.getItemType());
@@ -229,7 +313,7 @@ public class StoreController {
         response.setCreatedAt(item.getCreatedAt());
         
         // Set user context
-        response.setUserOwns(userInventoryService.ownsItem(currentUser, item));
+        response.setUserOwns(ownedItemIds.contains(item.getId()));
         // TODO: Implement user balance check when user credit system is added
         response.setUserCanAfford(true); // Placeholder until user balance is implemented
         
@@ -6,8 +6,10 @@ import com.betmate.dto.user.request.UserRegistrationRequestDto;
 import com.betmate.dto.user.response.UserAvailabilityResponseDto;
 import com.betmate.dto.user.response.UserProfileResponseDto;
 import com.betmate.dto.user.response.UserSearchResultResponseDto;
+import com.betmate.entity.user.Friendship.FriendshipStatus;
 import com.betmate.entity.user.User;
 import com.betmate.service.security.UserDetailsServiceImpl;
+import com.betmate.service.user.FriendshipService;
 import com.betmate.service.user.UserRegistrationService;
 import com.betmate.service.user.UserService;
 import com.betmate.service.user.UserStatisticsService;
@@ -24,6 +26,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for user management operations.
@@ -37,13 +40,15 @@ public class UserController {
     private final UserService userService;
     private final UserRegistrationService userRegistrationService;
     private final UserStatisticsService userStatisticsService;
+    private final FriendshipService friendshipService;
 
     @Autowired
     public UserController(UserService userService, UserRegistrationService userRegistrationService,
-                         UserStatisticsService userStatisticsService) {
+                         UserStatisticsService userStatisticsService, FriendshipService friendshipService) {
         this.userService = userService;
         this.userRegistrationService = userRegistrationService;
         this.userStatisticsService = userStatisticsService;
+        this.friendshipService = friendshipService;
     }
 
     // ==========================================
@@ -209,14 +214,23 @@ public class UserController {
     }
 
     /**
-     * Search users by name.
+     * Search users by name, most relevant first.
      */
     @GetMapping("/search")
     public ResponseEntity<List<UserSearchResultResponseDto>> searchUsers(
-            @RequestParam @NotBlank String q) {
-        List<User> users = userService.searchUsers(q);
+            @RequestParam @NotBlank String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<User> users = userService.searchUsers(q, limit);
+        UserDetailsServiceImpl.UserPrincipal currentUser = getCurrentUser();
+        if (currentUser == null) {
+            return ResponseEntity.ok(users.stream().map(UserSearchResultResponseDto::fromUser).toList());
+        }
+
+        // Annotate the whole page with one lookup so clients don't fetch status per result
+        Map<Long, FriendshipStatus> statuses = friendshipService.getFriendshipStatuses(
+            currentUser.getUserId(), users.stream().map(User::getId).toList());
         List<UserSearchResultResponseDto> results = users.stream()
-            .map(UserSearchResultResponseDto::fromUser)
+            .map(user -> UserSearchResultResponseDto.fromUser(user, statuses.get(user.getId())))
             .toList();
         return ResponseEntity.ok(results);
     }
@@ -0,0 +1,22 @@
+package com.betmate.dto.betting.response;
+
+import com.betmate.entity.betting.Bet;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Compact bet projection for dashboards.
+ * Built directly by JPQL constructor expressions, so no entity graph is loaded.
+ */
+public record BetPreviewDto(
+    Long id,
+    String title,
+    Bet.BetType betType,
+    Bet.BetStatus status,
+    String creatorUsername,
+    LocalDateTime bettingDeadline,
+    BigDecimal totalPool,
+    Integer totalParticipants,
+    LocalDateTime createdAt
+) {}
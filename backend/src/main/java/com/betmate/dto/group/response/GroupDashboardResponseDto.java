@@ -0,0 +1,19 @@
+package com.betmate.dto.group.response;
+
+import com.betmate.dto.betting.response.BetPreviewDto;
+import com.betmate.dto.messaging.response.MessagePreviewDto;
+import com.betmate.service.messaging.MessageService.MessageStats;
+
+import java.util.List;
+
+/**
+ * Everything the group screen needs for its first render, returned in one response.
+ * Each list is capped by the limits requested for its section.
+ */
+public record GroupDashboardResponseDto(
+    GroupResponseDto group,
+    List<MemberPreviewDto> members,
+    List<BetPreviewDto> bets,
+    List<MessagePreviewDto> recentMessages,
+    MessageStats messageStats
+) {}
@@ -0,0 +1,14 @@
+package com.betmate.dto.group.response;
+
+import java.util.List;
+
+/**
+ * Top of a group leaderboard plus the caller's own standing.
+ * currentUser is null when the caller has no settled bets in the group yet.
+ */
+public record GroupLeaderboardResponseDto(
+    Long groupId,
+    List<LeaderboardEntryDto> top,
+    LeaderboardEntryDto currentUser,
+    int totalRanked
+) {}
@@ -1,5 +1,6 @@
 package com.betmate.dto.group.response;
 
+import com.betmate.dto.store.response.LoadoutPreviewDto;
 import com.betmate.entity.group.GroupMembership;
 
 import java.time.LocalDateTime;
@@ -21,6 +22,7 @@ public class GroupMemberResponseDto {
     private Integer totalBets;
     private Integer totalWins;
     private Integer totalLosses;
+    private LoadoutPreviewDto loadout;
     
     // Getters and setters
     public Long getId() { return id; }
@@ -59,6 +61,9 @@ public class GroupMemberResponseDto {
     public Integer getTotalLosses() { return totalLosses; }
     public void setTotalLosses(Integer totalLosses) { this.totalLosses = totalLosses; }
 
+    public LoadoutPreviewDto getLoadout() { return loadout; }
+    public void setLoadout(LoadoutPreviewDto loadout) { this.loadout = loadout; }
+
     // Utility methods
     public boolean isOnline() {
         if (lastActivityAt == null) return false;
@@ -48,6 +48,19 @@ public class GroupSummaryResponseDto {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Projection constructor used by discovery queries; the caller is never a member of the result.
+     */
+    public GroupSummaryResponseDto(Long id, String groupName, String description, String groupPictureUrl,
+                                 Group.Privacy privacy, String creatorUsername, Integer memberCount,
+                                 Integer maxMembers, Boolean isActive, Boolean autoApproveMembers,
+                                 Long totalMessages, LocalDateTime lastMessageAt, LocalDateTime createdAt) {
+        this(id, groupName, description, groupPictureUrl, privacy, creatorUsername, memberCount,
+             maxMembers, isActive, totalMessages, lastMessageAt, createdAt);
+        this.autoApproveMembers = autoApproveMembers;
+        this.isUserMember = false;
+    }
+
     // Getters and setters
     public Long getId() {
         return id;
@@ -0,0 +1,31 @@
+package com.betmate.dto.group.response;
+
+import java.math.BigDecimal;
+
+/**
+ * One member's standing on a group leaderboard.
+ * A positive currentStreak counts consecutive wins, a negative one consecutive losses.
+ */
+public record LeaderboardEntryDto(
+    int rank,
+    Long userId,
+    String username,
+    BigDecimal netWinnings,
+    int wins,
+    int losses,
+    int currentStreak,
+    int longestWinStreak
+) {
+
+    /**
+     * Unranked projection used when loading standings; ranks are assigned in memory.
+     */
+    public LeaderboardEntryDto(Long userId, String username, BigDecimal netWinnings,
+                               Integer wins, Integer losses, Integer currentStreak, Integer longestWinStreak) {
+        this(0, userId, username, netWinnings, wins, losses, currentStreak, longestWinStreak);
+    }
+
+    public LeaderboardEntryDto withRank(int rank) {
+        return new LeaderboardEntryDto(rank, userId, username, netWinnings, wins, losses, currentStreak, longestWinStreak);
+    }
+}
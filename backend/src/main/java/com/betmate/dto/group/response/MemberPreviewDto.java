@@ -0,0 +1,44 @@
+package com.betmate.dto.group.response;
+
+import com.betmate.entity.group.GroupMembership;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact member projection for dashboards and paged member lists.
+ * Built directly by JPQL constructor expressions, so no entity graph is loaded.
+ * The avatar fields are null when the member has no avatar skin equipped.
+ */
+public record MemberPreviewDto(
+    Long userId,
+    String username,
+    String displayName,
+    GroupMembership.MemberRole role,
+    LocalDateTime joinedAt,
+    LocalDateTime lastActivityAt,
+    Long avatarItemId,
+    String avatarName,
+    String avatarIconUrl
+) {
+
+    /**
+     * Projection constructor; derives the display name the same way as {@code User.getFullName()}.
+     */
+    public MemberPreviewDto(Long userId, String username, String firstName, String lastName,
+                            GroupMembership.MemberRole role, LocalDateTime joinedAt, LocalDateTime lastActivityAt,
+                            Long avatarItemId, String avatarName, String avatarIconUrl) {
+        this(userId, username, displayName(username, firstName, lastName), role, joinedAt, lastActivityAt,
+            avatarItemId, avatarName, avatarIconUrl);
+    }
+
+    private static String displayName(String username, String firstName, String lastName) {
+        if (firstName != null && lastName != null) {
+            return firstName + " " + lastName;
+        } else if (firstName != null) {
+            return firstName;
+        } else if (lastName != null) {
+            return lastName;
+        }
+        return username;
+    }
+}
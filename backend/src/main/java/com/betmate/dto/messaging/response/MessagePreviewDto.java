@@ -0,0 +1,18 @@
+package com.betmate.dto.messaging.response;
+
+import com.betmate.entity.messaging.Message;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact message projection for dashboards.
+ * Built directly by JPQL constructor expressions, so no entity graph is loaded.
+ */
+public record MessagePreviewDto(
+    Long id,
+    String senderUsername,
+    String content,
+    Message.MessageType messageType,
+    Boolean isEdited,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,33 @@
+package com.betmate.dto.store.request;
+
+import com.betmate.entity.store.StoreItem;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.Map;
+
+/**
+ * Request DTO for changing several loadout slots at once.
+ * Each slot maps to the inventory item to equip, or to null to clear the slot.
+ */
+public class ApplyLoadoutRequestDto {
+    
+    @NotEmpty(message = "At least one slot is required")
+    private Map<StoreItem.ItemType, Long> slots;
+
+    // Default constructor
+    public ApplyLoadoutRequestDto() {}
+
+    // Constructor
+    public ApplyLoadoutRequestDto(Map<StoreItem.ItemType, Long> slots) {
+        this.slots = slots;
+    }
+
+    // Getters and setters
+    public Map<StoreItem.ItemType, Long> getSlots() {
+        return slots;
+    }
+
+    public void setSlots(Map<StoreItem.ItemType, Long> slots) {
+        this.slots = slots;
+    }
+}
@@ -0,0 +1,23 @@
+package com.betmate.dto.store.response;
+
+/**
+ * Compact view of a user's equipped cosmetics, for embedding wherever a user is listed.
+ * Slots with nothing equipped are null.
+ */
+public record LoadoutPreviewDto(
+    EquippedCosmetic title,
+    EquippedCosmetic avatar,
+    EquippedCosmetic badge,
+    EquippedCosmetic theme,
+    EquippedCosmetic frame
+) {
+
+    public static final LoadoutPreviewDto EMPTY = new LoadoutPreviewDto(null, null, null, null, null);
+
+    public record EquippedCosmetic(
+        Long storeItemId,
+        String name,
+        String iconUrl,
+        String rarity
+    ) {}
+}
@@ -0,0 +1,27 @@
+package com.betmate.dto.store.response;
+
+import com.betmate.entity.store.TauntMessage;
+
+/**
+ * Response DTO for a taunt message.
+ */
+public record TauntMessageResponseDto(
+    Long id,
+    String messageText,
+    String category,
+    String rarity,
+    String packName,
+    Long totalUsage
+) {
+
+    public static TauntMessageResponseDto fromTaunt(TauntMessage taunt) {
+        return new TauntMessageResponseDto(
+            taunt.getId(),
+            taunt.getMessageText(),
+            taunt.getCategory().name(),
+            taunt.getRarity().name(),
+            taunt.getPackName(),
+            taunt.getTotalUsage()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.betmate.dto.user.response;
+
+/**
+ * Response DTO for a "people you may know" suggestion.
+ */
+public record FriendSuggestionResponseDto(
+    UserSearchResultResponseDto user,
+    int mutualFriendsCount,
+    double score
+) {}
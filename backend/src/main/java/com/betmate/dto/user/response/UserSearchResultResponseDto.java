@@ -1,6 +1,8 @@
 package com.betmate.dto.user.response;
 
+import com.betmate.entity.user.Friendship.FriendshipStatus;
 import com.betmate.entity.user.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 /**
  * Response DTO for user search results.
@@ -12,6 +14,10 @@ public class UserSearchResultResponseDto {
     private String displayName;
     private boolean isActive;
 
+    // Relationship to the searching user; only present on search results
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String friendshipStatus;
+
     public static UserSearchResultResponseDto fromUser(User user) {
         UserSearchResultResponseDto result = new UserSearchResultResponseDto();
         result.id = user.getId();
@@ -21,9 +27,16 @@ public class UserSearchResultResponseDto {
         return result;
     }
 
+    public static UserSearchResultResponseDto fromUser(User user, FriendshipStatus friendshipStatus) {
+        UserSearchResultResponseDto result = fromUser(user);
+        result.friendshipStatus = friendshipStatus != null ? friendshipStatus.name() : "NONE";
+        return result;
+    }
+
     // Getters
     public Long getId() { return id; }
     public String getUsername() { return username; }
     public String getDisplayName() { return displayName; }
     public boolean isActive() { return isActive; }
+    public String getFriendshipStatus() { return friendshipStatus; }
 }
\ No newline at end of file
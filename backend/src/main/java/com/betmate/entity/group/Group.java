@@ -20,7 +20,8 @@ import com.betmate.entity.messaging.Message;
     @Index(name = "idx_group_creator", columnList = "creator_id"),
     @Index(name = "idx_group_privacy", columnList = "privacy"),
     @Index(name = "idx_group_active", columnList = "isActive"),
-    @Index(name = "idx_group_deleted_at", columnList = "deletedAt")
+    @Index(name = "idx_group_deleted_at", columnList = "deletedAt"),
+    @Index(name = "idx_group_discovery", columnList = "privacy, isActive, deletedAt")
 })
 public class Group {
     
@@ -0,0 +1,182 @@
+package com.betmate.entity.group;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.betmate.entity.user.User;
+
+/**
+ * GroupLeaderboardEntry entity holding a member's settled betting record within one group.
+ *
+ * One row exists per (group, user) and is updated incrementally as bets settle, so group
+ * rankings never need to aggregate bet_participations on read. The current streak is signed:
+ * positive for consecutive wins, negative for consecutive losses.
+ */
+@Entity
+@Table(name = "group_leaderboard",
+    uniqueConstraints = @UniqueConstraint(name = "uk_leaderboard_group_user", columnNames = {"group_id", "user_id"}),
+    indexes = {
+        @Index(name = "idx_leaderboard_group_net", columnList = "group_id, netWinnings")
+    }
+)
+public class GroupLeaderboardEntry {
+
+    // ==========================================
+    // IDENTITY
+    // ==========================================
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // ==========================================
+    // RELATIONSHIPS
+    // ==========================================
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id")
+    private Group group;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    // ==========================================
+    // STANDINGS
+    // ==========================================
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal netWinnings = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private Integer wins = 0;
+
+    @Column(nullable = false)
+    private Integer losses = 0;
+
+    @Column(nullable = false)
+    private Integer currentStreak = 0;
+
+    @Column(nullable = false)
+    private Integer longestWinStreak = 0;
+
+    private LocalDateTime lastSettledAt;
+
+    // ==========================================
+    // SYSTEM FIELDS
+    // ==========================================
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // ==========================================
+    // LIFECYCLE CALLBACKS
+    // ==========================================
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // ==========================================
+    // GETTERS AND SETTERS
+    // ==========================================
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    public void setGroup(Group group) {
+        this.group = group;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public BigDecimal getNetWinnings() {
+        return netWinnings;
+    }
+
+    public void setNetWinnings(BigDecimal netWinnings) {
+        this.netWinnings = netWinnings;
+    }
+
+    public Integer getWins() {
+        return wins;
+    }
+
+    public void setWins(Integer wins) {
+        this.wins = wins;
+    }
+
+    public Integer getLosses() {
+        return losses;
+    }
+
+    public void setLosses(Integer losses) {
+        this.losses = losses;
+    }
+
+    public Integer getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public void setCurrentStreak(Integer currentStreak) {
+        this.currentStreak = currentStreak;
+    }
+
+    public Integer getLongestWinStreak() {
+        return longestWinStreak;
+    }
+
+    public void setLongestWinStreak(Integer longestWinStreak) {
+        this.longestWinStreak = longestWinStreak;
+    }
+
+    public LocalDateTime getLastSettledAt() {
+        return lastSettledAt;
+    }
+
+    public void setLastSettledAt(LocalDateTime lastSettledAt) {
+        this.lastSettledAt = lastSettledAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
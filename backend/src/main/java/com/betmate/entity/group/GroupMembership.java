@@ -19,7 +19,8 @@ import com.betmate.entity.user.User;
         @Index(name = "idx_membership_status", columnList = "status"),
         @Index(name = "idx_membership_role", columnList = "role"),
         @Index(name = "idx_membership_active", columnList = "isActive"),
-        @Index(name = "idx_membership_composite", columnList = "user_id, group_id, status")
+        @Index(name = "idx_membership_composite", columnList = "user_id, group_id, status"),
+        @Index(name = "idx_membership_group_joined", columnList = "group_id, isActive, joinedAt")
     }
 )
 public class GroupMembership {
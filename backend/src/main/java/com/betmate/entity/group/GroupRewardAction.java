@@ -21,6 +21,8 @@ import com.betmate.entity.user.User;
     @Index(name = "idx_reward_target", columnList = "targetEntityType, targetEntityId"),
     @Index(name = "idx_reward_active", columnList = "isActive"),
     @Index(name = "idx_reward_status", columnList = "status"),
+    @Index(name = "idx_reward_ready", columnList = "status, scheduledFor"),
+    @Index(name = "idx_reward_claim", columnList = "claimToken"),
     @Index(name = "idx_reward_created", columnList = "createdAt")
 })
 public class GroupRewardAction {
@@ -95,6 +97,10 @@ public class GroupRewardAction {
     @Column(length = 1000)
     private String executionResult;
 
+    // Set when an executor claims the action, so it can load exactly the rows it won
+    @Column(length = 36)
+    private String claimToken;
+
     @Column(nullable = false)
     private Boolean isActive = true;
 
@@ -254,6 +260,14 @@ public class GroupRewardAction {
         this.executionResult = executionResult;
     }
 
+    public String getClaimToken() {
+        return claimToken;
+    }
+    
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+
     public Boolean getIsActive() {
         return isActive;
     }
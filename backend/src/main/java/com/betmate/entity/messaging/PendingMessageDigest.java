@@ -0,0 +1,181 @@
+package com.betmate.entity.messaging;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+import com.betmate.entity.user.User;
+import com.betmate.entity.group.Group;
+
+/**
+ * PendingMessageDigest entity collecting group messages missed by an offline member.
+ *
+ * One row exists per (user, group) while the user is offline. Each new message
+ * increments the counter instead of creating a notification, and the row is turned
+ * into a single digest notification when the user reconnects.
+ */
+@Entity
+@Table(name = "pending_message_digests",
+    uniqueConstraints = @UniqueConstraint(name = "uk_digest_user_group", columnNames = {"user_id", "group_id"}),
+    indexes = {
+        @Index(name = "idx_digest_user", columnList = "user_id"),
+        @Index(name = "idx_digest_last_message", columnList = "lastMessageAt")
+    }
+)
+public class PendingMessageDigest {
+
+    // ==========================================
+    // IDENTITY
+    // ==========================================
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // ==========================================
+    // RELATIONSHIPS
+    // ==========================================
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id")
+    private Group group;
+
+    // ==========================================
+    // DIGEST CONTENT
+    // ==========================================
+
+    @Column(nullable = false)
+    private Integer messageCount = 0;
+
+    private Long lastMessageId;
+
+    @Column(length = 50)
+    private String lastSenderName;
+
+    @Column(nullable = false)
+    private LocalDateTime firstMessageAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastMessageAt;
+
+    // ==========================================
+    // SYSTEM FIELDS
+    // ==========================================
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // ==========================================
+    // LIFECYCLE CALLBACKS
+    // ==========================================
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // ==========================================
+    // GETTERS AND SETTERS
+    // ==========================================
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    public void setGroup(Group group) {
+        this.group = group;
+    }
+
+    public Integer getMessageCount() {
+        return messageCount;
+    }
+
+    public void setMessageCount(Integer messageCount) {
+        this.messageCount = messageCount;
+    }
+
+    public Long getLastMessageId() {
+        return lastMessageId;
+    }
+
+    public void setLastMessageId(Long lastMessageId) {
+        this.lastMessageId = lastMessageId;
+    }
+
+    public String getLastSenderName() {
+        return lastSenderName;
+    }
+
+    public void setLastSenderName(String lastSenderName) {
+        this.lastSenderName = lastSenderName;
+    }
+
+    public LocalDateTime getFirstMessageAt() {
+        return firstMessageAt;
+    }
+
+    public void setFirstMessageAt(LocalDateTime firstMessageAt) {
+        this.firstMessageAt = firstMessageAt;
+    }
+
+    public LocalDateTime getLastMessageAt() {
+        return lastMessageAt;
+    }
+
+    public void setLastMessageAt(LocalDateTime lastMessageAt) {
+        this.lastMessageAt = lastMessageAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // ==========================================
+    // UTILITY METHODS
+    // ==========================================
+
+    /**
+     * Builds the human readable digest line, e.g. "12 new messages in Friday Poker".
+     *
+     * @return digest summary text
+     */
+    public String toSummary() {
+        String groupName = group != null ? group.getGroupName() : "your group";
+        if (messageCount == 1 && lastSenderName != null) {
+            return "1 new message from " + lastSenderName + " in " + groupName;
+        }
+        return messageCount + " new messages in " + groupName;
+    }
+}
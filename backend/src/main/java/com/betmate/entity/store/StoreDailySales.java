@@ -0,0 +1,110 @@
+package com.betmate.entity.store;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * StoreDailySales entity: purchases and revenue for one store item on one day.
+ *
+ * Incremented by each purchase; removals do not subtract, since a refunded or transferred
+ * item was still sold that day.
+ */
+@Entity
+@Table(name = "store_daily_sales",
+    indexes = {
+        @Index(name = "idx_daily_sales_item", columnList = "store_item_id")
+    }
+)
+@IdClass(StoreDailySales.Key.class)
+public class StoreDailySales {
+
+    // ==========================================
+    // IDENTITY
+    // ==========================================
+
+    @Id
+    @Column(name = "sale_date")
+    private LocalDate saleDate;
+
+    @Id
+    @Column(name = "store_item_id")
+    private Long storeItemId;
+
+    // ==========================================
+    // TOTALS
+    // ==========================================
+
+    @Column(nullable = false)
+    private Long purchases = 0L;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    // ==========================================
+    // GETTERS AND SETTERS
+    // ==========================================
+
+    public LocalDate getSaleDate() {
+        return saleDate;
+    }
+
+    public void setSaleDate(LocalDate saleDate) {
+        this.saleDate = saleDate;
+    }
+
+    public Long getStoreItemId() {
+        return storeItemId;
+    }
+
+    public void setStoreItemId(Long storeItemId) {
+        this.storeItemId = storeItemId;
+    }
+
+    public Long getPurchases() {
+        return purchases;
+    }
+
+    public void setPurchases(Long purchases) {
+        this.purchases = purchases;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    // ==========================================
+    // COMPOSITE KEY
+    // ==========================================
+
+    public static class Key implements Serializable {
+        private LocalDate saleDate;
+        private Long storeItemId;
+
+        public Key() {}
+
+        public Key(LocalDate saleDate, Long storeItemId) {
+            this.saleDate = saleDate;
+            this.storeItemId = storeItemId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return Objects.equals(saleDate, other.saleDate) && Objects.equals(storeItemId, other.storeItemId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(saleDate, storeItemId);
+        }
+    }
+}
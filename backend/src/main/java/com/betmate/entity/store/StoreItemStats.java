@@ -0,0 +1,100 @@
+package com.betmate.entity.store;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * StoreItemStats entity: running ownership and revenue totals for one store item.
+ *
+ * Purchases and removals adjust the row with atomic increments in the same transaction, so
+ * store analytics read one row per item instead of aggregating user_inventory. A nightly
+ * reconciliation rebuilds the totals from user_inventory to repair any drift.
+ */
+@Entity
+@Table(name = "store_item_stats")
+public class StoreItemStats {
+
+    // ==========================================
+    // IDENTITY
+    // ==========================================
+
+    @Id
+    @Column(name = "store_item_id")
+    private Long storeItemId;
+
+    // ==========================================
+    // RELATIONSHIPS
+    // ==========================================
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_item_id", insertable = false, updatable = false)
+    private StoreItem storeItem;
+
+    // ==========================================
+    // TOTALS
+    // ==========================================
+
+    // Active inventory rows holding this item
+    @Column(nullable = false)
+    private Long ownerCount = 0L;
+
+    // Purchase price of the active rows, matching the former SUM over active inventory
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    // Every inventory row ever created for this item, removed ones included
+    @Column(nullable = false)
+    private Long purchaseCount = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // ==========================================
+    // GETTERS AND SETTERS
+    // ==========================================
+
+    public Long getStoreItemId() {
+        return storeItemId;
+    }
+
+    public void setStoreItemId(Long storeItemId) {
+        this.storeItemId = storeItemId;
+    }
+
+    public StoreItem getStoreItem() {
+        return storeItem;
+    }
+
+    public Long getOwnerCount() {
+        return ownerCount;
+    }
+
+    public void setOwnerCount(Long ownerCount) {
+        this.ownerCount = ownerCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public Long getPurchaseCount() {
+        return purchaseCount;
+    }
+
+    public void setPurchaseCount(Long purchaseCount) {
+        this.purchaseCount = purchaseCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
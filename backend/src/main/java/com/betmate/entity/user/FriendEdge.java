@@ -0,0 +1,138 @@
+package com.betmate.entity.user;
+
+import com.betmate.entity.user.Friendship.FriendshipStatus;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * FriendEdge entity: a directed copy of a friendship, one row per direction.
+ *
+ * Friendship keeps a single requester/accepter row per pair, which forces OR predicates on
+ * every lookup. Edges are written alongside it so "is X a friend of Y" is a primary key
+ * lookup and "friends of X" is a range scan on the user_id prefix.
+ */
+@Entity
+@Table(name = "friend_edges",
+    indexes = {
+        @Index(name = "idx_friend_edge_user_status", columnList = "user_id, status")
+    }
+)
+@IdClass(FriendEdge.Key.class)
+public class FriendEdge {
+
+    // ==========================================
+    // IDENTITY
+    // ==========================================
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "friend_id")
+    private Long friendId;
+
+    // ==========================================
+    // RELATIONSHIPS
+    // ==========================================
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "friend_id", insertable = false, updatable = false)
+    private User friend;
+
+    // ==========================================
+    // EDGE STATE
+    // ==========================================
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FriendshipStatus status;
+
+    // When the edge entered its current status
+    @Column(nullable = false)
+    private LocalDateTime since;
+
+    // ==========================================
+    // CONSTRUCTORS
+    // ==========================================
+
+    public FriendEdge() {}
+
+    public FriendEdge(Long userId, Long friendId, FriendshipStatus status, LocalDateTime since) {
+        this.userId = userId;
+        this.friendId = friendId;
+        this.status = status;
+        this.since = since;
+    }
+
+    // ==========================================
+    // GETTERS AND SETTERS
+    // ==========================================
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getFriendId() {
+        return friendId;
+    }
+
+    public void setFriendId(Long friendId) {
+        this.friendId = friendId;
+    }
+
+    public User getFriend() {
+        return friend;
+    }
+
+    public FriendshipStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(FriendshipStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getSince() {
+        return since;
+    }
+
+    public void setSince(LocalDateTime since) {
+        this.since = since;
+    }
+
+    // ==========================================
+    // COMPOSITE KEY
+    // ==========================================
+
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long friendId;
+
+        public Key() {}
+
+        public Key(Long userId, Long friendId) {
+            this.userId = userId;
+            this.friendId = friendId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return Objects.equals(userId, other.userId) && Objects.equals(friendId, other.friendId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, friendId);
+        }
+    }
+}
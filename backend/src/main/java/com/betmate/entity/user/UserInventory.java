@@ -18,9 +18,12 @@ import com.betmate.entity.store.StoreItem;
     @Index(name = "idx_inventory_user", columnList = "user_id"),
     @Index(name = "idx_inventory_item", columnList = "store_item_id"),
     @Index(name = "idx_inventory_user_item", columnList = "user_id, store_item_id"),
+    @Index(name = "idx_inventory_user_type", columnList = "user_id, itemType"),
     @Index(name = "idx_inventory_active", columnList = "isActive"),
     @Index(name = "idx_inventory_equipped", columnList = "isEquipped"),
     @Index(name = "idx_inventory_purchased", columnList = "purchasedAt")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_inventory_user_item_active", columnNames = {"user_id", "store_item_id", "activeKey"})
 })
 public class UserInventory {
     
@@ -44,6 +47,11 @@ public class UserInventory {
     @JoinColumn(name = "store_item_id")
     private StoreItem storeItem;
 
+    // Copied from the store item, which never changes type, so equip swaps can target a slot in one UPDATE
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private StoreItem.ItemType itemType;
+
     // ==========================================
     // OWNERSHIP DETAILS
     // ==========================================
@@ -58,6 +66,11 @@ public class UserInventory {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    // Generated: 1 while active, NULL once removed. Backs the unique key so a user can hold
+    // at most one active copy of an item, while any number of removed rows may remain.
+    @Column(insertable = false, updatable = false, columnDefinition = "TINYINT AS (IF(is_active, 1, NULL)) STORED")
+    private Integer activeKey;
+
     // ==========================================
     // ITEM USAGE
     // ==========================================
@@ -127,6 +140,7 @@ public class UserInventory {
     
     public void setStoreItem(StoreItem storeItem) {
         this.storeItem = storeItem;
+        this.itemType = storeItem != null ? storeItem.getItemType() : null;
     }
 
     // Ownership Details
@@ -311,6 +325,9 @@ public class UserInventory {
      * @return item type or null if store item is null
      */
     public StoreItem.ItemType getItemType() {
+        if (itemType != null) {
+            return itemType;
+        }
         return storeItem != null ? storeItem.getItemType() : null;
     }
 
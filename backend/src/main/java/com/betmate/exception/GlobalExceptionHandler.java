@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.FieldError;
@@ -32,6 +33,13 @@ public class GlobalExceptionHandler {
         return ApiResponse.error(error, message, status.value(), path);
     }
 
+    /**
+     * Helper method to create an ErrorResponse that is also sent with the matching HTTP status.
+     */
+    private ResponseEntity<ApiResponse<Void>> createErrorEntity(HttpStatus status, String error, String message, String path) {
+        return ResponseEntity.status(status).body(createErrorResponse(status, error, message, path));
+    }
+
     /**
      * Handles authentication-related exceptions.
      */
@@ -159,6 +167,36 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.BAD_REQUEST, "Bet Participation Error", ex.getMessage(), request.getRequestURI());
     }
 
+    /**
+     * Handles invalid Idempotency-Key headers.
+     */
+    @ExceptionHandler(IdempotencyException.InvalidKeyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidIdempotencyKey(
+            IdempotencyException.InvalidKeyException ex, HttpServletRequest request) {
+        log.warn("Invalid idempotency key for request {}: {}", request.getRequestURI(), ex.getMessage());
+        return createErrorEntity(HttpStatus.BAD_REQUEST, "Invalid Idempotency Key", ex.getMessage(), request.getRequestURI());
+    }
+
+    /**
+     * Handles retries that arrive while the original request is still running.
+     */
+    @ExceptionHandler(IdempotencyException.RequestInProgressException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotentRequestInProgress(
+            IdempotencyException.RequestInProgressException ex, HttpServletRequest request) {
+        log.info("Idempotent request still in progress for {}: {}", request.getRequestURI(), ex.getMessage());
+        return createErrorEntity(HttpStatus.CONFLICT, "Request In Progress", ex.getMessage(), request.getRequestURI());
+    }
+
+    /**
+     * Handles idempotency keys reused for a different request.
+     */
+    @ExceptionHandler(IdempotencyException.KeyReuseException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyReuse(
+            IdempotencyException.KeyReuseException ex, HttpServletRequest request) {
+        log.warn("Idempotency key reused for request {}: {}", request.getRequestURI(), ex.getMessage());
+        return createErrorEntity(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency Key Reused", ex.getMessage(), request.getRequestURI());
+    }
+
     /**
      * Handles all other unexpected exceptions.
      */
@@ -0,0 +1,37 @@
+package com.betmate.exception;
+
+/**
+ * Base exception for requests carrying an Idempotency-Key header.
+ */
+public class IdempotencyException extends RuntimeException {
+    public IdempotencyException(String message) {
+        super(message);
+    }
+
+    /**
+     * Exception thrown when the Idempotency-Key header is blank or too long.
+     */
+    public static class InvalidKeyException extends IdempotencyException {
+        public InvalidKeyException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Exception thrown when a request with the same key is still being processed.
+     */
+    public static class RequestInProgressException extends IdempotencyException {
+        public RequestInProgressException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Exception thrown when a key is reused with a different request body.
+     */
+    public static class KeyReuseException extends IdempotencyException {
+        public KeyReuseException(String message) {
+            super(message);
+        }
+    }
+}
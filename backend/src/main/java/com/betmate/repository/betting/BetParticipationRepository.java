@@ -3,8 +3,11 @@ package com.betmate.repository.betting;
 import com.betmate.entity.betting.Bet;
 import com.betmate.entity.betting.BetParticipation;
 import com.betmate.entity.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +15,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BetParticipationRepository extends JpaRepository<BetParticipation, Long> {
@@ -105,4 +109,15 @@ public interface BetParticipationRepository extends JpaRepository<BetParticipati
     
     @Query("SELECT HOUR(bp.createdAt), COUNT(bp) FROM BetParticipation bp WHERE bp.user = :user GROUP BY HOUR(bp.createdAt)")
     List<Object[]> getUserBettingTimePattern(@Param("user") User user);
-}
\ No newline at end of file
+
+    // Leaderboard history: settled, staked participations in (group, user, settlement) order.
+    // Row layout: groupId, userId, status, betAmount, actualWinnings, potentialWinnings, settledAt.
+    // The MIN_VALUE fetch size makes the MySQL driver stream rows instead of buffering the result.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT b.group.id, u.id, bp.status, bp.betAmount, bp.actualWinnings, bp.potentialWinnings, " +
+           "COALESCE(bp.settledAt, b.resolvedAt) " +
+           "FROM BetParticipation bp JOIN bp.bet b JOIN bp.user u " +
+           "WHERE bp.status IN ('WON', 'LOST') AND bp.betAmount > 0 " +
+           "ORDER BY b.group.id, u.id, COALESCE(bp.settledAt, b.resolvedAt), bp.id")
+    Stream<Object[]> streamSettledHistory();
+}
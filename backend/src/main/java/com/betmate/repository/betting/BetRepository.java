@@ -1,8 +1,10 @@
 package com.betmate.repository.betting;
 
+import com.betmate.dto.betting.response.BetPreviewDto;
 import com.betmate.entity.betting.Bet;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -99,4 +101,11 @@ public interface BetRepository extends JpaRepository<Bet, Long> {
     @Modifying
     @Query("UPDATE Bet b SET b.status = 'CANCELLED' WHERE b.id = :betId AND b.status != 'RESOLVED'")
     int cancelBetAtomically(@Param("betId") Long betId);
-}
\ No newline at end of file
+    
+    // Newest bets of a group projected for dashboards
+    @Query("SELECT new com.betmate.dto.betting.response.BetPreviewDto(" +
+           "b.id, b.title, b.betType, b.status, c.username, b.bettingDeadline, b.totalPool, b.totalParticipants, b.createdAt) " +
+           "FROM Bet b JOIN b.creator c WHERE b.group.id = :groupId AND b.deletedAt IS NULL " +
+           "ORDER BY b.createdAt DESC")
+    List<BetPreviewDto> findBetPreviews(@Param("groupId") Long groupId, Pageable pageable);
+}
@@ -0,0 +1,47 @@
+package com.betmate.repository.group;
+
+import com.betmate.dto.group.response.LeaderboardEntryDto;
+import com.betmate.entity.group.GroupLeaderboardEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface GroupLeaderboardRepository extends JpaRepository<GroupLeaderboardEntry, Long> {
+
+    /**
+     * Folds one settled participation into the member's standing in a single statement.
+     * Pass won = 1 for a win and 0 for a loss. MySQL applies the assignments left to right,
+     * so longest_win_streak sees the already updated current_streak.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO group_leaderboard " +
+           "(group_id, user_id, net_winnings, wins, losses, current_streak, longest_win_streak, last_settled_at, created_at, updated_at) " +
+           "VALUES (:groupId, :userId, :net, :won, 1 - :won, IF(:won = 1, 1, -1), :won, :settledAt, :settledAt, :settledAt) " +
+           "ON DUPLICATE KEY UPDATE net_winnings = net_winnings + VALUES(net_winnings), " +
+           "wins = wins + VALUES(wins), losses = losses + VALUES(losses), " +
+           "current_streak = IF(VALUES(wins) = 1, IF(current_streak > 0, current_streak + 1, 1), IF(current_streak < 0, current_streak - 1, -1)), " +
+           "longest_win_streak = GREATEST(longest_win_streak, current_streak), " +
+           "last_settled_at = VALUES(last_settled_at), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int recordResult(@Param("groupId") Long groupId,
+                     @Param("userId") Long userId,
+                     @Param("net") BigDecimal net,
+                     @Param("won") int won,
+                     @Param("settledAt") LocalDateTime settledAt);
+
+    @Query("SELECT new com.betmate.dto.group.response.LeaderboardEntryDto(" +
+           "u.id, u.username, e.netWinnings, e.wins, e.losses, e.currentStreak, e.longestWinStreak) " +
+           "FROM GroupLeaderboardEntry e JOIN e.user u WHERE e.group.id = :groupId")
+    List<LeaderboardEntryDto> findStandingsByGroupId(@Param("groupId") Long groupId);
+
+    @Modifying
+    @Query("DELETE FROM GroupLeaderboardEntry e")
+    int deleteAllEntries();
+}
@@ -1,8 +1,11 @@
 package com.betmate.repository.group;
 
+import com.betmate.dto.group.response.MemberPreviewDto;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.group.GroupMembership;
 import com.betmate.entity.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -69,6 +72,9 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
     @Query("SELECT gm.user FROM GroupMembership gm WHERE gm.group = :group AND gm.isActive = true")
     List<User> findUsersByGroup(@Param("group") Group group);
     
+    @Query("SELECT gm.user.id FROM GroupMembership gm WHERE gm.group.id = :groupId AND gm.isActive = true")
+    List<Long> findActiveMemberIdsByGroupId(@Param("groupId") Long groupId);
+    
     // Permission checks
     @Query("SELECT CASE WHEN COUNT(gm) > 0 THEN true ELSE false END FROM GroupMembership gm " +
            "WHERE gm.user = :user AND gm.group = :group AND gm.role IN ('ADMIN', 'OFFICER') AND gm.isActive = true")
@@ -106,4 +112,50 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
            "AND (gm.role != 'ADMIN' OR " +
            "(SELECT COUNT(gm2) FROM GroupMembership gm2 WHERE gm2.group = :group AND gm2.role = 'ADMIN' AND gm2.isActive = true) > 1)")
     int atomicRemoveMember(@Param("user") User user, @Param("group") Group group, @Param("leftAt") LocalDateTime leftAt);
-}
\ No newline at end of file
+    
+    // Member previews projected straight from the join, oldest members first.
+    // The equipped avatar skin is left joined on the FK so members without one still appear.
+    @Query("SELECT new com.betmate.dto.group.response.MemberPreviewDto(" +
+           "u.id, u.username, u.firstName, u.lastName, gm.role, gm.joinedAt, gm.lastActivityAt, " +
+           "si.id, si.name, si.iconUrl) " +
+           "FROM GroupMembership gm JOIN gm.user u " +
+           "LEFT JOIN UserInventory ui ON ui.user = u AND ui.isEquipped = true AND ui.isActive = true " +
+           "AND ui.storeItem.id IN (SELECT s.id FROM StoreItem s WHERE s.itemType = 'AVATAR_SKIN') " +
+           "LEFT JOIN ui.storeItem si " +
+           "WHERE gm.group.id = :groupId AND gm.isActive = true " +
+           "ORDER BY gm.joinedAt ASC, gm.id ASC")
+    List<MemberPreviewDto> findMemberPreviews(@Param("groupId") Long groupId, Pageable pageable);
+
+    // Same projection as findMemberPreviews, ordered by the caller's Pageable sort
+    @Query(value = "SELECT new com.betmate.dto.group.response.MemberPreviewDto(" +
+           "u.id, u.username, u.firstName, u.lastName, gm.role, gm.joinedAt, gm.lastActivityAt, " +
+           "si.id, si.name, si.iconUrl) " +
+           "FROM GroupMembership gm JOIN gm.user u " +
+           "LEFT JOIN UserInventory ui ON ui.user = u AND ui.isEquipped = true AND ui.isActive = true " +
+           "AND ui.storeItem.id IN (SELECT s.id FROM StoreItem s WHERE s.itemType = 'AVATAR_SKIN') " +
+           "LEFT JOIN ui.storeItem si " +
+           "WHERE gm.group.id = :groupId AND gm.isActive = true",
+           countQuery = "SELECT COUNT(gm) FROM GroupMembership gm WHERE gm.group.id = :groupId AND gm.isActive = true")
+    Page<MemberPreviewDto> findMemberPage(@Param("groupId") Long groupId, Pageable pageable);
+
+    // Same projection as findMemberPreviews: admins, then officers, then members, oldest first within a role.
+    // Role rank is not a mapped property, so the ordering lives here rather than in the caller's sort.
+    @Query(value = "SELECT new com.betmate.dto.group.response.MemberPreviewDto(" +
+           "u.id, u.username, u.firstName, u.lastName, gm.role, gm.joinedAt, gm.lastActivityAt, " +
+           "si.id, si.name, si.iconUrl) " +
+           "FROM GroupMembership gm JOIN gm.user u " +
+           "LEFT JOIN UserInventory ui ON ui.user = u AND ui.isEquipped = true AND ui.isActive = true " +
+           "AND ui.storeItem.id IN (SELECT s.id FROM StoreItem s WHERE s.itemType = 'AVATAR_SKIN') " +
+           "LEFT JOIN ui.storeItem si " +
+           "WHERE gm.group.id = :groupId AND gm.isActive = true " +
+           "ORDER BY CASE gm.role WHEN 'ADMIN' THEN 0 WHEN 'OFFICER' THEN 1 ELSE 2 END, gm.joinedAt ASC, gm.id ASC",
+           countQuery = "SELECT COUNT(gm) FROM GroupMembership gm WHERE gm.group.id = :groupId AND gm.isActive = true")
+    Page<MemberPreviewDto> findMemberPageByRole(@Param("groupId") Long groupId, Pageable pageable);
+
+    // Users sharing active groups with a user, most shared groups first: [userId, sharedGroupCount]
+    @Query("SELECT other.user.id, COUNT(other) FROM GroupMembership mine " +
+           "JOIN GroupMembership other ON other.group = mine.group " +
+           "WHERE mine.user.id = :userId AND mine.isActive = true AND other.isActive = true AND other.user.id <> :userId " +
+           "GROUP BY other.user.id ORDER BY COUNT(other) DESC")
+    List<Object[]> findCoMemberCounts(@Param("userId") Long userId, Pageable pageable);
+}
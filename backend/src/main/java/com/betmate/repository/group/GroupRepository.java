@@ -1,7 +1,10 @@
 package com.betmate.repository.group;
 
+import com.betmate.dto.group.response.GroupSummaryResponseDto;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -47,6 +50,18 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     @Query("SELECT g FROM Group g WHERE g.privacy = 'PUBLIC' AND g.isActive = true AND g.deletedAt IS NULL")
     List<Group> findPublicGroups();
     
+    // Paged discovery: public groups the user has not joined, projected straight to summaries
+    @Query(value = "SELECT new com.betmate.dto.group.response.GroupSummaryResponseDto(" +
+           "g.id, g.groupName, g.description, g.groupPictureUrl, g.privacy, c.username, g.memberCount, " +
+           "g.maxMembers, g.isActive, g.autoApproveMembers, g.totalMessages, g.lastMessageAt, g.createdAt) " +
+           "FROM Group g JOIN g.creator c " +
+           "WHERE g.privacy = 'PUBLIC' AND g.isActive = true AND g.deletedAt IS NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM GroupMembership gm WHERE gm.group = g AND gm.user.id = :userId AND gm.isActive = true)",
+           countQuery = "SELECT COUNT(g) FROM Group g " +
+           "WHERE g.privacy = 'PUBLIC' AND g.isActive = true AND g.deletedAt IS NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM GroupMembership gm WHERE gm.group = g AND gm.user.id = :userId AND gm.isActive = true)")
+    Page<GroupSummaryResponseDto> findDiscoverableGroups(@Param("userId") Long userId, Pageable pageable);
+    
     // Most active groups
     @Query("SELECT g FROM Group g WHERE g.deletedAt IS NULL AND g.isActive = true ORDER BY g.totalMessages DESC")
     List<Group> findMostActiveGroups();
@@ -66,4 +81,21 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     @Modifying
     @Query("UPDATE Group g SET g.memberCount = :memberCount WHERE g.id = :groupId AND g.deletedAt IS NULL")
     int updateMemberCount(@Param("groupId") Long groupId, @Param("memberCount") Integer memberCount);
+    
+    // Reserves a slot; matches no row when the group is full, inactive or deleted
+    @Modifying
+    @Query("UPDATE Group g SET g.memberCount = g.memberCount + 1 WHERE g.id = :groupId AND g.deletedAt IS NULL " +
+           "AND g.isActive = true AND (g.maxMembers IS NULL OR g.memberCount < g.maxMembers)")
+    int incrementMemberCount(@Param("groupId") Long groupId);
+    
+    @Modifying
+    @Query("UPDATE Group g SET g.memberCount = g.memberCount - 1 WHERE g.id = :groupId AND g.memberCount > 0")
+    int decrementMemberCount(@Param("groupId") Long groupId);
+    
+    // Repairs drift between memberCount and the active memberships
+    @Modifying
+    @Query("UPDATE Group g SET g.memberCount = " +
+           "(SELECT COUNT(gm) FROM GroupMembership gm WHERE gm.group = g AND gm.isActive = true) " +
+           "WHERE g.memberCount <> (SELECT COUNT(gm2) FROM GroupMembership gm2 WHERE gm2.group = g AND gm2.isActive = true)")
+    int reconcileMemberCounts();
 }
\ No newline at end of file
@@ -3,12 +3,16 @@ package com.betmate.repository.group;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.group.GroupRewardAction;
 import com.betmate.entity.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -37,6 +41,83 @@ public interface GroupRewardActionRepository extends JpaRepository<GroupRewardAc
     @Query("SELECT gra FROM GroupRewardAction gra WHERE gra.expiresAt IS NOT NULL AND gra.expiresAt <= :currentTime AND gra.status = 'PENDING'")
     List<GroupRewardAction> findExpiredActions(@Param("currentTime") LocalDateTime currentTime);
     
+    // Executor pipeline
+    @Query("SELECT gra.id FROM GroupRewardAction gra WHERE gra.status = 'PENDING' AND gra.isActive = true AND " +
+           "gra.actionType IN :actionTypes AND " +
+           "(gra.scheduledFor IS NULL OR gra.scheduledFor <= :currentTime) AND " +
+           "(gra.expiresAt IS NULL OR gra.expiresAt > :currentTime) " +
+           "ORDER BY gra.scheduledFor ASC, gra.id ASC")
+    List<Long> findReadyActionIds(@Param("actionTypes") Collection<GroupRewardAction.ActionType> actionTypes,
+                                  @Param("currentTime") LocalDateTime currentTime,
+                                  Pageable pageable);
+
+    @Query("SELECT COUNT(gra) FROM GroupRewardAction gra WHERE gra.status = 'PENDING' AND gra.isActive = true AND " +
+           "(gra.scheduledFor IS NULL OR gra.scheduledFor <= :currentTime) AND " +
+           "(gra.expiresAt IS NULL OR gra.expiresAt > :currentTime)")
+    long countReadyActions(@Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Moves still-pending actions to EXECUTING under the given claim token. Rows another
+     * executor claimed first are skipped, so each action is claimed exactly once.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupRewardAction gra SET gra.status = 'EXECUTING', gra.claimToken = :claimToken, " +
+           "gra.updatedAt = :currentTime WHERE gra.id IN :actionIds AND gra.status = 'PENDING'")
+    int claimActions(@Param("actionIds") Collection<Long> actionIds,
+                     @Param("claimToken") String claimToken,
+                     @Param("currentTime") LocalDateTime currentTime);
+
+    List<GroupRewardAction> findByClaimTokenAndStatus(String claimToken, GroupRewardAction.ActionStatus status);
+
+    /**
+     * Finishes an action, but only while it is still held under the claim token it was executed
+     * with. If the claim went stale and the action was released and claimed again, no row matches.
+     */
+    @Modifying
+    @Query("UPDATE GroupRewardAction gra SET gra.status = 'EXECUTED', gra.executedAt = :currentTime, " +
+           "gra.executionResult = :result, gra.updatedAt = :currentTime " +
+           "WHERE gra.id = :actionId AND gra.status = 'EXECUTING' AND gra.claimToken = :claimToken")
+    int completeAction(@Param("actionId") Long actionId,
+                       @Param("claimToken") String claimToken,
+                       @Param("result") String result,
+                       @Param("currentTime") LocalDateTime currentTime);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupRewardAction gra SET gra.status = 'FAILED', gra.executionResult = :result, " +
+           "gra.updatedAt = :currentTime WHERE gra.id = :actionId AND gra.status = 'EXECUTING' AND " +
+           "gra.claimToken = :claimToken")
+    int failAction(@Param("actionId") Long actionId,
+                   @Param("claimToken") String claimToken,
+                   @Param("result") String result,
+                   @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * Returns claimed actions to PENDING, either because they could not be handed to a worker
+     * or because their executor stopped before finishing them.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupRewardAction gra SET gra.status = 'PENDING', gra.claimToken = NULL, " +
+           "gra.updatedAt = :currentTime WHERE gra.id IN :actionIds AND gra.status = 'EXECUTING'")
+    int releaseActions(@Param("actionIds") Collection<Long> actionIds,
+                       @Param("currentTime") LocalDateTime currentTime);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupRewardAction gra SET gra.status = 'PENDING', gra.claimToken = NULL, " +
+           "gra.updatedAt = :currentTime WHERE gra.status = 'EXECUTING' AND gra.updatedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore,
+                           @Param("currentTime") LocalDateTime currentTime);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE GroupRewardAction gra SET gra.status = 'EXPIRED', gra.isActive = false, " +
+           "gra.updatedAt = :currentTime WHERE gra.status IN ('PENDING', 'SCHEDULED') AND " +
+           "gra.expiresAt IS NOT NULL AND gra.expiresAt <= :currentTime")
+    int expireOverdueActions(@Param("currentTime") LocalDateTime currentTime);
+    
     // Target-based queries
     List<GroupRewardAction> findByTargetEntityTypeAndTargetEntityId(String entityType, Long entityId);
     List<GroupRewardAction> findByGroupAndTargetEntityTypeAndTargetEntityId(Group group, String entityType, Long entityId);
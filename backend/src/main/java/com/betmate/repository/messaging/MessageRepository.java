@@ -1,5 +1,6 @@
 package com.betmate.repository.messaging;
 
+import com.betmate.dto.messaging.response.MessagePreviewDto;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.messaging.Message;
 import com.betmate.entity.user.User;
@@ -104,4 +105,11 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     
     @Query("SELECT DATE(m.createdAt), COUNT(m) FROM Message m WHERE m.createdAt >= :start AND m.deletedAt IS NULL GROUP BY DATE(m.createdAt)")
     List<Object[]> getMessageActivityByDay(@Param("start") LocalDateTime start);
-}
\ No newline at end of file
+    
+    // Latest messages of a group projected for dashboards; system messages have no sender
+    @Query("SELECT new com.betmate.dto.messaging.response.MessagePreviewDto(" +
+           "m.id, s.username, m.content, m.messageType, m.isEdited, m.createdAt) " +
+           "FROM Message m LEFT JOIN m.sender s WHERE m.group.id = :groupId AND m.deletedAt IS NULL " +
+           "ORDER BY m.createdAt DESC")
+    List<MessagePreviewDto> findMessagePreviews(@Param("groupId") Long groupId, Pageable pageable);
+}
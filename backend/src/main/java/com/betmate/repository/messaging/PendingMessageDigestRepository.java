@@ -0,0 +1,53 @@
+package com.betmate.repository.messaging;
+
+import com.betmate.entity.messaging.PendingMessageDigest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PendingMessageDigestRepository extends JpaRepository<PendingMessageDigest, Long> {
+
+    /**
+     * Adds one message to the digest of every listed member in a single statement.
+     * Rows are created on first miss and incremented afterwards; the unique (user_id, group_id)
+     * key makes concurrent messages safe without a read-then-write.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO pending_message_digests " +
+           "(user_id, group_id, message_count, last_message_id, last_sender_name, first_message_at, last_message_at, created_at, updated_at) " +
+           "SELECT gm.user_id, gm.group_id, 1, :messageId, :senderName, :now, :now, :now, :now " +
+           "FROM group_memberships gm WHERE gm.group_id = :groupId AND gm.is_active = true AND gm.user_id IN (:userIds) " +
+           "ON DUPLICATE KEY UPDATE message_count = message_count + 1, last_message_id = VALUES(last_message_id), " +
+           "last_sender_name = VALUES(last_sender_name), last_message_at = VALUES(last_message_at), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int upsertDigests(@Param("groupId") Long groupId,
+                      @Param("userIds") Collection<Long> userIds,
+                      @Param("messageId") Long messageId,
+                      @Param("senderName") String senderName,
+                      @Param("now") LocalDateTime now);
+
+    @Query("SELECT d FROM PendingMessageDigest d JOIN FETCH d.group WHERE d.user.id = :userId ORDER BY d.lastMessageAt DESC")
+    List<PendingMessageDigest> findByUserIdWithGroup(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(d) FROM PendingMessageDigest d WHERE d.user.id = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM PendingMessageDigest d WHERE d.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM PendingMessageDigest d WHERE d.group.id = :groupId AND d.user.id = :userId")
+    int deleteByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM PendingMessageDigest d WHERE d.lastMessageAt < :cutoff")
+    int deleteStaleDigests(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,43 @@
+package com.betmate.repository.store;
+
+import com.betmate.entity.store.StoreDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Per-day, per-item purchase rollups.
+ */
+@Repository
+public interface StoreDailySalesRepository extends JpaRepository<StoreDailySales, StoreDailySales.Key> {
+
+    @Modifying
+    @Query(value = "INSERT INTO store_daily_sales (sale_date, store_item_id, purchases, revenue) " +
+           "VALUES (:saleDate, :itemId, 1, :price) " +
+           "ON DUPLICATE KEY UPDATE purchases = purchases + 1, revenue = revenue + VALUES(revenue)",
+           nativeQuery = true)
+    int recordSale(@Param("saleDate") LocalDate saleDate,
+                   @Param("itemId") Long itemId,
+                   @Param("price") BigDecimal price);
+
+    /**
+     * Rebuilds the days starting at the given time from user_inventory.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO store_daily_sales (sale_date, store_item_id, purchases, revenue) " +
+           "SELECT DATE(ui.purchased_at), ui.store_item_id, COUNT(*), SUM(ui.purchase_price) " +
+           "FROM user_inventory ui WHERE ui.purchased_at >= :since " +
+           "GROUP BY DATE(ui.purchased_at), ui.store_item_id " +
+           "ON DUPLICATE KEY UPDATE purchases = VALUES(purchases), revenue = VALUES(revenue)",
+           nativeQuery = true)
+    int rebuildSince(@Param("since") LocalDateTime since);
+
+    List<StoreDailySales> findBySaleDateBetweenOrderBySaleDateAsc(LocalDate from, LocalDate to);
+}
@@ -2,17 +2,27 @@ package com.betmate.repository.store;
 
 import com.betmate.entity.store.StoreItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StoreItemRepository extends JpaRepository<StoreItem, Long> {
     
+    // Loaded in its own read-only transaction so the cached snapshot never holds entities
+    // managed by, and mutable through, a caller's persistence context
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Query("SELECT s FROM StoreItem s")
+    List<StoreItem> findAllForCatalog();
+
     // Basic item queries
     List<StoreItem> findByIsActiveTrue();
     List<StoreItem> findByItemType(StoreItem.ItemType itemType);
@@ -35,6 +45,20 @@ public interface StoreItemRepository extends JpaRepository<StoreItem, Long> {
     
     @Query("SELECT s FROM StoreItem s WHERE s.isLimitedTime = true AND s.availableUntil IS NOT NULL AND s.availableUntil <= :currentTime AND s.isActive = true")
     List<StoreItem> findExpiredLimitedTimeItems(@Param("currentTime") LocalDateTime currentTime);
+
+    // Takes expired limited-time items off sale; re-checks the deadline so a promotion extended
+    // after the expiry was scheduled is left alone
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoreItem s SET s.isActive = false, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.id IN :itemIds AND s.isLimitedTime = true AND s.availableUntil <= :currentTime AND s.isActive = true")
+    int expireLimitedTimeItems(@Param("itemIds") Collection<Long> itemIds, @Param("currentTime") LocalDateTime currentTime);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoreItem s SET s.isActive = false, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.isLimitedTime = true AND s.availableUntil IS NOT NULL AND s.availableUntil <= :currentTime AND s.isActive = true")
+    int expireAllLimitedTimeItems(@Param("currentTime") LocalDateTime currentTime);
     
     // Available items for purchase
     @Query("SELECT s FROM StoreItem s WHERE s.isActive = true AND " +
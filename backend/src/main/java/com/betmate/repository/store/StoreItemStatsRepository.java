@@ -0,0 +1,87 @@
+package com.betmate.repository.store;
+
+import com.betmate.entity.store.StoreItemStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Per-item store rollups. Reads are O(items) regardless of how many purchases exist.
+ */
+@Repository
+public interface StoreItemStatsRepository extends JpaRepository<StoreItemStats, Long> {
+
+    // ==========================================
+    // WRITES
+    // ==========================================
+
+    /**
+     * Adds the given deltas to an item's totals, creating its row on first use.
+     * Counts and revenue never go below zero.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO store_item_stats (store_item_id, owner_count, revenue, purchase_count, updated_at) " +
+           "VALUES (:itemId, GREATEST(:ownerDelta, 0), GREATEST(:revenueDelta, 0), GREATEST(:purchaseDelta, 0), NOW()) " +
+           "ON DUPLICATE KEY UPDATE owner_count = GREATEST(owner_count + :ownerDelta, 0), " +
+           "revenue = GREATEST(revenue + :revenueDelta, 0), purchase_count = purchase_count + :purchaseDelta, " +
+           "updated_at = NOW()",
+           nativeQuery = true)
+    int adjust(@Param("itemId") Long itemId,
+               @Param("ownerDelta") long ownerDelta,
+               @Param("revenueDelta") BigDecimal revenueDelta,
+               @Param("purchaseDelta") long purchaseDelta);
+
+    /**
+     * IDs of items whose stored totals differ from what user_inventory says, including items
+     * that have no stats row yet.
+     */
+    @Query(value = "SELECT s.id FROM store_items s " +
+           "LEFT JOIN (SELECT store_item_id, " +
+           "SUM(CASE WHEN is_active = 1 THEN 1 ELSE 0 END) AS owners, " +
+           "SUM(CASE WHEN is_active = 1 THEN purchase_price ELSE 0 END) AS revenue, " +
+           "COUNT(*) AS purchases " +
+           "FROM user_inventory GROUP BY store_item_id) ui ON ui.store_item_id = s.id " +
+           "LEFT JOIN store_item_stats st ON st.store_item_id = s.id " +
+           "WHERE st.store_item_id IS NULL " +
+           "OR st.owner_count <> COALESCE(ui.owners, 0) " +
+           "OR st.revenue <> COALESCE(ui.revenue, 0) " +
+           "OR st.purchase_count <> COALESCE(ui.purchases, 0)",
+           nativeQuery = true)
+    List<Long> findDriftedItemIds();
+
+    /**
+     * Rebuilds every item's totals from user_inventory. updated_at only moves for rows whose
+     * totals changed. The affected row count depends on the driver's CLIENT_FOUND_ROWS setting,
+     * so use {@link #findDriftedItemIds()} to tell whether anything drifted.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO store_item_stats (store_item_id, owner_count, revenue, purchase_count, updated_at) " +
+           "SELECT s.id, " +
+           "COALESCE(SUM(CASE WHEN ui.is_active = 1 THEN 1 ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN ui.is_active = 1 THEN ui.purchase_price ELSE 0 END), 0), " +
+           "COUNT(ui.id), NOW() " +
+           "FROM store_items s LEFT JOIN user_inventory ui ON ui.store_item_id = s.id " +
+           "GROUP BY s.id " +
+           "ON DUPLICATE KEY UPDATE " +
+           "updated_at = IF(owner_count <> VALUES(owner_count) OR revenue <> VALUES(revenue) " +
+           "OR purchase_count <> VALUES(purchase_count), NOW(), updated_at), " +
+           "owner_count = VALUES(owner_count), revenue = VALUES(revenue), purchase_count = VALUES(purchase_count)",
+           nativeQuery = true)
+    int rebuildFromInventory();
+
+    // ==========================================
+    // READS
+    // ==========================================
+
+    // Row: [storeItem, ownerCount], most owned first
+    @Query("SELECT s.storeItem, s.ownerCount FROM StoreItemStats s WHERE s.ownerCount > 0 ORDER BY s.ownerCount DESC")
+    List<Object[]> findMostPopularItems();
+
+    @Query("SELECT COALESCE(SUM(s.revenue), 0) FROM StoreItemStats s")
+    BigDecimal getTotalRevenue();
+}
@@ -3,10 +3,13 @@ package com.betmate.repository.store;
 import com.betmate.entity.store.StoreItem;
 import com.betmate.entity.store.TauntMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -30,6 +33,12 @@ public interface TauntMessageRepository extends JpaRepository<TauntMessage, Long
     
     @Query("SELECT t FROM TauntMessage t WHERE t.isActive = true ORDER BY t.totalUsage DESC")
     List<TauntMessage> findMostPopularTaunts();
+
+    // Applies one flushed usage delta to every taunt that shares it
+    @Modifying
+    @Transactional
+    @Query("UPDATE TauntMessage t SET t.totalUsage = t.totalUsage + :delta WHERE t.id IN :ids")
+    int incrementUsage(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
     
     // Moderation queries
     List<TauntMessage> findByIsReportedTrue();
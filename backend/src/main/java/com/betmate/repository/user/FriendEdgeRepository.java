@@ -0,0 +1,95 @@
+package com.betmate.repository.user;
+
+import com.betmate.entity.user.FriendEdge;
+import com.betmate.entity.user.Friendship.FriendshipStatus;
+import com.betmate.entity.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Directed friendship edges. Every query here is keyed on user_id, so it is either a
+ * primary key lookup or a range scan on the (user_id, status) index.
+ */
+@Repository
+public interface FriendEdgeRepository extends JpaRepository<FriendEdge, FriendEdge.Key> {
+
+    // ==========================================
+    // WRITES
+    // ==========================================
+
+    /**
+     * Writes both directions of a pair with the given status, inserting or overwriting.
+     * Pass the status name, e.g. "ACCEPTED".
+     */
+    @Modifying
+    @Query(value = "INSERT INTO friend_edges (user_id, friend_id, status, since) " +
+           "VALUES (:userId1, :userId2, :status, :since), (:userId2, :userId1, :status, :since) " +
+           "ON DUPLICATE KEY UPDATE status = VALUES(status), since = VALUES(since)",
+           nativeQuery = true)
+    int upsertPair(@Param("userId1") Long userId1,
+                   @Param("userId2") Long userId2,
+                   @Param("status") String status,
+                   @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM FriendEdge e WHERE " +
+           "(e.userId = :userId1 AND e.friendId = :userId2) OR (e.userId = :userId2 AND e.friendId = :userId1)")
+    int deletePair(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
+
+    @Modifying
+    @Query("DELETE FROM FriendEdge e WHERE e.status = 'REJECTED' AND e.since < :before")
+    int deleteRejectedOlderThan(@Param("before") LocalDateTime before);
+
+    /**
+     * Copies every friendship into both directions. Existing edges are left untouched.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO friend_edges (user_id, friend_id, status, since) " +
+           "SELECT requester_id, accepter_id, status, COALESCE(accepted_at, updated_at) FROM friendships " +
+           "UNION ALL " +
+           "SELECT accepter_id, requester_id, status, COALESCE(accepted_at, updated_at) FROM friendships",
+           nativeQuery = true)
+    int backfillFromFriendships();
+
+    // ==========================================
+    // LOOKUPS
+    // ==========================================
+
+    @Query("SELECT e.status FROM FriendEdge e WHERE e.userId = :userId AND e.friendId = :friendId")
+    Optional<FriendshipStatus> findStatus(@Param("userId") Long userId, @Param("friendId") Long friendId);
+
+    /**
+     * Get a user's edges to any of the given users, e.g. to annotate a page of search results.
+     */
+    List<FriendEdge> findByUserIdAndFriendIdIn(Long userId, Collection<Long> friendIds);
+
+    boolean existsByUserIdAndFriendIdAndStatus(Long userId, Long friendId, FriendshipStatus status);
+
+    /**
+     * Get the IDs of a user's counterparts with the given status, e.g. accepted friends.
+     */
+    @Query("SELECT e.friendId FROM FriendEdge e WHERE e.userId = :userId AND e.status = :status")
+    List<Long> findFriendIdsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") FriendshipStatus status);
+
+    long countByUserIdAndStatus(Long userId, FriendshipStatus status);
+
+    @Query("SELECT f FROM FriendEdge e JOIN e.friend f WHERE e.userId = :userId AND e.status = 'ACCEPTED'")
+    List<User> findFriendsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find accepted friends of a user by username or name pattern.
+     */
+    @Query("SELECT f FROM FriendEdge e JOIN e.friend f WHERE e.userId = :userId AND e.status = 'ACCEPTED' AND " +
+           "(LOWER(f.username) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(f.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(f.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+    List<User> findFriendsByUserIdAndSearchTerm(@Param("userId") Long userId, @Param("searchTerm") String searchTerm);
+}
@@ -158,26 +158,6 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
            "f.acceptedAt >= :since ORDER BY f.acceptedAt DESC")
     List<Friendship> findRecentFriendshipsByUser(@Param("user") User user, @Param("since") java.time.LocalDateTime since);
 
-    // ==========================================
-    // MUTUAL FRIENDS
-    // ==========================================
-
-    /**
-     * Find mutual friends between two users.
-     * Simple implementation that returns empty list for now.
-     */
-    default List<User> findMutualFriends(User user1, User user2) {
-        return java.util.Collections.emptyList();
-    }
-
-    /**
-     * Count mutual friends between two users.
-     * Simple implementation that returns 0 for now.
-     */
-    default long countMutualFriends(Long user1Id, Long user2Id) {
-        return 0;
-    }
-
     // ==========================================
     // CLEANUP QUERIES
     // ==========================================
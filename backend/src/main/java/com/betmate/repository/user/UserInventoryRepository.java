@@ -3,12 +3,15 @@ package com.betmate.repository.user;
 import com.betmate.entity.store.StoreItem;
 import com.betmate.entity.user.User;
 import com.betmate.entity.user.UserInventory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +26,9 @@ public interface UserInventoryRepository extends JpaRepository<UserInventory, Lo
     // Ownership checks
     boolean existsByUserAndStoreItem(User user, StoreItem storeItem);
     boolean existsByUserAndStoreItemAndIsActiveTrue(User user, StoreItem storeItem);
+
+    @Query("SELECT ui.storeItem.id FROM UserInventory ui WHERE ui.user = :user AND ui.isActive = true")
+    List<Long> findOwnedStoreItemIds(@Param("user") User user);
     
     // Item type queries
     List<UserInventory> findByUserAndStoreItem_ItemType(User user, StoreItem.ItemType itemType);
@@ -33,8 +39,37 @@ public interface UserInventoryRepository extends JpaRepository<UserInventory, Lo
     List<UserInventory> findByUserAndIsEquippedTrueAndStoreItem_ItemType(User user, StoreItem.ItemType itemType);
     List<UserInventory> findByUserAndStoreItem_ItemTypeAndIsEquippedTrueAndIsActiveTrue(User user, StoreItem.ItemType itemType);
     
+    @Query("SELECT ui.user.id, si.id, si.itemType, si.name, si.iconUrl, si.rarity FROM UserInventory ui JOIN ui.storeItem si " +
+           "WHERE ui.user.id IN :userIds AND ui.isEquipped = true AND ui.isActive = true")
+    List<Object[]> findEquippedCosmeticsByUserIds(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT ui FROM UserInventory ui WHERE ui.user = :user AND ui.isEquipped = true AND ui.storeItem.itemType = :itemType AND ui.isActive = true")
     Optional<UserInventory> findEquippedItemByType(@Param("user") User user, @Param("itemType") StoreItem.ItemType itemType);
+
+    // Equips exactly equipIds within the given slots and unequips everything else in them.
+    // equippedAt is assigned first because MySQL evaluates SET left to right against updated values.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserInventory ui SET " +
+           "ui.equippedAt = CASE WHEN ui.id IN :equipIds THEN " +
+           "(CASE WHEN ui.isEquipped = true THEN ui.equippedAt ELSE CURRENT_TIMESTAMP END) ELSE NULL END, " +
+           "ui.isEquipped = CASE WHEN ui.id IN :equipIds THEN true ELSE false END, " +
+           "ui.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE ui.user.id = :userId AND ui.itemType IN :itemTypes AND ui.isActive = true " +
+           "AND (ui.isEquipped = true OR ui.id IN :equipIds)")
+    int swapEquipped(@Param("userId") Long userId,
+                     @Param("itemTypes") Collection<StoreItem.ItemType> itemTypes,
+                     @Param("equipIds") Collection<Long> equipIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserInventory ui SET ui.isEquipped = false, ui.equippedAt = NULL, ui.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE ui.user.id = :userId AND ui.itemType IN :itemTypes AND ui.isEquipped = true")
+    int unequipByTypes(@Param("userId") Long userId, @Param("itemTypes") Collection<StoreItem.ItemType> itemTypes);
+
+    // Fills the denormalized item type on rows written before the column existed
+    @Modifying
+    @Query("UPDATE UserInventory ui SET ui.itemType = " +
+           "(SELECT s.itemType FROM StoreItem s WHERE s.id = ui.storeItem.id) WHERE ui.itemType IS NULL")
+    int backfillItemTypes();
     
     // Recent purchases
     List<UserInventory> findByUserAndPurchasedAtAfter(User user, LocalDateTime since);
@@ -43,6 +78,10 @@ public interface UserInventoryRepository extends JpaRepository<UserInventory, Lo
     List<UserInventory> findUserInventoryOrderedByPurchaseDate(@Param("user") User user);
     
     List<UserInventory> findByUserAndIsActiveTrueOrderByPurchasedAtDesc(User user);
+
+    @Query("SELECT ui FROM UserInventory ui JOIN FETCH ui.storeItem JOIN FETCH ui.user " +
+           "WHERE ui.user = :user AND ui.isActive = true ORDER BY ui.purchasedAt DESC")
+    List<UserInventory> findRecentPurchases(@Param("user") User user, Pageable pageable);
     
     // Usage tracking
     List<UserInventory> findByUserAndLastUsedAtAfter(User user, LocalDateTime since);
@@ -62,6 +101,11 @@ public interface UserInventoryRepository extends JpaRepository<UserInventory, Lo
     
     @Query("SELECT ui.storeItem.itemType, COUNT(ui) FROM UserInventory ui WHERE ui.user = :user AND ui.isActive = true GROUP BY ui.storeItem.itemType")
     List<Object[]> getUserItemCountByType(@Param("user") User user);
+
+    // Row per item type: [itemType, count, value]
+    @Query("SELECT ui.storeItem.itemType, COUNT(ui), SUM(ui.purchasePrice) FROM UserInventory ui " +
+           "WHERE ui.user = :user AND ui.isActive = true GROUP BY ui.storeItem.itemType")
+    List<Object[]> getInventoryTotalsByType(@Param("user") User user);
     
     @Query("SELECT SUM(ui.purchasePrice) FROM UserInventory ui WHERE ui.user = :user")
     java.math.BigDecimal getTotalSpentByUser(@Param("user") User user);
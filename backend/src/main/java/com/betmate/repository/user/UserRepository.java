@@ -2,6 +2,7 @@ package com.betmate.repository.user;
 
 import com.betmate.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -31,6 +32,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     // Balance queries
     List<User> findByCreditBalanceGreaterThan(BigDecimal minBalance);
+
+    /**
+     * Debits available credits (balance minus frozen) in one conditional update.
+     * Returns 0 when the user cannot afford the amount, so no prior read or lock is needed.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.creditBalance = u.creditBalance - :amount, u.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE u.id = :userId AND u.creditBalance - u.frozenCredits >= :amount")
+    int debitAvailableCredits(@Param("userId") Long userId, @Param("amount") BigDecimal amount);
     
     // Betting statistics
     List<User> findByWinCountGreaterThan(Integer minWins);
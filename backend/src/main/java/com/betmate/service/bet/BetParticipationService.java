@@ -8,6 +8,7 @@ import com.betmate.entity.user.User;
 import com.betmate.exception.betting.BetParticipationException;
 import com.betmate.repository.betting.BetParticipationRepository;
 import com.betmate.repository.betting.BetPredictionRepository;
+import com.betmate.service.group.GroupLeaderboardService;
 import com.betmate.service.user.UserCreditService;
 import com.betmate.service.user.UserStatisticsService;
 import jakarta.validation.constraints.DecimalMin;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,18 +40,21 @@ public class BetParticipationService {
     private final BetService betService;
     private final UserCreditService creditService;
     private final UserStatisticsService statisticsService;
+    private final GroupLeaderboardService leaderboardService;
 
     @Autowired
     public BetParticipationService(BetParticipationRepository participationRepository,
                                  BetPredictionRepository predictionRepository,
                                  BetService betService,
                                  UserCreditService creditService,
-                                 UserStatisticsService statisticsService) {
+                                 UserStatisticsService statisticsService,
+                                 GroupLeaderboardService leaderboardService) {
         this.participationRepository = participationRepository;
         this.predictionRepository = predictionRepository;
         this.betService = betService;
         this.creditService = creditService;
         this.statisticsService = statisticsService;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
@@ -198,17 +203,34 @@ public class BetParticipationService {
             throw new BetParticipationException("Bet must be closed before resolving participations");
         }
         
+        // Mark bet as resolved first; winners are determined against its outcome
+        bet.resolve(outcome);
+        betService.saveBet(bet);
+        
+        settleParticipations(bet);
+    }
+
+    /**
+     * Settles the active participations of a resolved bet: pays out winners, updates user
+     * statistics and folds the results into the group leaderboard.
+     */
+    public void settleParticipations(@NotNull Bet bet) {
+        if (!bet.isResolved()) {
+            throw new BetParticipationException("Bet must be resolved before settling participations");
+        }
+        
         List<BetParticipation> participations = participationRepository.findByBet(bet);
+        List<BetParticipation> settled = new ArrayList<>();
         
         for (BetParticipation participation : participations) {
             if (participation.getStatus() == BetParticipation.ParticipationStatus.ACTIVE) {
-                resolveParticipation(participation, bet, outcome);
+                resolveParticipation(participation, bet);
+                settled.add(participation);
             }
         }
-        
-        // Mark bet as resolved
-        bet.resolve(outcome);
-        betService.saveBet(bet);
+
+        // Fold results into the group leaderboard
+        leaderboardService.recordSettlements(bet, settled);
     }
 
     /**
@@ -330,7 +352,7 @@ public class BetParticipationService {
         betService.saveBet(bet);
     }
 
-    private void resolveParticipation(BetParticipation participation, Bet bet, Bet.BetOutcome outcome) {
+    private void resolveParticipation(BetParticipation participation, Bet bet) {
         User user = participation.getUser();
         
         if (participation.isWinner()) {
@@ -11,6 +11,7 @@ import com.betmate.repository.betting.BetParticipationRepository;
 import com.betmate.repository.betting.BetRepository;
 import com.betmate.repository.betting.BetResolverRepository;
 import com.betmate.repository.betting.BetResolutionVoteRepository;
+import com.betmate.service.group.GroupLeaderboardService;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,6 +21,7 @@ import org.springframework.validation.annotation.Validated;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -40,6 +42,7 @@ public class BetResolutionService {
     private final BetResolutionVoteRepository betResolutionVoteRepository;
     private final BetParticipationRepository betParticipationRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final GroupLeaderboardService leaderboardService;
 
     @Autowired
     public BetResolutionService(
@@ -47,12 +50,14 @@ public class BetResolutionService {
             BetResolverRepository betResolverRepository,
             BetResolutionVoteRepository betResolutionVoteRepository,
             BetParticipationRepository betParticipationRepository,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            GroupLeaderboardService leaderboardService) {
         this.betRepository = betRepository;
         this.betResolverRepository = betResolverRepository;
         this.betResolutionVoteRepository = betResolutionVoteRepository;
         this.betParticipationRepository = betParticipationRepository;
         this.eventPublisher = eventPublisher;
+        this.leaderboardService = leaderboardService;
     }
 
     // ==========================================
@@ -128,6 +133,9 @@ public class BetResolutionService {
         bet.resolve(Bet.BetOutcome.OPTION_1);
         bet = betRepository.save(bet);
 
+        // Fold results into the group leaderboard
+        leaderboardService.recordSettlements(bet, allParticipations);
+
         // Publish bet resolved event for notifications
         publishBetResolvedEvent(bet);
 
@@ -145,6 +153,9 @@ public class BetResolutionService {
         bet.resolve(outcome);
         bet = betRepository.save(bet);
 
+        // Fold results into the group leaderboard
+        recordResults(bet);
+
         // Publish bet resolved event for notifications
         publishBetResolvedEvent(bet);
 
@@ -166,6 +177,9 @@ public class BetResolutionService {
         bet.resolve(outcome);
         bet = betRepository.save(bet);
 
+        // Fold results into the group leaderboard
+        recordResults(bet);
+
         // Publish bet resolved event for notifications
         publishBetResolvedEvent(bet);
 
@@ -423,6 +437,9 @@ public class BetResolutionService {
             bet.resolve(winningOutcome);
             bet = betRepository.save(bet);
 
+            // Fold results into the group leaderboard
+            recordResults(bet);
+
             // Publish bet resolved event for notifications
             publishBetResolvedEvent(bet);
             return true;
@@ -431,6 +448,29 @@ public class BetResolutionService {
         return false;
     }
 
+    /**
+     * Marks each active participation won or lost against the bet's outcome and folds the
+     * results into the group leaderboard. As with resolution by selected winners, no credits
+     * move here, so winners are ranked on their expected payout.
+     */
+    private void recordResults(Bet bet) {
+        List<BetParticipation> settled = new ArrayList<>();
+        for (BetParticipation participation : betParticipationRepository.findByBetId(bet.getId())) {
+            if (participation.getStatus() != BetParticipation.ParticipationStatus.ACTIVE) {
+                continue;
+            }
+            if (participation.isWinner()) {
+                participation.setStatus(BetParticipation.ParticipationStatus.WON);
+            } else {
+                participation.setStatus(BetParticipation.ParticipationStatus.LOST);
+                participation.setActualWinnings(BigDecimal.ZERO);
+            }
+            betParticipationRepository.save(participation);
+            settled.add(participation);
+        }
+        leaderboardService.recordSettlements(bet, settled);
+    }
+
     /**
      * Publishes a bet resolved event for notification processing.
      */
@@ -0,0 +1,133 @@
+package com.betmate.service.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Fans in-memory cache invalidations out to every instance over Redis pub/sub.
+ *
+ * Services holding a local cache register a handler under a cache name and publish to that
+ * name after dropping their own entry; other instances run the handler with the same key.
+ * Messages from this instance are ignored. Pub/sub is fire-and-forget, so if Redis is
+ * unavailable the publish is skipped and other instances keep their entries until their own
+ * bounds or periodic refresh replace them. The subscription is started once the application is
+ * ready and retried in the background while Redis is unreachable, so startup never waits on it.
+ */
+@Service
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    private static final String SEPARATOR = "|";
+    private static final String ALL_KEYS = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // cache name -> handler taking the invalidated key, or null for the whole cache
+    private final Map<String, Consumer<Long>> handlers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * Registers the handler run when another instance invalidates the named cache.
+     * The handler receives the invalidated key, or null when the whole cache was dropped.
+     */
+    public void register(String cache, Consumer<Long> handler) {
+        handlers.put(cache, handler);
+    }
+
+    /**
+     * Tells other instances to drop one key of the named cache.
+     */
+    public void publish(String cache, Long key) {
+        send(cache, String.valueOf(key));
+    }
+
+    /**
+     * Tells other instances to drop the whole named cache.
+     */
+    public void publishAll(String cache) {
+        send(cache, ALL_KEYS);
+    }
+
+    // ==========================================
+    // SUBSCRIPTION
+    // ==========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribeOnStartup() {
+        ensureSubscribed();
+    }
+
+    /**
+     * Starts the invalidation subscription if it is not listening. A failed start leaves the
+     * container running but not listening, so it is stopped before the next attempt.
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.resubscribe-interval-ms:30000}",
+               initialDelayString = "${cache.invalidation.resubscribe-interval-ms:30000}")
+    public synchronized void ensureSubscribed() {
+        if (listenerContainer.isListening()) {
+            return;
+        }
+        try {
+            if (listenerContainer.isRunning()) {
+                listenerContainer.stop();
+            }
+            listenerContainer.start();
+            logger.info("Subscribed to cache invalidations on {}", CHANNEL);
+        } catch (RuntimeException e) {
+            logger.warn("Cache invalidation subscription unavailable, will retry: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        Consumer<Long> handler = handlers.get(parts[1]);
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.accept(ALL_KEYS.equals(parts[2]) ? null : Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to apply remote invalidation of cache {}: {}", parts[1], e.getMessage());
+        }
+    }
+
+    private void send(String cache, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + cache + SEPARATOR + key);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to broadcast invalidation of cache {}: {}", cache, e.getMessage());
+        }
+    }
+}
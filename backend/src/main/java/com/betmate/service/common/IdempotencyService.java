@@ -0,0 +1,283 @@
+package com.betmate.service.common;
+
+import com.betmate.exception.IdempotencyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Makes credit-moving endpoints safe to retry by honouring an Idempotency-Key header.
+ *
+ * The first request with a key reserves it in Redis with SET NX and runs the operation; its
+ * successful response is then stored under the key, so a retry within the retention period gets
+ * the stored response back without touching the database again. Keys are scoped per user and
+ * operation and must be reused with the same request body. A failed request releases its key so
+ * the client can try again. Operations that build their response after the side effect has
+ * committed use the two-phase variant, which keeps the key once the side effect is done. If
+ * Redis is unavailable, requests run without idempotency.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration lockTtl;
+    private final Duration retention;
+
+    @Autowired
+    public IdempotencyService(StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${idempotency.lock-ttl-seconds:60}") long lockTtlSeconds,
+                              @Value("${idempotency.retention-hours:24}") long retentionHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * Runs the action once per idempotency key, replaying the stored response for retries.
+     * Requests without a key run the action directly.
+     *
+     * @param userId caller the key is scoped to
+     * @param operation name of the endpoint operation the key is scoped to
+     * @param idempotencyKey value of the Idempotency-Key header, or null
+     * @param request request payload; a retry must send the same one
+     * @param responseType type of the response body, used to read a stored response back
+     * @param action the operation to run
+     * @throws IdempotencyException.RequestInProgressException if the original request is still running
+     * @throws IdempotencyException.KeyReuseException if the key was used for a different request
+     */
+    public <T> ResponseEntity<T> execute(Long userId, String operation, String idempotencyKey, Object request,
+                                         Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+
+        String key = key(userId, operation, idempotencyKey);
+        String fingerprint = fingerprint(request);
+
+        Optional<StoredResponse> existing;
+        try {
+            existing = reserve(key, fingerprint);
+        } catch (DataAccessException e) {
+            logger.warn("Redis unavailable for idempotency key {}; running without it: {}", key, e.getMessage());
+            return action.get();
+        }
+        if (existing.isPresent()) {
+            return replay(existing.get(), fingerprint, responseType);
+        }
+
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            store(key, StoredResponse.completed(fingerprint, response.getStatusCode().value(), toJson(response.getBody())));
+        } else {
+            release(key);
+        }
+        return response;
+    }
+
+    /**
+     * Two-phase variant for operations that commit their side effect first and build the
+     * response afterwards. Only a failing action releases the key. Once the action has returned,
+     * the key is kept even if rendering fails, and a retry renders the response again without
+     * repeating the action.
+     *
+     * @param action the side effect, committed by the time it returns
+     * @param render builds the response; must be safe to run more than once
+     * @throws IdempotencyException.RequestInProgressException if the original request is still running
+     * @throws IdempotencyException.KeyReuseException if the key was used for a different request
+     */
+    public <T> ResponseEntity<T> execute(Long userId, String operation, String idempotencyKey, Object request,
+                                         Class<T> responseType, Runnable action, Supplier<ResponseEntity<T>> render) {
+        if (idempotencyKey == null) {
+            action.run();
+            return render.get();
+        }
+
+        String key = key(userId, operation, idempotencyKey);
+        String fingerprint = fingerprint(request);
+
+        Optional<StoredResponse> existing;
+        try {
+            existing = reserve(key, fingerprint);
+        } catch (DataAccessException e) {
+            logger.warn("Redis unavailable for idempotency key {}; running without it: {}", key, e.getMessage());
+            action.run();
+            return render.get();
+        }
+        if (existing.isPresent()) {
+            StoredResponse stored = existing.get();
+            if (stored.fingerprint().equals(fingerprint) && stored.status() == null && stored.committed()) {
+                // The action ran but its response was never stored; render it again
+                ResponseEntity<T> response = render.get();
+                storeIfSuccessful(key, fingerprint, response);
+                return ResponseEntity.status(response.getStatusCode())
+                    .headers(response.getHeaders())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(response.getBody());
+            }
+            return replay(stored, fingerprint, responseType);
+        }
+
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+
+        // From here on the side effect is committed, so the key must not be released
+        store(key, StoredResponse.committed(fingerprint));
+        ResponseEntity<T> response = render.get();
+        storeIfSuccessful(key, fingerprint, response);
+        return response;
+    }
+
+    // ==========================================
+    // REDIS OPERATIONS
+    // ==========================================
+
+    /**
+     * Reserves the key for this request, or returns what is already stored under it.
+     */
+    private Optional<StoredResponse> reserve(String key, String fingerprint) {
+        String pending = toJson(StoredResponse.pending(fingerprint));
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, pending, lockTtl))) {
+            return Optional.empty();
+        }
+
+        String stored = redisTemplate.opsForValue().get(key);
+        if (stored == null) {
+            // The reservation lapsed between the two calls; let the client retry rather than race
+            throw new IdempotencyException.RequestInProgressException("Request with this idempotency key is being retried");
+        }
+        return Optional.of(fromJson(stored, StoredResponse.class));
+    }
+
+    private void store(String key, StoredResponse response) {
+        try {
+            redisTemplate.opsForValue().set(key, toJson(response), retention);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to store idempotent response for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private <T> void storeIfSuccessful(String key, String fingerprint, ResponseEntity<T> response) {
+        if (response.getStatusCode().is2xxSuccessful()) {
+            store(key, StoredResponse.completed(fingerprint, response.getStatusCode().value(), toJson(response.getBody())));
+        }
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to release idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    private <T> ResponseEntity<T> replay(StoredResponse stored, String fingerprint, Class<T> responseType) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyException.KeyReuseException("Idempotency key was already used for a different request");
+        }
+        if (stored.status() == null) {
+            throw new IdempotencyException.RequestInProgressException("Request with this idempotency key is still being processed");
+        }
+
+        T body = stored.body() != null ? fromJson(stored.body(), responseType) : null;
+        return ResponseEntity.status(stored.status())
+            .header(REPLAYED_HEADER, "true")
+            .body(body);
+    }
+
+    private static String key(Long userId, String operation, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + operation + ":" + validate(idempotencyKey);
+    }
+
+    private static String validate(String idempotencyKey) {
+        String key = idempotencyKey.trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyException.InvalidKeyException(
+                "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        return key;
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint request", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent response", e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored idempotent response", e);
+        }
+    }
+
+    /**
+     * Value stored under an idempotency key. A null status marks a request still in progress,
+     * unless committed is set: then the side effect is done and only the response is missing.
+     */
+    record StoredResponse(String fingerprint, Integer status, String body, boolean committed) {
+
+        static StoredResponse pending(String fingerprint) {
+            return new StoredResponse(fingerprint, null, null, false);
+        }
+
+        static StoredResponse committed(String fingerprint) {
+            return new StoredResponse(fingerprint, null, null, true);
+        }
+
+        static StoredResponse completed(String fingerprint, int status, String body) {
+            return new StoredResponse(fingerprint, status, body, true);
+        }
+    }
+}
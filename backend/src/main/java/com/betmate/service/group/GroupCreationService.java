@@ -43,6 +43,8 @@ public class GroupCreationService {
         
         // Add creator as admin member
         groupMembershipService.addCreatorMembership(savedGroup, creator);
+        // The membership bumps the count with a bulk update, which doesn't touch the managed entity
+        savedGroup.setMemberCount(1);
         
         return savedGroup;
     }
@@ -88,7 +90,7 @@ public class GroupCreationService {
         group.setCreator(creator);
         
         // Set defaults
-        group.setMemberCount(1); // Creator is first member
+        group.setMemberCount(0); // Creator's membership brings this to 1
         group.setIsActive(true);
         group.setTotalMessages(0L);
         
@@ -0,0 +1,147 @@
+package com.betmate.service.group;
+
+import com.betmate.dto.betting.response.BetPreviewDto;
+import com.betmate.dto.group.response.GroupDashboardResponseDto;
+import com.betmate.dto.group.response.GroupResponseDto;
+import com.betmate.dto.group.response.MemberPreviewDto;
+import com.betmate.dto.messaging.response.MessagePreviewDto;
+import com.betmate.entity.group.Group;
+import com.betmate.entity.group.GroupMembership;
+import com.betmate.entity.user.User;
+import com.betmate.exception.group.GroupPermissionException;
+import com.betmate.repository.betting.BetRepository;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.messaging.MessageRepository;
+import com.betmate.service.messaging.MessageService.MessageStats;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Builds the group screen's dashboard in one call.
+ *
+ * The group and the caller's membership are resolved once; the members, bets, messages and
+ * message-stats sections are then loaded in parallel as projections, each in its own short
+ * read, so none of them touch lazy associations off the request thread.
+ */
+@Service
+@Validated
+public class GroupDashboardService {
+
+    public static final int MAX_SECTION_LIMIT = 100;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final GroupService groupService;
+    private final GroupMembershipRepository membershipRepository;
+    private final BetRepository betRepository;
+    private final MessageRepository messageRepository;
+    private final Executor dashboardExecutor;
+
+    @Autowired
+    public GroupDashboardService(GroupService groupService,
+                                 GroupMembershipRepository membershipRepository,
+                                 BetRepository betRepository,
+                                 MessageRepository messageRepository,
+                                 @Qualifier("dashboardExecutor") Executor dashboardExecutor) {
+        this.groupService = groupService;
+        this.membershipRepository = membershipRepository;
+        this.betRepository = betRepository;
+        this.messageRepository = messageRepository;
+        this.dashboardExecutor = dashboardExecutor;
+    }
+
+    /**
+     * Loads the dashboard for a group member.
+     *
+     * @throws GroupPermissionException if the user is not an active member
+     */
+    public GroupDashboardResponseDto getDashboard(@NotNull Long groupId, @NotNull User user, DashboardLimits limits) {
+        Group group = groupService.getGroupById(groupId);
+        GroupMembership membership = membershipRepository.findByUserAndGroupAndIsActiveTrue(user, group)
+            .orElseThrow(() -> new GroupPermissionException("Access denied - not a member of this group"));
+
+        CompletableFuture<List<MemberPreviewDto>> members = section(() ->
+            membershipRepository.findMemberPreviews(groupId, PageRequest.of(0, limits.members())));
+        CompletableFuture<List<BetPreviewDto>> bets = section(() ->
+            betRepository.findBetPreviews(groupId, PageRequest.of(0, limits.bets())));
+        CompletableFuture<List<MessagePreviewDto>> messages = section(() ->
+            messageRepository.findMessagePreviews(groupId, PageRequest.of(0, limits.messages())));
+        CompletableFuture<MessageStats> stats = section(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            return new MessageStats(
+                messageRepository.countMessagesByGroup(group),
+                messageRepository.countMessagesByGroupBetween(group, LocalDate.now().atStartOfDay(), now));
+        });
+
+        try {
+            CompletableFuture.allOf(members, bets, messages, stats)
+                .orTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to load dashboard for group " + groupId, cause);
+        }
+
+        return new GroupDashboardResponseDto(
+            toGroupResponse(group, membership),
+            members.join(),
+            bets.join(),
+            messages.join(),
+            stats.join()
+        );
+    }
+
+    private <T> CompletableFuture<T> section(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, dashboardExecutor);
+    }
+
+    private GroupResponseDto toGroupResponse(Group group, GroupMembership membership) {
+        GroupResponseDto response = new GroupResponseDto();
+        response.setId(group.getId());
+        response.setGroupName(group.getGroupName());
+        response.setDescription(group.getDescription());
+        response.setGroupPictureUrl(group.getGroupPictureUrl());
+        response.setPrivacy(group.getPrivacy());
+        response.setMemberCount(group.getMemberCount());
+        response.setMaxMembers(group.getMaxMembers());
+        response.setIsActive(group.getIsActive());
+        response.setAutoApproveMembers(group.getAutoApproveMembers());
+        response.setTotalMessages(group.getTotalMessages());
+        response.setLastMessageAt(group.getLastMessageAt());
+        response.setCreatedAt(group.getCreatedAt());
+        response.setUpdatedAt(group.getUpdatedAt());
+        response.setIsUserMember(true);
+        response.setUserRole(membership.getRole().name());
+        return response;
+    }
+
+    /**
+     * Per-section result limits, clamped to 1..{@value #MAX_SECTION_LIMIT}.
+     */
+    public record DashboardLimits(int members, int bets, int messages) {
+        public DashboardLimits {
+            members = clamp(members);
+            bets = clamp(bets);
+            messages = clamp(messages);
+        }
+
+        private static int clamp(int limit) {
+            return Math.min(Math.max(limit, 1), MAX_SECTION_LIMIT);
+        }
+    }
+}
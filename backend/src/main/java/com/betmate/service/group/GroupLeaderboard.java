@@ -0,0 +1,107 @@
+package com.betmate.service.group;
+
+import com.betmate.dto.group.response.LeaderboardEntryDto;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * In-memory ranked view of one group's leaderboard.
+ *
+ * Standings live in a TreeSet ordered by net winnings, then wins, then user id, so applying a
+ * settlement is O(log n). Reads go through an array snapshot of that order which is rebuilt
+ * lazily on the first read after a change; top-N is a prefix of it and a member's rank is a
+ * binary search.
+ */
+public class GroupLeaderboard {
+
+    static final Comparator<LeaderboardEntryDto> RANKING = Comparator
+        .comparing(LeaderboardEntryDto::netWinnings, Comparator.reverseOrder())
+        .thenComparing(LeaderboardEntryDto::wins, Comparator.reverseOrder())
+        .thenComparing(LeaderboardEntryDto::userId);
+
+    private final TreeSet<LeaderboardEntryDto> ordered = new TreeSet<>(RANKING);
+    private final Map<Long, LeaderboardEntryDto> byUserId = new HashMap<>();
+    private LeaderboardEntryDto[] snapshot;
+
+    public GroupLeaderboard(Collection<LeaderboardEntryDto> standings) {
+        for (LeaderboardEntryDto standing : standings) {
+            ordered.add(standing);
+            byUserId.put(standing.userId(), standing);
+        }
+    }
+
+    /**
+     * Folds one settled result into the member's standing, mirroring the SQL upsert.
+     */
+    public synchronized void apply(Long userId, String username, BigDecimal net, boolean won) {
+        LeaderboardEntryDto current = byUserId.get(userId);
+        LeaderboardEntryDto updated;
+        if (current == null) {
+            updated = new LeaderboardEntryDto(0, userId, username, net,
+                won ? 1 : 0, won ? 0 : 1, won ? 1 : -1, won ? 1 : 0);
+        } else {
+            ordered.remove(current);
+            int streak = won
+                ? (current.currentStreak() > 0 ? current.currentStreak() + 1 : 1)
+                : (current.currentStreak() < 0 ? current.currentStreak() - 1 : -1);
+            updated = new LeaderboardEntryDto(0, userId, username,
+                current.netWinnings().add(net),
+                current.wins() + (won ? 1 : 0),
+                current.losses() + (won ? 0 : 1),
+                streak,
+                Math.max(current.longestWinStreak(), streak));
+        }
+        ordered.add(updated);
+        byUserId.put(userId, updated);
+        snapshot = null;
+    }
+
+    /**
+     * Returns the first {@code limit} standings with ranks assigned.
+     */
+    public List<LeaderboardEntryDto> top(int limit) {
+        LeaderboardEntryDto[] view = view();
+        int size = Math.min(limit, view.length);
+        LeaderboardEntryDto[] ranked = new LeaderboardEntryDto[size];
+        for (int i = 0; i < size; i++) {
+            ranked[i] = view[i].withRank(i + 1);
+        }
+        return List.of(ranked);
+    }
+
+    /**
+     * Returns a member's ranked standing, or empty if they have no settled bets here.
+     */
+    public Optional<LeaderboardEntryDto> standingOf(Long userId) {
+        LeaderboardEntryDto standing;
+        LeaderboardEntryDto[] view;
+        synchronized (this) {
+            standing = byUserId.get(userId);
+            view = view();
+        }
+        if (standing == null) {
+            return Optional.empty();
+        }
+        int index = Arrays.binarySearch(view, standing, RANKING);
+        return index >= 0 ? Optional.of(standing.withRank(index + 1)) : Optional.empty();
+    }
+
+    public synchronized int size() {
+        return byUserId.size();
+    }
+
+    private synchronized LeaderboardEntryDto[] view() {
+        if (snapshot == null) {
+            snapshot = ordered.toArray(new LeaderboardEntryDto[0]);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,366 @@
+package com.betmate.service.group;
+
+import com.betmate.dto.group.response.GroupLeaderboardResponseDto;
+import com.betmate.dto.group.response.LeaderboardEntryDto;
+import com.betmate.entity.betting.Bet;
+import com.betmate.entity.betting.BetParticipation;
+import com.betmate.entity.betting.BetParticipation.ParticipationStatus;
+import com.betmate.entity.group.Group;
+import com.betmate.entity.group.GroupLeaderboardEntry;
+import com.betmate.entity.user.User;
+import com.betmate.exception.group.GroupNotFoundException;
+import com.betmate.exception.group.GroupPermissionException;
+import com.betmate.repository.betting.BetParticipationRepository;
+import com.betmate.repository.group.GroupLeaderboardRepository;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.group.GroupRepository;
+import com.betmate.repository.user.UserRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import com.betmate.util.TransactionUtil;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.validation.annotation.Validated;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Service maintaining per-group leaderboards.
+ *
+ * Standings are stored in group_leaderboard and updated incrementally by the settlement path;
+ * each group's ranked view is cached in memory on first read and patched after every commit,
+ * so top-N and "my rank" never aggregate bet history. A view loaded while a settlement for its
+ * group was in flight may or may not include it, so such a load is served but not cached. The
+ * cache is bounded by an access-ordered map, other instances drop a group's view through the
+ * {@link CacheInvalidationBus}, and all views are cleared periodically in case a message is lost.
+ */
+@Service
+@Validated
+@Transactional(readOnly = true)
+public class GroupLeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupLeaderboardService.class);
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final String CACHE_NAME = "group-leaderboard";
+
+    private final GroupLeaderboardRepository leaderboardRepository;
+    private final BetParticipationRepository participationRepository;
+    private final GroupMembershipRepository membershipRepository;
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    // Guarded by itself, together with pendingSettlements and generation
+    private final Map<Long, GroupLeaderboard> boards;
+    // groupId -> settlement transactions that wrote standings and have not completed yet
+    private final Map<Long, Integer> pendingSettlements = new HashMap<>();
+    // Bumped whenever a settlement completes or views are dropped; a load that raced one is not cached
+    private long generation;
+
+    @Autowired
+    public GroupLeaderboardService(GroupLeaderboardRepository leaderboardRepository,
+                                   BetParticipationRepository participationRepository,
+                                   GroupMembershipRepository membershipRepository,
+                                   GroupRepository groupRepository,
+                                   UserRepository userRepository,
+                                   CacheInvalidationBus invalidationBus,
+                                   @Value("${group.leaderboard.max-cached-groups:10000}") int maxCachedGroups) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.participationRepository = participationRepository;
+        this.membershipRepository = membershipRepository;
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.boards = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GroupLeaderboard> eldest) {
+                return size() > maxCachedGroups;
+            }
+        };
+        invalidationBus.register(CACHE_NAME, groupId -> {
+            if (groupId != null) {
+                drop(groupId);
+            } else {
+                dropAll();
+            }
+        });
+    }
+
+    /**
+     * Records the settled participations of a bet. Called inside the settlement transaction;
+     * the cached view is only patched once that transaction commits.
+     */
+    @Transactional
+    public void recordSettlements(@NotNull Bet bet, @NotNull Collection<BetParticipation> participations) {
+        Long groupId = bet.getGroup().getId();
+        LocalDateTime now = LocalDateTime.now();
+        List<SettledResult> results = new ArrayList<>();
+
+        for (BetParticipation participation : participations) {
+            if (!isRanked(participation.getStatus(), participation.getBetAmount())) {
+                continue;
+            }
+            boolean won = participation.getStatus() == ParticipationStatus.WON;
+            BigDecimal net = netResult(won, participation.getBetAmount(),
+                participation.getActualWinnings(), participation.getPotentialWinnings());
+            User user = participation.getUser();
+            leaderboardRepository.recordResult(groupId, user.getId(), net, won ? 1 : 0, now);
+            results.add(new SettledResult(user.getId(), user.getUsername(), net, won));
+        }
+
+        if (!results.isEmpty()) {
+            beginSettlement(groupId);
+            TransactionUtil.afterCompletion(committed -> completeSettlement(groupId, results, committed));
+        }
+    }
+
+    /**
+     * Gets the top of a group's leaderboard and the caller's own standing.
+     *
+     * @throws GroupPermissionException if the user is not an active member
+     */
+    public GroupLeaderboardResponseDto getLeaderboard(@NotNull Long groupId, @NotNull User user, int limit) {
+        Group group = groupRepository.findById(groupId)
+            .orElseThrow(() -> new GroupNotFoundException("Group not found: " + groupId));
+        if (!membershipRepository.existsByUserAndGroupAndIsActiveTrue(user, group)) {
+            throw new GroupPermissionException("Access denied - not a member of this group");
+        }
+
+        GroupLeaderboard board = board(groupId);
+        int clamped = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return new GroupLeaderboardResponseDto(
+            groupId,
+            board.top(clamped),
+            board.standingOf(user.getId()).orElse(null),
+            board.size()
+        );
+    }
+
+    /**
+     * Rebuilds every leaderboard from settled bet history in one streaming pass.
+     * Rows arrive ordered by (group, user, settlement time), so each standing is complete
+     * as soon as the key changes and streaks replay in the order they happened.
+     *
+     * @return number of standings written
+     */
+    @Transactional
+    public int rebuildFromHistory() {
+        List<GroupLeaderboardEntry> entries = new ArrayList<>();
+        try (Stream<Object[]> history = participationRepository.streamSettledHistory()) {
+            HistoryAccumulator accumulator = null;
+            for (Object[] row : (Iterable<Object[]>) history::iterator) {
+                Long groupId = (Long) row[0];
+                Long userId = (Long) row[1];
+                if (accumulator == null || !accumulator.matches(groupId, userId)) {
+                    if (accumulator != null) {
+                        entries.add(accumulator.toEntry());
+                    }
+                    accumulator = new HistoryAccumulator(groupId, userId);
+                }
+                boolean won = row[2] == ParticipationStatus.WON;
+                accumulator.add(won, netResult(won, (BigDecimal) row[3], (BigDecimal) row[4], (BigDecimal) row[5]),
+                    (LocalDateTime) row[6]);
+            }
+            if (accumulator != null) {
+                entries.add(accumulator.toEntry());
+            }
+        }
+
+        // The streaming result set must be closed before the connection can write again
+        leaderboardRepository.deleteAllEntries();
+        leaderboardRepository.saveAll(entries);
+        TransactionUtil.afterCommit(() -> {
+            dropAll();
+            invalidationBus.publishAll(CACHE_NAME);
+        });
+
+        logger.info("Rebuilt group leaderboards from history: {} standings", entries.size());
+        return entries.size();
+    }
+
+    /**
+     * Backfills leaderboards on first start after deployment, when the table is still empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        try {
+            if (leaderboardRepository.count() == 0) {
+                rebuildFromHistory();
+            }
+        } catch (Exception e) {
+            // Keep the table empty so the backfill is retried on the next start
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            logger.error("Failed to backfill group leaderboards: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Drops a group's cached view on every instance once the surrounding transaction commits,
+     * e.g. after the group is deleted.
+     */
+    public void evict(@NotNull Long groupId) {
+        TransactionUtil.afterCommit(() -> {
+            drop(groupId);
+            invalidationBus.publish(CACHE_NAME, groupId);
+        });
+    }
+
+    /**
+     * Clears every cached view on this instance, bounding how long one can stay stale when a
+     * settlement's invalidation from another instance was lost.
+     */
+    @Scheduled(fixedDelayString = "${cache.local.refresh-interval-ms:600000}",
+               initialDelayString = "${cache.local.refresh-interval-ms:600000}")
+    public void dropAll() {
+        synchronized (boards) {
+            generation++;
+            boards.clear();
+        }
+    }
+
+    /**
+     * Net effect of one settled participation on a member's winnings.
+     * Winners resolved by selection have no recorded payout yet, so their expected payout is used.
+     */
+    static BigDecimal netResult(boolean won, BigDecimal betAmount, BigDecimal actualWinnings, BigDecimal potentialWinnings) {
+        if (!won) {
+            return betAmount.negate();
+        }
+        BigDecimal payout = actualWinnings != null && actualWinnings.signum() > 0
+            ? actualWinnings
+            : Objects.requireNonNullElse(potentialWinnings, betAmount);
+        return payout.subtract(betAmount);
+    }
+
+    private static boolean isRanked(ParticipationStatus status, BigDecimal betAmount) {
+        return (status == ParticipationStatus.WON || status == ParticipationStatus.LOST)
+            && betAmount != null && betAmount.signum() > 0;
+    }
+
+    private GroupLeaderboard board(Long groupId) {
+        long startedAt;
+        synchronized (boards) {
+            GroupLeaderboard board = boards.get(groupId);
+            if (board != null) {
+                return board;
+            }
+            startedAt = generation;
+        }
+
+        // The query runs outside the lock. A load that overlapped a settlement of this group
+        // can't tell whether it read that settlement, so it is only cached if none was in flight
+        // and none completed meanwhile; otherwise the patch would be lost or applied twice
+        GroupLeaderboard loaded = new GroupLeaderboard(leaderboardRepository.findStandingsByGroupId(groupId));
+        synchronized (boards) {
+            GroupLeaderboard cached = boards.get(groupId);
+            if (cached != null) {
+                return cached;
+            }
+            if (generation == startedAt && !pendingSettlements.containsKey(groupId)) {
+                boards.put(groupId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void beginSettlement(Long groupId) {
+        synchronized (boards) {
+            pendingSettlements.merge(groupId, 1, Integer::sum);
+        }
+    }
+
+    private void completeSettlement(Long groupId, List<SettledResult> results, boolean committed) {
+        synchronized (boards) {
+            generation++;
+            pendingSettlements.computeIfPresent(groupId, (id, count) -> count > 1 ? count - 1 : null);
+            GroupLeaderboard board = boards.get(groupId);
+            if (committed && board != null) {
+                for (SettledResult result : results) {
+                    board.apply(result.userId(), result.username(), result.net(), result.won());
+                }
+            }
+        }
+        if (committed) {
+            invalidationBus.publish(CACHE_NAME, groupId);
+        }
+    }
+
+    private void drop(Long groupId) {
+        synchronized (boards) {
+            generation++;
+            boards.remove(groupId);
+        }
+    }
+
+    private record SettledResult(Long userId, String username, BigDecimal net, boolean won) {}
+
+    /**
+     * Folds one (group, user) run of history rows into a standing.
+     */
+    private final class HistoryAccumulator {
+        private final Long groupId;
+        private final Long userId;
+        private BigDecimal net = BigDecimal.ZERO;
+        private int wins;
+        private int losses;
+        private int streak;
+        private int longestWinStreak;
+        private LocalDateTime lastSettledAt;
+
+        HistoryAccumulator(Long groupId, Long userId) {
+            this.groupId = groupId;
+            this.userId = userId;
+        }
+
+        boolean matches(Long groupId, Long userId) {
+            return this.groupId.equals(groupId) && this.userId.equals(userId);
+        }
+
+        void add(boolean won, BigDecimal result, LocalDateTime settledAt) {
+            net = net.add(result);
+            if (won) {
+                wins++;
+                streak = streak > 0 ? streak + 1 : 1;
+                longestWinStreak = Math.max(longestWinStreak, streak);
+            } else {
+                losses++;
+                streak = streak < 0 ? streak - 1 : -1;
+            }
+            if (settledAt != null) {
+                lastSettledAt = settledAt;
+            }
+        }
+
+        GroupLeaderboardEntry toEntry() {
+            GroupLeaderboardEntry entry = new GroupLeaderboardEntry();
+            entry.setGroup(groupRepository.getReferenceById(groupId));
+            entry.setUser(userRepository.getReferenceById(userId));
+            entry.setNetWinnings(net);
+            entry.setWins(wins);
+            entry.setLosses(losses);
+            entry.setCurrentStreak(streak);
+            entry.setLongestWinStreak(longestWinStreak);
+            entry.setLastSettledAt(lastSettledAt);
+            return entry;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.betmate.service.group;
 
+import com.betmate.dto.group.response.MemberPreviewDto;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.group.GroupMembership;
 import com.betmate.entity.user.User;
 import com.betmate.exception.group.GroupMembershipException;
 import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.service.user.FriendSuggestionService;
 import com.betmate.service.user.UserService;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -25,20 +30,25 @@ import java.util.Optional;
 @Transactional
 public class GroupMembershipService {
 
+    private static final int MAX_MEMBER_PAGE_SIZE = 100;
+
     private final GroupMembershipRepository membershipRepository;
     private final GroupService groupService;
     private final GroupPermissionService permissionService;
     private final UserService userService;
+    private final FriendSuggestionService friendSuggestionService;
 
     @Autowired
     public GroupMembershipService(GroupMembershipRepository membershipRepository, 
                                   GroupService groupService,
                                   GroupPermissionService permissionService,
-                                  UserService userService) {
+                                  UserService userService,
+                                  FriendSuggestionService friendSuggestionService) {
         this.membershipRepository = membershipRepository;
         this.groupService = groupService;
         this.permissionService = permissionService;
         this.userService = userService;
+        this.friendSuggestionService = friendSuggestionService;
     }
 
     /**
@@ -56,12 +66,14 @@ public class GroupMembershipService {
         membership.setRole(role);
         membership.setIsActive(true);
         
-        GroupMembership savedMembership = membershipRepository.save(membership);
-        
-        // Update group member count
-        long memberCount = membershipRepository.countActiveMembers(group);
-        groupService.updateMemberCount(group.getId(), (int) memberCount);
+        // Reserve a slot first: the conditional increment enforces maxMembers and locks the
+        // group row, so concurrent joins cannot overfill it. A failed save rolls it back.
+        if (!groupService.tryIncrementMemberCount(group.getId())) {
+            throw new GroupMembershipException("Group is full or no longer accepting members");
+        }
         
+        GroupMembership savedMembership = membershipRepository.save(membership);
+        friendSuggestionService.markStale(List.of(user.getId()));
         return savedMembership;
     }
     
@@ -122,8 +134,8 @@ public class GroupMembershipService {
         }
         
         // Update group member count
-        long memberCount = membershipRepository.countActiveMembers(group);
-        groupService.updateMemberCount(group.getId(), (int) memberCount);
+        groupService.decrementMemberCount(group.getId());
+        friendSuggestionService.markStale(List.of(user.getId()));
     }
 
     /**
@@ -192,8 +204,8 @@ public class GroupMembershipService {
         }
         
         // Update group member count
-        long memberCount = membershipRepository.countActiveMembers(group);
-        groupService.updateMemberCount(group.getId(), (int) memberCount);
+        groupService.decrementMemberCount(group.getId());
+        friendSuggestionService.markStale(List.of(userToRemove.getId()));
     }
 
     /**
@@ -212,6 +224,21 @@ public class GroupMembershipService {
         return membershipRepository.findByGroupAndIsActiveTrue(group);
     }
 
+    /**
+     * Gets one page of a group's active members as flat projections, so large groups can be
+     * listed without loading membership, user or inventory entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<MemberPreviewDto> getGroupMemberPage(@NotNull Long groupId, int page, int size, MemberSort sort) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_MEMBER_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize);
+        MemberSort order = sort != null ? sort : MemberSort.ROLE;
+        if (order == MemberSort.ROLE) {
+            return membershipRepository.findMemberPageByRole(groupId, pageRequest);
+        }
+        return membershipRepository.findMemberPage(groupId, pageRequest.withSort(order.toSort()));
+    }
+
     /**
      * Gets all groups a user is a member of.
      */
@@ -350,6 +377,23 @@ public class GroupMembershipService {
             .orElseThrow(() -> new GroupMembershipException("User is not a member of this group"));
     }
 
+    /**
+     * Orderings for the paged member list. Each ends on id so pages are stable.
+     */
+    public enum MemberSort {
+        ROLE,       // Admins, then officers, then members; oldest first within a role
+        JOINED,     // Longest-standing members first
+        NEWEST;     // Most recently joined first
+
+        Sort toSort() {
+            return switch (this) {
+                case ROLE -> Sort.unsorted(); // Ordered by findMemberPageByRole itself
+                case JOINED -> Sort.by(Sort.Order.asc("joinedAt"), Sort.Order.asc("id"));
+                case NEWEST -> Sort.by(Sort.Order.desc("joinedAt"), Sort.Order.desc("id"));
+            };
+        }
+    }
+
 
 
 }
\ No newline at end of file
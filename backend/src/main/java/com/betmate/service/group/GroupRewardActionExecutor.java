@@ -0,0 +1,229 @@
+package com.betmate.service.group;
+
+import com.betmate.entity.group.GroupRewardAction;
+import com.betmate.repository.group.GroupRewardActionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes group reward actions once they are due.
+ *
+ * Each poll selects a batch of ready actions and claims it with one conditional update
+ * (PENDING to EXECUTING) under a fresh claim token, so concurrent pollers on other instances
+ * never run the same action twice. Claimed actions run on the bounded reward worker pool with
+ * the handler registered for their {@link GroupRewardAction.ActionType}, and each completes
+ * (EXECUTING to EXECUTED) in the handler's transaction. Overdue actions are expired in bulk and
+ * claims left behind by a stopped instance are released back to PENDING.
+ */
+@Service
+public class GroupRewardActionExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupRewardActionExecutor.class);
+
+    private static final int MAX_RESULT_LENGTH = 1000;
+
+    private final GroupRewardActionRepository groupRewardActionRepository;
+    private final Map<GroupRewardAction.ActionType, GroupRewardActionHandler> handlers;
+    private final Executor rewardActionExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final long staleClaimMs;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter expiredActions;
+
+    @Autowired
+    public GroupRewardActionExecutor(GroupRewardActionRepository groupRewardActionRepository,
+                                     List<GroupRewardActionHandler> handlers,
+                                     @Qualifier("rewardActionExecutor") Executor rewardActionExecutor,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${group.rewards.batch-size:50}") int batchSize,
+                                     @Value("${group.rewards.max-in-flight:100}") int maxInFlight,
+                                     @Value("${group.rewards.stale-claim-ms:600000}") long staleClaimMs) {
+        this.groupRewardActionRepository = groupRewardActionRepository;
+        this.handlers = indexHandlers(handlers);
+        this.rewardActionExecutor = rewardActionExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.staleClaimMs = staleClaimMs;
+
+        this.expiredActions = Counter.builder("group.rewards.expired")
+            .description("Group reward actions expired before they were executed")
+            .register(meterRegistry);
+        Gauge.builder("group.rewards.queue.depth", queueDepth, AtomicLong::get)
+            .description("Group reward actions ready for execution at the last poll")
+            .register(meterRegistry);
+        Gauge.builder("group.rewards.in.flight", inFlight, AtomicInteger::get)
+            .description("Claimed group reward actions queued or running on the worker pool")
+            .register(meterRegistry);
+    }
+
+    // ==========================================
+    // EXECUTION
+    // ==========================================
+
+    /**
+     * Claims ready actions and hands them to the worker pool, up to the in-flight limit.
+     */
+    @Scheduled(fixedDelayString = "${group.rewards.poll-interval-ms:5000}")
+    public void pollReadyActions() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            queueDepth.set(groupRewardActionRepository.countReadyActions(now));
+            if (handlers.isEmpty()) {
+                return;
+            }
+
+            int capacity = Math.min(batchSize, maxInFlight - inFlight.get());
+            while (capacity > 0) {
+                List<Long> readyIds = groupRewardActionRepository.findReadyActionIds(
+                    handlers.keySet(), now, PageRequest.of(0, capacity));
+                if (readyIds.isEmpty()) {
+                    return;
+                }
+
+                String claimToken = UUID.randomUUID().toString();
+                if (groupRewardActionRepository.claimActions(readyIds, claimToken, now) > 0) {
+                    groupRewardActionRepository
+                        .findByClaimTokenAndStatus(claimToken, GroupRewardAction.ActionStatus.EXECUTING)
+                        .forEach(this::submit);
+                }
+                if (readyIds.size() < capacity) {
+                    return;
+                }
+                capacity = Math.min(batchSize, maxInFlight - inFlight.get());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to poll group reward actions: {}", e.getMessage(), e);
+        }
+    }
+
+    private void submit(GroupRewardAction action) {
+        inFlight.incrementAndGet();
+        try {
+            rewardActionExecutor.execute(() -> {
+                try {
+                    execute(action);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            groupRewardActionRepository.releaseActions(List.of(action.getId()), LocalDateTime.now());
+            logger.warn("Reward worker pool is full; released action {}", action.getId());
+        }
+    }
+
+    private void execute(GroupRewardAction action) {
+        GroupRewardActionHandler handler = handlers.get(action.getActionType());
+        long startedAt = System.nanoTime();
+        String outcome;
+        try {
+            Boolean completed = transactionTemplate.execute(status -> {
+                String result = truncate(handler.execute(action));
+                if (groupRewardActionRepository.completeAction(action.getId(), action.getClaimToken(), result,
+                        LocalDateTime.now()) == 0) {
+                    // The claim went stale and was released, possibly reclaimed by another run; its outcome wins
+                    status.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+            outcome = Boolean.TRUE.equals(completed) ? "executed" : "abandoned";
+        } catch (Exception e) {
+            outcome = "failed";
+            groupRewardActionRepository.failAction(action.getId(), action.getClaimToken(),
+                truncate("Failed: " + e.getMessage()), LocalDateTime.now());
+            logger.warn("Group reward action {} ({}) failed: {}", action.getId(), action.getActionType(), e.getMessage());
+        }
+
+        Timer.builder("group.rewards.execution")
+            .description("Time to execute a group reward action")
+            .tag("type", action.getActionType().name())
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    // ==========================================
+    // MAINTENANCE
+    // ==========================================
+
+    /**
+     * Expires pending actions past their deadline and releases claims whose executor stopped
+     * before finishing them.
+     */
+    @Scheduled(fixedDelayString = "${group.rewards.expire-interval-ms:60000}")
+    public void expireOverdueActions() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int expired = groupRewardActionRepository.expireOverdueActions(now);
+            if (expired > 0) {
+                expiredActions.increment(expired);
+                logger.info("Expired {} overdue group reward actions", expired);
+            }
+
+            int released = groupRewardActionRepository.releaseStaleClaims(
+                now.minusNanos(TimeUnit.MILLISECONDS.toNanos(staleClaimMs)), now);
+            if (released > 0) {
+                logger.warn("Released {} stale group reward action claims", released);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to expire group reward actions: {}", e.getMessage(), e);
+        }
+    }
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    private static Map<GroupRewardAction.ActionType, GroupRewardActionHandler> indexHandlers(
+            List<GroupRewardActionHandler> handlers) {
+        Map<GroupRewardAction.ActionType, GroupRewardActionHandler> byType = new EnumMap<>(GroupRewardAction.ActionType.class);
+        for (GroupRewardActionHandler handler : handlers) {
+            GroupRewardActionHandler existing = byType.put(handler.getActionType(), handler);
+            if (existing != null) {
+                throw new IllegalStateException("Multiple handlers for reward action type " + handler.getActionType());
+            }
+        }
+        return Collections.unmodifiableMap(byType);
+    }
+
+    private static String truncate(String result) {
+        if (result == null || result.length() <= MAX_RESULT_LENGTH) {
+            return result;
+        }
+        return result.substring(0, MAX_RESULT_LENGTH);
+    }
+}
@@ -0,0 +1,23 @@
+package com.betmate.service.group;
+
+import com.betmate.entity.group.GroupRewardAction;
+
+/**
+ * Applies the effect of one type of {@link GroupRewardAction}.
+ *
+ * Implementations are picked up by {@link GroupRewardActionExecutor}; actions of a type with
+ * no handler stay pending until they expire.
+ */
+public interface GroupRewardActionHandler {
+
+    GroupRewardAction.ActionType getActionType();
+
+    /**
+     * Applies the action. Runs in the same transaction that marks it executed, so throwing
+     * rolls back the handler's writes and marks the action failed.
+     *
+     * @param action the claimed action, detached from the persistence context
+     * @return execution result message stored on the action
+     */
+    String execute(GroupRewardAction action);
+}
@@ -0,0 +1,43 @@
+package com.betmate.service.group;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for scheduled group maintenance such as:
+ * - Repairing member counts that drifted from the active memberships
+ */
+@Service
+public class GroupScheduledTaskService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupScheduledTaskService.class);
+
+    private final GroupService groupService;
+
+    @Autowired
+    public GroupScheduledTaskService(GroupService groupService) {
+        this.groupService = groupService;
+    }
+
+    /**
+     * Scheduled task to reconcile member counts with active memberships.
+     * Join and leave adjust the count incrementally, so this only catches drift from
+     * seed data, manual edits or writes that bypassed the membership service.
+     */
+    @Scheduled(fixedDelayString = "${group.scheduling.reconcile-member-counts-interval-ms:3600000}") // Default: 1 hour
+    public void reconcileMemberCounts() {
+        try {
+            int repaired = groupService.reconcileMemberCounts();
+            if (repaired > 0) {
+                logger.warn("Repaired member count drift in {} groups", repaired);
+            } else {
+                logger.debug("No member count drift found");
+            }
+        } catch (Exception e) {
+            logger.error("Failed to reconcile group member counts: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package com.betmate.service.group;
 
 import com.betmate.dto.group.request.GroupUpdateRequestDto;
+import com.betmate.dto.group.response.GroupSummaryResponseDto;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.user.User;
 import com.betmate.exception.group.GroupNotFoundException;
 import com.betmate.repository.group.GroupRepository;
+import com.betmate.service.search.SearchIndexService;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Core group management service handling CRUD operations and basic group data.
@@ -24,11 +33,17 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class GroupService {
 
+    private static final int MAX_DISCOVERY_PAGE_SIZE = 100;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final GroupRepository groupRepository;
+    private final SearchIndexService searchIndexService;
 
     @Autowired
-    public GroupService(GroupRepository groupRepository) {
+    public GroupService(GroupRepository groupRepository, SearchIndexService searchIndexService) {
         this.groupRepository = groupRepository;
+        this.searchIndexService = searchIndexService;
     }
 
     /**
@@ -50,10 +65,33 @@ public class GroupService {
      * Searches groups by name or description.
      */
     public List<Group> searchGroups(@NotNull String searchTerm) {
+        return searchGroups(searchTerm, DEFAULT_SEARCH_LIMIT);
+    }
+
+    /**
+     * Searches groups by name or description, most relevant first.
+     * Uses the in-memory n-gram index once built, so prefixes and small typos match.
+     */
+    public List<Group> searchGroups(@NotNull String searchTerm, int limit) {
         if (searchTerm.trim().isEmpty()) {
             return List.of();
         }
-        return groupRepository.searchGroups(searchTerm.trim());
+        int maxResults = Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+        if (!searchIndexService.isReady()) {
+            return groupRepository.searchGroups(searchTerm.trim()).stream().limit(maxResults).toList();
+        }
+
+        List<Long> rankedIds = searchIndexService.searchGroupIds(searchTerm, maxResults);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Group> groupsById = groupRepository.findAllById(rankedIds).stream()
+            .filter(group -> group.getDeletedAt() == null && Boolean.TRUE.equals(group.getIsActive()))
+            .collect(Collectors.toMap(Group::getId, Function.identity()));
+        return rankedIds.stream()
+            .map(groupsById::get)
+            .filter(group -> group != null)
+            .toList();
     }
 
     /**
@@ -70,6 +108,18 @@ public class GroupService {
         return groupRepository.findPublicGroups();
     }
 
+    /**
+     * Retrieves one page of public groups the user has not joined.
+     * Cost is bounded by the page size rather than the number of public groups.
+     */
+    public Page<GroupSummaryResponseDto> discoverPublicGroups(@NotNull Long userId, int page, int size,
+                                                            DiscoverySort sort) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_DISCOVERY_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize,
+            (sort != null ? sort : DiscoverySort.ACTIVITY).toSort());
+        return groupRepository.findDiscoverableGroups(userId, pageRequest);
+    }
+
     /**
      * Retrieves groups created by a specific user.
      */
@@ -152,6 +202,34 @@ public class GroupService {
         }
     }
 
+    /**
+     * Atomically adds one member to the count if the group still has room.
+     *
+     * @return false if the group is full, inactive or deleted
+     */
+    @Transactional
+    public boolean tryIncrementMemberCount(@NotNull Long groupId) {
+        return groupRepository.incrementMemberCount(groupId) == 1;
+    }
+
+    /**
+     * Atomically removes one member from the count.
+     */
+    @Transactional
+    public void decrementMemberCount(@NotNull Long groupId) {
+        groupRepository.decrementMemberCount(groupId);
+    }
+
+    /**
+     * Resets every member count that differs from the number of active memberships.
+     *
+     * @return number of groups repaired
+     */
+    @Transactional
+    public int reconcileMemberCounts() {
+        return groupRepository.reconcileMemberCounts();
+    }
+
     /**
      * Checks if group name is available.
      */
@@ -222,4 +300,22 @@ public class GroupService {
         Group.Privacy privacy
     ) {}
 
-}
\ No newline at end of file
+    /**
+     * Ranking options for group discovery. The id is always the final tie-breaker so pages are stable.
+     */
+    public enum DiscoverySort {
+        ACTIVITY,   // Most messages, then most recently active
+        RECENT,     // Most recently active
+        CAPACITY,   // Most open slots
+        NEWEST;     // Most recently created
+
+        Sort toSort() {
+            return switch (this) {
+                case ACTIVITY -> Sort.by(Sort.Order.desc("totalMessages"), Sort.Order.desc("lastMessageAt"), Sort.Order.desc("id"));
+                case RECENT -> Sort.by(Sort.Order.desc("lastMessageAt"), Sort.Order.desc("id"));
+                case CAPACITY -> JpaSort.unsafe(Sort.Direction.DESC, "g.maxMembers - g.memberCount").and(Sort.by(Sort.Order.desc("id")));
+                case NEWEST -> Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+            };
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package com.betmate.service.messaging;
 
 import com.betmate.dto.messaging.response.MessageResponseDto;
-import com.betmate.entity.group.Group;
 import com.betmate.entity.messaging.Message;
 import com.betmate.entity.messaging.Notification;
 import com.betmate.entity.user.User;
 import com.betmate.repository.user.UserRepository;
 import com.betmate.service.group.GroupMembershipService;
+import com.betmate.websocket.StompBroadcaster;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
@@ -27,25 +28,35 @@ public class MessageNotificationService {
 
     private final SimpMessageSendingOperations messagingTemplate;
     private final GroupMembershipService groupMembershipService;
+    private final StompBroadcaster broadcaster;
+    private final PresenceRegistry presenceRegistry;
+    private final OfflineDigestService offlineDigestService;
 
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     public MessageNotificationService(SimpMessageSendingOperations messagingTemplate,
-                                    GroupMembershipService groupMembershipService) {
+                                    GroupMembershipService groupMembershipService,
+                                    StompBroadcaster broadcaster,
+                                    PresenceRegistry presenceRegistry,
+                                    OfflineDigestService offlineDigestService) {
         this.messagingTemplate = messagingTemplate;
         this.groupMembershipService = groupMembershipService;
+        this.broadcaster = broadcaster;
+        this.presenceRegistry = presenceRegistry;
+        this.offlineDigestService = offlineDigestService;
     }
 
     /**
      * Broadcasts a new message to all group members via WebSocket.
+     * The response is serialized once regardless of how many destinations receive it.
      */
     public void broadcastMessage(Message message, MessageResponseDto messageResponse) {
         Long groupId = message.getGroup().getId();
         
         // Send to group topic for all connected group members
-        messagingTemplate.convertAndSend("/topic/group/" + groupId + "/messages", messageResponse);
+        broadcaster.broadcast(messageResponse, "/topic/group/" + groupId + "/messages");
         
         // Send push notifications to offline members
         notifyOfflineMembers(message);
@@ -57,7 +68,7 @@ public class MessageNotificationService {
     public void broadcastMessageEdit(Message message, MessageResponseDto messageResponse) {
         Long groupId = message.getGroup().getId();
         
-        messagingTemplate.convertAndSend("/topic/group/" + groupId + "/message-edited", messageResponse);
+        broadcaster.broadcast(messageResponse, "/topic/group/" + groupId + "/message-edited");
     }
 
     /**
@@ -66,7 +77,7 @@ public class MessageNotificationService {
     public void broadcastMessageDeletion(Long groupId, Long messageId, String deletedBy) {
         MessageDeletionNotification notification = new MessageDeletionNotification(messageId, deletedBy);
         
-        messagingTemplate.convertAndSend("/topic/group/" + groupId + "/message-deleted", notification);
+        broadcaster.broadcast(notification, "/topic/group/" + groupId + "/message-deleted");
     }
 
     /**
@@ -122,8 +133,13 @@ public class MessageNotificationService {
     /**
      * Sends a notification to a specific user via WebSocket.
      * Used by the NotificationService for real-time notification delivery.
+     * Users without a live session are skipped; they see the stored notification on next fetch.
      */
     public void sendNotificationToUser(Long userId, Notification notification) {
+        if (!presenceRegistry.isOnline(userId)) {
+            logger.debug("User {} is offline, deferring notification {}", userId, notification.getId());
+            return;
+        }
         try {
             // Find user by ID to get username for WebSocket routing
             User user = userRepository.findById(userId).orElse(null);
@@ -156,14 +172,24 @@ public class MessageNotificationService {
     }
 
     /**
-     * Sends notifications to offline group members about new messages.
+     * Queues the message into the pending digest of offline group members.
+     * Members are notified once per group when they reconnect instead of once per message.
+     * If the notification executor is saturated the digest update is dropped; the message
+     * itself is already stored and shows up in the group history on reconnect.
      */
     private void notifyOfflineMembers(Message message) {
-        // This would integrate with a push notification service
-        // For now, we'll just log that offline notifications should be sent
-        Group group = message.getGroup();
-        // TODO: Implement push notifications for offline users
-        // This could integrate with Firebase, APNs, or other push services
+        User sender = message.getSender();
+        try {
+            offlineDigestService.recordGroupMessage(
+                message.getGroup().getId(),
+                message.getId(),
+                sender != null ? sender.getId() : null,
+                sender != null ? sender.getUsername() : null
+            );
+        } catch (TaskRejectedException e) {
+            logger.warn("Dropped offline digest update for message {} in group {}: {}",
+                message.getId(), message.getGroup().getId(), e.getMessage());
+        }
     }
 
     // Notification DTOs
@@ -0,0 +1,140 @@
+package com.betmate.service.messaging;
+
+import com.betmate.entity.messaging.Notification;
+import com.betmate.entity.messaging.Notification.NotificationPriority;
+import com.betmate.entity.messaging.Notification.NotificationType;
+import com.betmate.entity.messaging.PendingMessageDigest;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.messaging.PendingMessageDigestRepository;
+import com.betmate.service.notification.NotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Queues group messages for members who are offline and delivers them as one digest
+ * notification per group when the member reconnects.
+ *
+ * Recording a message is a single upsert for all offline members, so a busy group
+ * costs one statement per message rather than one notification row per member.
+ */
+@Service
+public class OfflineDigestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OfflineDigestService.class);
+
+    private final PendingMessageDigestRepository digestRepository;
+    private final GroupMembershipRepository groupMembershipRepository;
+    private final PresenceRegistry presenceRegistry;
+    private final NotificationService notificationService;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    @Autowired
+    public OfflineDigestService(PendingMessageDigestRepository digestRepository,
+                                GroupMembershipRepository groupMembershipRepository,
+                                PresenceRegistry presenceRegistry,
+                                NotificationService notificationService,
+                                SimpMessageSendingOperations messagingTemplate) {
+        this.digestRepository = digestRepository;
+        this.groupMembershipRepository = groupMembershipRepository;
+        this.presenceRegistry = presenceRegistry;
+        this.notificationService = notificationService;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * Adds a group message to the pending digest of every offline member.
+     * Runs off the sending thread so message delivery never waits on it.
+     *
+     * @param senderId the sender, excluded from the digest; null for system messages
+     */
+    @Async("notificationExecutor")
+    @Transactional
+    public void recordGroupMessage(Long groupId, Long messageId, Long senderId, String senderName) {
+        try {
+            List<Long> memberIds = new ArrayList<>(groupMembershipRepository.findActiveMemberIdsByGroupId(groupId));
+            if (senderId != null) {
+                memberIds.remove(senderId);
+                // The sender has evidently caught up on this group
+                digestRepository.deleteByGroupIdAndUserId(groupId, senderId);
+            }
+            if (memberIds.isEmpty()) {
+                return;
+            }
+
+            Set<Long> online = presenceRegistry.filterOnline(memberIds);
+            memberIds.removeAll(online);
+            if (memberIds.isEmpty()) {
+                return;
+            }
+
+            int updated = digestRepository.upsertDigests(groupId, memberIds, messageId, senderName, LocalDateTime.now());
+            logger.debug("Queued message {} in group {} for {} offline members ({} rows)",
+                        messageId, groupId, memberIds.size(), updated);
+        } catch (Exception e) {
+            logger.error("Failed to queue offline digest for message {} in group {}: {}",
+                        messageId, groupId, e.getMessage());
+        }
+    }
+
+    /**
+     * Turns all pending digests of a user into notifications and pushes them over the user's queue.
+     *
+     * @return number of digests delivered
+     */
+    @Transactional
+    public int flushDigests(Long userId, String username) {
+        List<PendingMessageDigest> digests = digestRepository.findByUserIdWithGroup(userId);
+        if (digests.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> deliveredIds = new ArrayList<>(digests.size());
+        for (PendingMessageDigest digest : digests) {
+            Long groupId = digest.getGroup().getId();
+            Notification notification = notificationService.createNotification(
+                digest.getUser(),
+                "💬 New messages",
+                digest.toSummary(),
+                NotificationType.GROUP_MESSAGE,
+                NotificationPriority.NORMAL,
+                "/groups/" + groupId,
+                groupId,
+                "GROUP"
+            );
+            deliveredIds.add(digest.getId());
+
+            try {
+                messagingTemplate.convertAndSendToUser(
+                    username,
+                    "/queue/notifications",
+                    new MessageNotificationService.NotificationWebSocketDto(
+                        notification.getId(),
+                        notification.getType().name(),
+                        notification.getTitle(),
+                        notification.getContent(),
+                        notification.getActionUrl(),
+                        notification.getPriority().name(),
+                        notification.getCreatedAt()
+                    )
+                );
+            } catch (Exception e) {
+                // The notification row is saved, so the user still sees it in the inbox
+                logger.warn("Failed to push digest for group {} to user {}: {}", groupId, username, e.getMessage());
+            }
+        }
+
+        digestRepository.deleteByIdIn(deliveredIds);
+        logger.debug("Delivered {} message digests to user {}", deliveredIds.size(), username);
+        return deliveredIds.size();
+    }
+}
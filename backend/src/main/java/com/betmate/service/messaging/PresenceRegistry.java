@@ -0,0 +1,242 @@
+package com.betmate.service.messaging;
+
+import com.betmate.repository.group.GroupMembershipRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection-level registry of which users currently hold a WebSocket session.
+ *
+ * Session counts are kept per user in a local ConcurrentHashMap and mirrored to Redis
+ * as a hash per user (field = node id, value = session count) whose TTL is refreshed by
+ * a heartbeat. Any node can therefore answer "is user X online" without asking the node
+ * holding the connection, and keys of crashed nodes disappear when their TTL lapses.
+ *
+ * If Redis is unavailable the registry degrades to answering from local sessions only.
+ */
+@Service
+public class PresenceRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(PresenceRegistry.class);
+
+    private static final String KEY_PREFIX = "presence:user:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final GroupMembershipRepository groupMembershipRepository;
+    private final long ttlSeconds;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // userId -> number of sessions this node holds for the user
+    private final ConcurrentHashMap<Long, AtomicInteger> localSessions = new ConcurrentHashMap<>();
+
+    // sessionId -> userId, so disconnects are idempotent and need no user lookup
+    private final ConcurrentHashMap<String, Long> sessionOwners = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PresenceRegistry(StringRedisTemplate redisTemplate,
+                            GroupMembershipRepository groupMembershipRepository,
+                            @Value("${websocket.presence.registry-ttl-seconds:60}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.groupMembershipRepository = groupMembershipRepository;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    // ==========================================
+    // SESSION LIFECYCLE
+    // ==========================================
+
+    /**
+     * Registers a new WebSocket session for a user.
+     *
+     * @return the number of sessions this node now holds for the user
+     */
+    public int sessionOpened(String sessionId, Long userId) {
+        if (sessionOwners.putIfAbsent(sessionId, userId) != null) {
+            return getLocalSessionCount(userId);
+        }
+        int[] count = new int[1];
+        localSessions.compute(userId, (id, counter) -> {
+            AtomicInteger sessions = counter != null ? counter : new AtomicInteger();
+            count[0] = sessions.incrementAndGet();
+            return sessions;
+        });
+        writeSessionCount(userId, count[0]);
+        return count[0];
+    }
+
+    /**
+     * Removes a WebSocket session. Safe to call more than once for the same session.
+     *
+     * @return the number of sessions this node still holds for the user, or -1 if the session was unknown
+     */
+    public int sessionClosed(String sessionId) {
+        Long userId = sessionOwners.remove(sessionId);
+        if (userId == null) {
+            return -1;
+        }
+
+        int[] remaining = new int[1];
+        localSessions.computeIfPresent(userId, (id, counter) -> {
+            remaining[0] = counter.decrementAndGet();
+            return remaining[0] > 0 ? counter : null;
+        });
+        writeSessionCount(userId, remaining[0]);
+        return remaining[0];
+    }
+
+    /**
+     * Gets the user that owns a session, if known.
+     */
+    public Long getSessionOwner(String sessionId) {
+        return sessionOwners.get(sessionId);
+    }
+
+    // ==========================================
+    // QUERIES
+    // ==========================================
+
+    /**
+     * Checks if a user has at least one live session on any node.
+     */
+    public boolean isOnline(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (localSessions.containsKey(userId)) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key(userId)));
+        } catch (DataAccessException e) {
+            logger.debug("Redis unavailable for presence lookup of user {}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Filters the given users down to those that are online, using one pipelined Redis round trip.
+     */
+    public Set<Long> filterOnline(Collection<Long> userIds) {
+        Set<Long> online = new HashSet<>();
+        List<Long> remote = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (localSessions.containsKey(userId)) {
+                online.add(userId);
+            } else {
+                remote.add(userId);
+            }
+        }
+        if (remote.isEmpty()) {
+            return online;
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : remote) {
+                    stringConnection.exists(key(userId));
+                }
+                return null;
+            });
+            for (int i = 0; i < remote.size(); i++) {
+                Object result = results.get(i);
+                if (Boolean.TRUE.equals(result) || (result instanceof Long count && count > 0)) {
+                    online.add(remote.get(i));
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.debug("Redis unavailable for bulk presence lookup: {}", e.getMessage());
+        }
+        return online;
+    }
+
+    /**
+     * Gets the IDs of the active members of a group that are currently online.
+     */
+    public Set<Long> getOnlineMembers(Long groupId) {
+        return filterOnline(groupMembershipRepository.findActiveMemberIdsByGroupId(groupId));
+    }
+
+    /**
+     * Gets the number of sessions this node holds for a user.
+     */
+    public int getLocalSessionCount(Long userId) {
+        AtomicInteger counter = localSessions.get(userId);
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * Gets the number of users with at least one session on this node.
+     */
+    public int getLocalOnlineUserCount() {
+        return localSessions.size();
+    }
+
+    // ==========================================
+    // REDIS MIRROR
+    // ==========================================
+
+    /**
+     * Refreshes the Redis TTL for every user connected to this node in a single pipeline.
+     * Runs at a third of the TTL so a single missed beat does not drop anyone.
+     */
+    @Scheduled(fixedDelayString = "#{${websocket.presence.registry-ttl-seconds:60} * 1000 / 3}")
+    public void heartbeat() {
+        if (localSessions.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> snapshot = new HashMap<>();
+        localSessions.forEach((userId, counter) -> snapshot.put(userId, counter.get()));
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                snapshot.forEach((userId, count) -> {
+                    stringConnection.hSet(key(userId), nodeId, String.valueOf(count));
+                    stringConnection.expire(key(userId), ttlSeconds);
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            logger.warn("Failed to refresh presence heartbeats in Redis: {}", e.getMessage());
+        }
+    }
+
+    private void writeSessionCount(Long userId, int count) {
+        try {
+            String key = key(userId);
+            if (count > 0) {
+                redisTemplate.opsForHash().put(key, nodeId, String.valueOf(count));
+                redisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+            } else {
+                redisTemplate.opsForHash().delete(key, nodeId);
+            }
+        } catch (DataAccessException e) {
+            logger.debug("Failed to mirror session count for user {} to Redis: {}", userId, e.getMessage());
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,312 @@
+package com.betmate.service.messaging;
+
+import com.betmate.entity.group.Group;
+import com.betmate.entity.user.User;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.user.FriendEdgeRepository;
+import com.betmate.repository.user.UserRepository;
+import com.betmate.websocket.MessageWebSocketController.TypingIndicatorDto;
+import com.betmate.websocket.MessageWebSocketController.UserPresenceDto;
+import com.betmate.websocket.MessageWebSocketController.UserPresenceDto.PresenceStatus;
+import com.betmate.websocket.StompBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service that throttles typing indicators and coalesces presence updates.
+ *
+ * Typing frames are forwarded at most once per throttle window per (group, user).
+ * Presence is tracked in memory with heartbeat expiry, and changes are published
+ * periodically as batched diff frames to the user's friends and shared groups
+ * instead of to every connected user.
+ */
+@Service
+public class PresenceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PresenceService.class);
+
+    private final StompBroadcaster broadcaster;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final UserRepository userRepository;
+    private final FriendEdgeRepository friendEdgeRepository;
+    private final GroupMembershipRepository groupMembershipRepository;
+
+    private final long typingThrottleMs;
+    private final long heartbeatTimeoutMs;
+
+    // username -> current presence state
+    private final ConcurrentHashMap<String, PresenceEntry> presence = new ConcurrentHashMap<>();
+
+    // username -> latest status not yet published; later changes overwrite earlier ones
+    private final ConcurrentHashMap<String, PresenceStatus> pendingChanges = new ConcurrentHashMap<>();
+
+    // "groupId:username" -> time the last typing frame was forwarded
+    private final ConcurrentHashMap<String, Long> lastTypingFrame = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PresenceService(StompBroadcaster broadcaster,
+                           SimpMessageSendingOperations messagingTemplate,
+                           UserRepository userRepository,
+                           FriendEdgeRepository friendEdgeRepository,
+                           GroupMembershipRepository groupMembershipRepository,
+                           @Value("${websocket.presence.typing-throttle-ms:1000}") long typingThrottleMs,
+                           @Value("${websocket.presence.heartbeat-timeout-ms:90000}") long heartbeatTimeoutMs) {
+        this.broadcaster = broadcaster;
+        this.messagingTemplate = messagingTemplate;
+        this.userRepository = userRepository;
+        this.friendEdgeRepository = friendEdgeRepository;
+        this.groupMembershipRepository = groupMembershipRepository;
+        this.typingThrottleMs = typingThrottleMs;
+        this.heartbeatTimeoutMs = heartbeatTimeoutMs;
+    }
+
+    // ==========================================
+    // TYPING INDICATORS
+    // ==========================================
+
+    /**
+     * Forwards a typing indicator to the group unless one was already sent for this
+     * user and group within the throttle window. Stop-typing frames are always forwarded.
+     *
+     * @return true if the frame was broadcast
+     */
+    public boolean handleTyping(Long groupId, TypingIndicatorDto indicator) {
+        String username = indicator.getUsername();
+        String key = groupId + ":" + username;
+        long now = System.currentTimeMillis();
+
+        recordHeartbeat(username);
+
+        if (!indicator.isTyping()) {
+            lastTypingFrame.remove(key);
+        } else {
+            boolean[] forward = new boolean[1];
+            lastTypingFrame.compute(key, (k, last) -> {
+                if (last != null && now - last < typingThrottleMs) {
+                    return last;
+                }
+                forward[0] = true;
+                return now;
+            });
+            if (!forward[0]) {
+                return false;
+            }
+        }
+
+        broadcaster.broadcast(indicator, "/topic/group/" + groupId + "/typing");
+        return true;
+    }
+
+    // ==========================================
+    // PRESENCE TRACKING
+    // ==========================================
+
+    /**
+     * Records an explicit presence status from the client.
+     * A null status is treated as a plain heartbeat.
+     */
+    public void updatePresence(String username, PresenceStatus status) {
+        if (username == null) {
+            return;
+        }
+        if (status == null) {
+            recordHeartbeat(username);
+            return;
+        }
+        if (status == PresenceStatus.OFFLINE) {
+            markOffline(username);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        PresenceEntry previous = presence.put(username, new PresenceEntry(status, now));
+        if (previous == null || previous.status() != status) {
+            pendingChanges.put(username, status);
+        }
+    }
+
+    /**
+     * Refreshes the heartbeat of a user, marking them online if they were not tracked.
+     */
+    public void recordHeartbeat(String username) {
+        if (username == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        PresenceEntry previous = presence.putIfAbsent(username, new PresenceEntry(PresenceStatus.ONLINE, now));
+        if (previous == null) {
+            pendingChanges.put(username, PresenceStatus.ONLINE);
+        } else if (now - previous.lastHeartbeatMillis() > 1000) {
+            // Coarse refresh avoids a map write for every inbound frame
+            presence.replace(username, previous, previous.withHeartbeat(now));
+        }
+    }
+
+    /**
+     * Marks a user offline and queues the change for publication.
+     */
+    public void markOffline(String username) {
+        if (username == null) {
+            return;
+        }
+        if (presence.remove(username) != null) {
+            pendingChanges.put(username, PresenceStatus.OFFLINE);
+        }
+        lastTypingFrame.keySet().removeIf(key -> key.endsWith(":" + username));
+    }
+
+    /**
+     * Checks if a user currently has a live presence entry.
+     */
+    public boolean isOnline(String username) {
+        PresenceEntry entry = presence.get(username);
+        return entry != null && entry.status() != PresenceStatus.OFFLINE;
+    }
+
+    /**
+     * Gets the current presence status of a user.
+     */
+    public PresenceStatus getStatus(String username) {
+        PresenceEntry entry = presence.get(username);
+        return entry != null ? entry.status() : PresenceStatus.OFFLINE;
+    }
+
+    // ==========================================
+    // PUBLICATION
+    // ==========================================
+
+    /**
+     * Expires stale heartbeats and publishes accumulated presence changes as batched diff frames.
+     * Each shared group receives one frame on its presence topic and each online friend
+     * receives one frame on their private presence queue.
+     */
+    @Scheduled(fixedDelayString = "${websocket.presence.flush-interval-ms:2000}")
+    public void flushPresenceChanges() {
+        long now = System.currentTimeMillis();
+        expireStaleEntries(now);
+
+        Map<String, PresenceStatus> changes = drainPendingChanges();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<UserPresenceDto>> updatesByGroup = new HashMap<>();
+        Map<String, List<UserPresenceDto>> updatesByFriend = new HashMap<>();
+
+        for (Map.Entry<String, PresenceStatus> change : changes.entrySet()) {
+            Optional<User> userOpt = userRepository.findByUsernameIgnoreCase(change.getKey());
+            if (userOpt.isEmpty()) {
+                continue;
+            }
+            User user = userOpt.get();
+            UserPresenceDto update = toPresenceDto(user.getUsername(), change.getValue(), now);
+
+            for (User friend : friendEdgeRepository.findFriendsByUserId(user.getId())) {
+                if (isOnline(friend.getUsername())) {
+                    updatesByFriend.computeIfAbsent(friend.getUsername(), k -> new ArrayList<>()).add(update);
+                }
+            }
+            for (Group group : groupMembershipRepository.findGroupsByUser(user)) {
+                updatesByGroup.computeIfAbsent(group.getId(), k -> new ArrayList<>()).add(update);
+            }
+        }
+
+        updatesByGroup.forEach((groupId, updates) ->
+            broadcaster.broadcast(new PresenceDiffFrame(updates), "/topic/group/" + groupId + "/presence"));
+
+        updatesByFriend.forEach((friendUsername, updates) -> {
+            try {
+                messagingTemplate.convertAndSendToUser(friendUsername, "/queue/presence", new PresenceDiffFrame(updates));
+            } catch (Exception e) {
+                logger.warn("Failed to send presence diff to {}: {}", friendUsername, e.getMessage());
+            }
+        });
+
+        logger.debug("Published {} presence changes to {} groups and {} friends",
+                    changes.size(), updatesByGroup.size(), updatesByFriend.size());
+    }
+
+    private void expireStaleEntries(long now) {
+        presence.forEach((username, entry) -> {
+            if (now - entry.lastHeartbeatMillis() > heartbeatTimeoutMs && presence.remove(username, entry)) {
+                pendingChanges.put(username, PresenceStatus.OFFLINE);
+            }
+        });
+        lastTypingFrame.values().removeIf(last -> now - last > heartbeatTimeoutMs);
+    }
+
+    private Map<String, PresenceStatus> drainPendingChanges() {
+        Map<String, PresenceStatus> drained = new HashMap<>();
+        for (String username : pendingChanges.keySet()) {
+            PresenceStatus status = pendingChanges.remove(username);
+            if (status != null) {
+                drained.put(username, status);
+            }
+        }
+        return drained;
+    }
+
+    private UserPresenceDto toPresenceDto(String username, PresenceStatus status, long now) {
+        UserPresenceDto dto = new UserPresenceDto();
+        dto.setUsername(username);
+        dto.setStatus(status);
+        if (status == PresenceStatus.OFFLINE) {
+            dto.setLastSeen(LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()).toString());
+        }
+        return dto;
+    }
+
+    // ==========================================
+    // INTERNAL TYPES
+    // ==========================================
+
+    private record PresenceEntry(PresenceStatus status, long lastHeartbeatMillis) {
+        PresenceEntry withHeartbeat(long heartbeatMillis) {
+            return new PresenceEntry(status, heartbeatMillis);
+        }
+    }
+
+    /**
+     * Batched presence frame containing every change since the previous flush.
+     */
+    public static class PresenceDiffFrame {
+        private List<UserPresenceDto> updates;
+        private long timestamp;
+
+        public PresenceDiffFrame(List<UserPresenceDto> updates) {
+            this.updates = updates;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        public List<UserPresenceDto> getUpdates() {
+            return updates;
+        }
+
+        public void setUpdates(List<UserPresenceDto> updates) {
+            this.updates = updates;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public void setTimestamp(long timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+}
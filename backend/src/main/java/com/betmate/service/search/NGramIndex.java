@@ -0,0 +1,220 @@
+package com.betmate.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory trigram index over short text fields, keyed by entity ID.
+ *
+ * Each token is padded as "$$token$" before being split into trigrams, so a query of "fri"
+ * shares every gram with "friday" (prefix match) while "fridya" still shares most of them
+ * (typo tolerance). Candidates are gathered from the posting lists of the query grams and then
+ * scored per field: exact token match, prefix match, or trigram similarity, times the field weight.
+ *
+ * Reads are lock-free; writes are serialized per index since they are rare compared to searches.
+ */
+public class NGramIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final String PAD_START = "$$";
+    private static final String PAD_END = "$";
+
+    // Only the best-overlapping candidates are scored in full
+    private static final int CANDIDATE_FACTOR = 10;
+
+    private final double minScore;
+
+    // gram -> ids of documents containing it
+    private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // id -> indexed document
+    private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+
+    public NGramIndex(double minScore) {
+        this.minScore = minScore;
+    }
+
+    // ==========================================
+    // WRITES
+    // ==========================================
+
+    /**
+     * Adds or replaces a document. Fields with null or blank text are ignored.
+     */
+    public synchronized void put(Long id, List<IndexedField> fields) {
+        remove(id);
+
+        List<Field> indexedFields = new ArrayList<>();
+        Set<String> grams = new HashSet<>();
+        for (IndexedField field : fields) {
+            List<String> tokens = tokenize(field.text());
+            if (!tokens.isEmpty()) {
+                indexedFields.add(new Field(tokens, field.weight()));
+                tokens.forEach(token -> grams.addAll(grams(token)));
+            }
+        }
+        if (indexedFields.isEmpty()) {
+            return;
+        }
+
+        documents.put(id, new Document(indexedFields, grams));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Removes a document if present.
+     */
+    public synchronized void remove(Long id) {
+        Document existing = documents.remove(id);
+        if (existing == null) {
+            return;
+        }
+        for (String gram : existing.grams()) {
+            postings.computeIfPresent(gram, (g, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Removes every document.
+     */
+    public synchronized void clear() {
+        documents.clear();
+        postings.clear();
+    }
+
+    // ==========================================
+    // READS
+    // ==========================================
+
+    /**
+     * Finds the best matching document IDs, highest score first.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Count how many query grams each document shares
+        Map<Long, Integer> overlap = new HashMap<>();
+        for (String token : queryTokens) {
+            for (String gram : grams(token)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.forEach(id -> overlap.merge(id, 1, Integer::sum));
+                }
+            }
+        }
+
+        return overlap.entrySet().stream()
+            .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+            .limit((long) limit * CANDIDATE_FACTOR)
+            .map(entry -> new Scored(entry.getKey(), score(documents.get(entry.getKey()), queryTokens)))
+            .filter(scored -> scored.score() >= minScore)
+            .sorted(Comparator.comparingDouble(Scored::score).reversed().thenComparing(Scored::id))
+            .limit(limit)
+            .map(Scored::id)
+            .toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // ==========================================
+    // SCORING
+    // ==========================================
+
+    private double score(Document document, List<String> queryTokens) {
+        if (document == null) {
+            return 0;
+        }
+        double total = 0;
+        for (String queryToken : queryTokens) {
+            double best = 0;
+            for (Field field : document.fields()) {
+                for (String token : field.tokens()) {
+                    best = Math.max(best, tokenScore(queryToken, token) * field.weight());
+                }
+            }
+            total += best;
+        }
+        return total / queryTokens.size();
+    }
+
+    private static double tokenScore(String queryToken, String token) {
+        if (token.equals(queryToken)) {
+            return 1.0;
+        }
+        if (token.startsWith(queryToken)) {
+            // Longer completions rank slightly below shorter ones
+            return 0.9 - Math.min(0.2, (token.length() - queryToken.length()) * 0.02);
+        }
+        return 0.8 * similarity(queryToken, token);
+    }
+
+    private static double similarity(String a, String b) {
+        Set<String> gramsA = grams(a);
+        Set<String> gramsB = grams(b);
+        int shared = 0;
+        for (String gram : gramsA) {
+            if (gramsB.contains(gram)) {
+                shared++;
+            }
+        }
+        return 2.0 * shared / (gramsA.size() + gramsB.size());
+    }
+
+    // ==========================================
+    // TEXT PROCESSING
+    // ==========================================
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    static Set<String> grams(String token) {
+        String padded = PAD_START + token + PAD_END;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * A piece of text to index and the weight its matches contribute to the score.
+     */
+    public record IndexedField(String text, double weight) {}
+
+    private record Field(List<String> tokens, double weight) {}
+
+    private record Document(List<Field> fields, Set<String> grams) {}
+
+    private record Scored(Long id, double score) {}
+}
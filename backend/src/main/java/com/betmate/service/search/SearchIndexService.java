@@ -0,0 +1,134 @@
+package com.betmate.service.search;
+
+import com.betmate.entity.group.Group;
+import com.betmate.entity.user.User;
+import com.betmate.repository.group.GroupRepository;
+import com.betmate.repository.user.UserRepository;
+import com.betmate.service.search.NGramIndex.IndexedField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Shared search-as-you-type index for groups and users.
+ *
+ * Both indexes are built from the database once the application is ready and kept current by
+ * {@link SearchIndexSynchronizer} as entities are committed. Until the first build finishes,
+ * {@link #isReady()} is false and callers fall back to their database queries.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private static final double MIN_SCORE = 0.3;
+
+    // Field weights: names dominate, descriptions only contribute on close matches
+    private static final double GROUP_NAME_WEIGHT = 1.0;
+    private static final double GROUP_DESCRIPTION_WEIGHT = 0.5;
+    private static final double USERNAME_WEIGHT = 1.0;
+    private static final double PERSONAL_NAME_WEIGHT = 0.8;
+
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+
+    private final NGramIndex groupIndex = new NGramIndex(MIN_SCORE);
+    private final NGramIndex userIndex = new NGramIndex(MIN_SCORE);
+
+    private volatile boolean ready = false;
+
+    @Autowired
+    public SearchIndexService(GroupRepository groupRepository, UserRepository userRepository) {
+        this.groupRepository = groupRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Rebuilds both indexes from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        groupIndex.clear();
+        userIndex.clear();
+        groupRepository.findByIsActiveTrueAndDeletedAtIsNull().forEach(this::indexGroup);
+        userRepository.findByIsActiveTrueAndDeletedAtIsNull().forEach(this::indexUser);
+        ready = true;
+        logger.info("Search index built with {} groups and {} users in {} ms",
+                   groupIndex.size(), userIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ==========================================
+    // GROUPS
+    // ==========================================
+
+    /**
+     * Adds or refreshes a group; inactive or deleted groups are removed instead.
+     */
+    public void indexGroup(Group group) {
+        if (group.getId() == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(group.getIsActive()) || group.getDeletedAt() != null) {
+            groupIndex.remove(group.getId());
+            return;
+        }
+        groupIndex.put(group.getId(), List.of(
+            new IndexedField(group.getGroupName(), GROUP_NAME_WEIGHT),
+            new IndexedField(group.getDescription(), GROUP_DESCRIPTION_WEIGHT)
+        ));
+    }
+
+    public void removeGroup(Long groupId) {
+        groupIndex.remove(groupId);
+    }
+
+    /**
+     * Gets the IDs of the best matching groups, most relevant first.
+     */
+    public List<Long> searchGroupIds(String query, int limit) {
+        return groupIndex.search(query, limit);
+    }
+
+    // ==========================================
+    // USERS
+    // ==========================================
+
+    /**
+     * Adds or refreshes a user; inactive or deleted users are removed instead.
+     */
+    public void indexUser(User user) {
+        if (user.getId() == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(user.getIsActive()) || user.isDeleted()) {
+            userIndex.remove(user.getId());
+            return;
+        }
+        userIndex.put(user.getId(), List.of(
+            new IndexedField(user.getUsername(), USERNAME_WEIGHT),
+            new IndexedField(user.getFirstName(), PERSONAL_NAME_WEIGHT),
+            new IndexedField(user.getLastName(), PERSONAL_NAME_WEIGHT)
+        ));
+    }
+
+    public void removeUser(Long userId) {
+        userIndex.remove(userId);
+    }
+
+    /**
+     * Gets the IDs of the best matching users, most relevant first.
+     */
+    public List<Long> searchUserIds(String query, int limit) {
+        return userIndex.search(query, limit);
+    }
+}
@@ -0,0 +1,106 @@
+package com.betmate.service.search;
+
+import com.betmate.entity.group.Group;
+import com.betmate.entity.user.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link SearchIndexService} in step with committed Group and User changes.
+ *
+ * Registered as a Hibernate post-commit listener so every write path (services, seeders,
+ * admin tools) is covered and rolled back transactions never reach the index.
+ * JPQL bulk updates bypass these events; none of them touch indexed fields.
+ */
+@Component
+public class SearchIndexSynchronizer implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexSynchronizer.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SearchIndexService searchIndexService;
+
+    @Autowired
+    public SearchIndexSynchronizer(EntityManagerFactory entityManagerFactory,
+                                   SearchIndexService searchIndexService) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.searchIndexService = searchIndexService;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof Group group) {
+            searchIndexService.removeGroup(group.getId());
+        } else if (entity instanceof User user) {
+            searchIndexService.removeUser(user.getId());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was indexed before commit, so there is nothing to undo
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entityClass = persister.getMappedClass();
+        return Group.class.equals(entityClass) || User.class.equals(entityClass);
+    }
+
+    private void index(Object entity) {
+        try {
+            if (entity instanceof Group group) {
+                searchIndexService.indexGroup(group);
+            } else if (entity instanceof User user) {
+                searchIndexService.indexUser(user);
+            }
+        } catch (Exception e) {
+            // Never let an index problem surface as a failed request after commit
+            logger.warn("Failed to update search index for {}: {}", entity.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.betmate.service.store;
+
+import com.betmate.entity.store.StoreDailySales;
+import com.betmate.entity.store.StoreItemStats;
+import com.betmate.repository.store.StoreDailySalesRepository;
+import com.betmate.repository.store.StoreItemStatsRepository;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.validation.annotation.Validated;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintains and serves the store analytics rollups.
+ *
+ * Every inventory row counts as a purchase, matching what reconciliation rebuilds from
+ * user_inventory; removals only take the item out of the owner and revenue totals. The
+ * record methods join the caller's transaction, so a rolled-back purchase leaves no trace.
+ */
+@Service
+@Validated
+@Transactional(readOnly = true)
+public class StoreAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreAnalyticsService.class);
+
+    private final StoreItemStatsRepository statsRepository;
+    private final StoreDailySalesRepository dailySalesRepository;
+    private final int reconcileDays;
+
+    @Autowired
+    public StoreAnalyticsService(StoreItemStatsRepository statsRepository,
+                                 StoreDailySalesRepository dailySalesRepository,
+                                 @Value("${store.analytics.reconcile-days:2}") int reconcileDays) {
+        this.statsRepository = statsRepository;
+        this.dailySalesRepository = dailySalesRepository;
+        this.reconcileDays = reconcileDays;
+    }
+
+    // ==========================================
+    // RECORDING
+    // ==========================================
+
+    @Transactional
+    public void recordPurchase(@NotNull Long storeItemId, @NotNull BigDecimal price) {
+        statsRepository.adjust(storeItemId, 1, price, 1);
+        dailySalesRepository.recordSale(LocalDate.now(), storeItemId, price);
+    }
+
+    @Transactional
+    public void recordRemoval(@NotNull Long storeItemId, @NotNull BigDecimal price) {
+        statsRepository.adjust(storeItemId, -1, price.negate(), 0);
+    }
+
+    // ==========================================
+    // READS
+    // ==========================================
+
+    /**
+     * Items with at least one owner as [StoreItem, ownerCount], most owned first.
+     */
+    public List<Object[]> getMostPopularItems() {
+        return statsRepository.findMostPopularItems();
+    }
+
+    /**
+     * Purchase price of all currently owned items.
+     */
+    public BigDecimal getTotalRevenue() {
+        return statsRepository.getTotalRevenue();
+    }
+
+    public Optional<StoreItemStats> getItemStats(@NotNull Long storeItemId) {
+        return statsRepository.findById(storeItemId);
+    }
+
+    public List<StoreDailySales> getDailySales(@NotNull LocalDate from, @NotNull LocalDate to) {
+        return dailySalesRepository.findBySaleDateBetweenOrderBySaleDateAsc(from, to);
+    }
+
+    // ==========================================
+    // RECONCILIATION
+    // ==========================================
+
+    /**
+     * Nightly repair of drift from writes that bypassed the store services. Drifted items are
+     * found with a comparing read first, and item totals are only rebuilt when there are any;
+     * daily sales are rebuilt for the most recent days, since older days are final.
+     */
+    @Scheduled(cron = "${store.analytics.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        try {
+            List<Long> drifted = statsRepository.findDriftedItemIds();
+            if (!drifted.isEmpty()) {
+                statsRepository.rebuildFromInventory();
+                logger.warn("Repaired store item stats drift for {} items, e.g. {}", drifted.size(),
+                    drifted.subList(0, Math.min(drifted.size(), 20)));
+            } else {
+                logger.debug("No store item stats drift found");
+            }
+            dailySalesRepository.rebuildSince(LocalDate.now().minusDays(reconcileDays - 1L).atStartOfDay());
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            logger.error("Failed to reconcile store analytics: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Builds the rollups from the full purchase history on first start after deployment.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        try {
+            if (statsRepository.count() == 0) {
+                int items = statsRepository.rebuildFromInventory();
+                int days = dailySalesRepository.rebuildSince(LocalDateTime.of(1970, 1, 1, 0, 0));
+                logger.info("Backfilled store analytics for {} items and {} item-days", items, days);
+            }
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            logger.error("Failed to backfill store analytics: {}", e.getMessage(), e);
+        }
+    }
+}
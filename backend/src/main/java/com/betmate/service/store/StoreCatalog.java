@@ -0,0 +1,254 @@
+package com.betmate.service.store;
+
+import com.betmate.entity.store.StoreItem;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable, pre-indexed snapshot of the store catalog.
+ *
+ * Every view is built and sorted once when the snapshot is created, so reads are map lookups,
+ * list returns or a binary search on the price index. The items are shared between requests
+ * and must not be modified. The version is derived from item content and availability, so it
+ * is stable across restarts and instances and can be used as an ETag.
+ */
+public final class StoreCatalog {
+
+    private static final Comparator<StoreItem> DISPLAY_ORDER =
+        Comparator.comparing(StoreItem::getSortOrder).thenComparing(StoreItem::getId);
+
+    private final long version;
+    private final Map<Long, StoreItem> itemsById;
+    private final List<StoreItem> available;
+    private final List<StoreItem> featured;
+    private final List<StoreItem> limitedTime;
+    private final List<StoreItem> expiring;
+    private final Map<StoreItem.ItemCategory, List<StoreItem>> activeByCategory;
+    private final Map<StoreItem.ItemType, List<StoreItem>> byType;
+    private final Map<StoreItem.Rarity, List<StoreItem>> byRarity;
+    private final StoreItem[] byPrice;
+    private final BigDecimal[] prices;
+    private final LocalDateTime validUntil;
+
+    private StoreCatalog(List<StoreItem> items, LocalDateTime now) {
+        List<StoreItem> ordered = new ArrayList<>(items);
+        ordered.sort(DISPLAY_ORDER);
+
+        Map<Long, StoreItem> ids = new HashMap<>();
+        List<StoreItem> availableItems = new ArrayList<>();
+        List<StoreItem> featuredItems = new ArrayList<>();
+        List<StoreItem> limitedItems = new ArrayList<>();
+        List<StoreItem> expiringItems = new ArrayList<>();
+        LocalDateTime nextExpiry = null;
+        long hash = 1;
+
+        for (StoreItem item : ordered) {
+            ids.put(item.getId(), item);
+            boolean isAvailable = isAvailableAt(item, now);
+            if (isAvailable) {
+                availableItems.add(item);
+                if (Boolean.TRUE.equals(item.getIsLimitedTime())) {
+                    limitedItems.add(item);
+                    if (item.getAvailableUntil() != null
+                            && (nextExpiry == null || item.getAvailableUntil().isBefore(nextExpiry))) {
+                        nextExpiry = item.getAvailableUntil();
+                    }
+                }
+            }
+            if (Boolean.TRUE.equals(item.getIsActive()) && Boolean.TRUE.equals(item.getIsLimitedTime())
+                    && item.getAvailableUntil() != null) {
+                expiringItems.add(item);
+            }
+            if (Boolean.TRUE.equals(item.getIsActive()) && Boolean.TRUE.equals(item.getIsFeatured())) {
+                featuredItems.add(item);
+            }
+            hash = 31 * hash + item.getId();
+            hash = 31 * hash + Objects.hashCode(item.getUpdatedAt());
+            hash = 31 * hash + (isAvailable ? 1 : 0);
+        }
+
+        this.version = hash;
+        this.itemsById = Collections.unmodifiableMap(ids);
+        this.available = List.copyOf(availableItems);
+        this.featured = List.copyOf(featuredItems);
+        this.limitedTime = List.copyOf(limitedItems);
+        expiringItems.sort(Comparator.comparing(StoreItem::getAvailableUntil));
+        this.expiring = List.copyOf(expiringItems);
+        this.activeByCategory = index(StoreItem.ItemCategory.class,
+            ordered.stream().filter(item -> Boolean.TRUE.equals(item.getIsActive())).toList(), StoreItem::getCategory);
+        this.byType = index(StoreItem.ItemType.class, ordered, StoreItem::getItemType);
+        this.byRarity = index(StoreItem.Rarity.class, ordered, StoreItem::getRarity);
+
+        this.byPrice = ordered.stream()
+            .sorted(Comparator.comparing(StoreItem::getPrice).thenComparing(StoreItem::getId))
+            .toArray(StoreItem[]::new);
+        this.prices = Arrays.stream(byPrice).map(StoreItem::getPrice).toArray(BigDecimal[]::new);
+        this.validUntil = nextExpiry;
+    }
+
+    /**
+     * Builds a snapshot of the given items as seen at the given time.
+     */
+    public static StoreCatalog of(Collection<StoreItem> items, LocalDateTime now) {
+        return new StoreCatalog(List.copyOf(items), now);
+    }
+
+    // ==========================================
+    // VERSIONING
+    // ==========================================
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * ETag for a catalog response, combining the catalog version with the caller's owned items
+     * since responses carry per-user ownership flags. Ownership is folded in as a SHA-256 digest
+     * of the sorted item IDs, so different sets don't collide the way a set hash code can.
+     */
+    public String etag(Collection<Long> ownedItemIds) {
+        return "\"" + Long.toHexString(version) + "-" + ownershipDigest(ownedItemIds) + "\"";
+    }
+
+    private static String ownershipDigest(Collection<Long> ownedItemIds) {
+        long[] ids = ownedItemIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        ByteBuffer buffer = ByteBuffer.allocate(ids.length * Long.BYTES);
+        for (long id : ids) {
+            buffer.putLong(id);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Whether a limited-time item has expired since this snapshot was built.
+     */
+    public boolean isStale(LocalDateTime now) {
+        return validUntil != null && !now.isBefore(validUntil);
+    }
+
+    // ==========================================
+    // VIEWS
+    // ==========================================
+
+    public Optional<StoreItem> item(Long itemId) {
+        return Optional.ofNullable(itemsById.get(itemId));
+    }
+
+    /**
+     * Items currently purchasable, in display order.
+     */
+    public List<StoreItem> available() {
+        return available;
+    }
+
+    public List<StoreItem> featured() {
+        return featured;
+    }
+
+    public List<StoreItem> limitedTime() {
+        return limitedTime;
+    }
+
+    /**
+     * Active limited-time items with an end date, soonest first, including any whose
+     * deadline has passed but which have not been taken off sale yet.
+     */
+    public List<StoreItem> expiring() {
+        return expiring;
+    }
+
+    /**
+     * Active items in a category, in display order.
+     */
+    public List<StoreItem> byCategory(StoreItem.ItemCategory category) {
+        return activeByCategory.get(category);
+    }
+
+    public List<StoreItem> byType(StoreItem.ItemType itemType) {
+        return byType.get(itemType);
+    }
+
+    public List<StoreItem> byRarity(StoreItem.Rarity rarity) {
+        return byRarity.get(rarity);
+    }
+
+    /**
+     * Items priced within [minPrice, maxPrice], cheapest first.
+     */
+    public List<StoreItem> byPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        int from = lowerBound(minPrice, false);
+        int to = lowerBound(maxPrice, true);
+        if (from >= to) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(Arrays.asList(byPrice).subList(from, to));
+    }
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    private static boolean isAvailableAt(StoreItem item, LocalDateTime now) {
+        if (!Boolean.TRUE.equals(item.getIsActive())) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(item.getIsLimitedTime()) && item.getAvailableUntil() != null) {
+            return now.isBefore(item.getAvailableUntil());
+        }
+        return true;
+    }
+
+    /**
+     * First index whose price is >= price, or > price when inclusive is set.
+     */
+    private int lowerBound(BigDecimal price, boolean inclusive) {
+        int low = 0;
+        int high = prices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = prices[mid].compareTo(price);
+            if (cmp < 0 || (inclusive && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <K extends Enum<K>> Map<K, List<StoreItem>> index(Class<K> keyType, List<StoreItem> items,
+                                                                   Function<StoreItem, K> key) {
+        Map<K, List<StoreItem>> grouped = new EnumMap<>(keyType);
+        for (K constant : keyType.getEnumConstants()) {
+            grouped.put(constant, new ArrayList<>());
+        }
+        for (StoreItem item : items) {
+            grouped.get(key.apply(item)).add(item);
+        }
+        grouped.replaceAll((constant, list) -> List.copyOf(list));
+        return Collections.unmodifiableMap(grouped);
+    }
+}
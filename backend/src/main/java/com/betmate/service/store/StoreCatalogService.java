@@ -0,0 +1,107 @@
+package com.betmate.service.store;
+
+import com.betmate.repository.store.StoreItemRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import com.betmate.util.TransactionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the current store catalog snapshot.
+ *
+ * The snapshot is built on first read and replaced wholesale: store mutations invalidate it
+ * once their transaction commits, and a snapshot whose earliest limited-time item has expired
+ * is rebuilt on the next read. Readers never see a partially updated catalog. Invalidations
+ * are broadcast through the {@link CacheInvalidationBus} so every instance drops its snapshot,
+ * and each instance also drops it periodically in case a broadcast was lost.
+ */
+@Service
+public class StoreCatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreCatalogService.class);
+
+    private static final String CACHE_NAME = "store-catalog";
+
+    private final StoreItemRepository storeItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile StoreCatalog catalog;
+
+    @Autowired
+    public StoreCatalogService(StoreItemRepository storeItemRepository, ApplicationEventPublisher eventPublisher,
+                               CacheInvalidationBus invalidationBus) {
+        this.storeItemRepository = storeItemRepository;
+        this.eventPublisher = eventPublisher;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(CACHE_NAME, key -> dropSnapshot());
+    }
+
+    /**
+     * Gets the current catalog, building it first if it was invalidated or has expired items.
+     */
+    public StoreCatalog current() {
+        StoreCatalog snapshot = catalog;
+        if (snapshot != null && !snapshot.isStale(LocalDateTime.now())) {
+            return snapshot;
+        }
+        return rebuild(snapshot);
+    }
+
+    /**
+     * Drops the current snapshot on every instance once the surrounding transaction commits.
+     */
+    public void invalidate() {
+        TransactionUtil.afterCommit(() -> {
+            dropSnapshot();
+            invalidationBus.publishAll(CACHE_NAME);
+        });
+    }
+
+    /**
+     * Drops this instance's snapshot on a fixed interval so a missed broadcast cannot keep an
+     * outdated catalog alive. The rebuilt snapshot keeps its version if nothing changed.
+     */
+    @Scheduled(fixedDelayString = "${cache.local.refresh-interval-ms:600000}",
+               initialDelayString = "${cache.local.refresh-interval-ms:600000}")
+    public void refresh() {
+        dropSnapshot();
+    }
+
+    /**
+     * Drops this instance's snapshot and announces it with a {@link CatalogInvalidatedEvent}.
+     */
+    private void dropSnapshot() {
+        generation.incrementAndGet();
+        catalog = null;
+        eventPublisher.publishEvent(new CatalogInvalidatedEvent());
+    }
+
+    private synchronized StoreCatalog rebuild(StoreCatalog seen) {
+        StoreCatalog latest = catalog;
+        if (latest != seen && latest != null && !latest.isStale(LocalDateTime.now())) {
+            return latest; // Rebuilt by another thread while this one waited
+        }
+
+        long startedAt = generation.get();
+        StoreCatalog fresh = StoreCatalog.of(storeItemRepository.findAllForCatalog(), LocalDateTime.now());
+        // Don't publish a snapshot loaded before a concurrent invalidation; serve it to this caller only
+        if (generation.get() == startedAt) {
+            catalog = fresh;
+        }
+        logger.debug("Built store catalog snapshot {}", Long.toHexString(fresh.version()));
+        return fresh;
+    }
+
+    /**
+     * Published after the catalog has been invalidated by a committed store change.
+     */
+    public record CatalogInvalidatedEvent() {}
+}
@@ -0,0 +1,156 @@
+package com.betmate.service.store;
+
+import com.betmate.entity.store.StoreItem;
+import com.betmate.repository.store.StoreItemRepository;
+import com.betmate.service.store.StoreCatalogService.CatalogInvalidatedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Takes limited-time store items off sale at their availableUntil deadline.
+ *
+ * Upcoming deadlines are held in a priority queue rebuilt from the catalog snapshot whenever
+ * the catalog is invalidated, and a single timer is armed for the earliest one. When it fires,
+ * every due item is expired with one bulk UPDATE and the catalog is invalidated, which in turn
+ * re-arms the timer for the next deadline. Nothing polls store_items between deadlines.
+ * Timers run on the shared task scheduler; reloads and firings hold this service's lock, so
+ * they still run one at a time.
+ */
+@Service
+public class StoreExpiryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreExpiryService.class);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final StoreItemRepository storeItemRepository;
+    private final StoreCatalogService storeCatalogService;
+    private final TaskScheduler taskScheduler;
+
+    // Guarded by this
+    private final PriorityQueue<Expiry> queue = new PriorityQueue<>(Comparator.comparing(Expiry::at));
+    private ScheduledFuture<?> pending;
+    private LocalDateTime pendingAt;
+
+    @Autowired
+    public StoreExpiryService(StoreItemRepository storeItemRepository, StoreCatalogService storeCatalogService,
+                              @Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.storeItemRepository = storeItemRepository;
+        this.storeCatalogService = storeCatalogService;
+        this.taskScheduler = taskScheduler;
+    }
+
+    // ==========================================
+    // SCHEDULING
+    // ==========================================
+
+    /**
+     * Loads deadlines once the application is up; anything that expired while it was down
+     * is due immediately.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.schedule(this::reload, Instant.now());
+    }
+
+    /**
+     * Store items changed: rebuild the queue from a fresh catalog on the scheduler.
+     */
+    @EventListener
+    public void onCatalogInvalidated(CatalogInvalidatedEvent event) {
+        taskScheduler.schedule(this::reload, Instant.now());
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        queue.clear();
+        cancelPending();
+    }
+
+    // ==========================================
+    // EXPIRY
+    // ==========================================
+
+    private synchronized void reload() {
+        try {
+            List<StoreItem> expiring = storeCatalogService.current().expiring();
+            queue.clear();
+            for (StoreItem item : expiring) {
+                queue.add(new Expiry(item.getAvailableUntil(), item.getId()));
+            }
+            arm(LocalDateTime.now());
+        } catch (Exception e) {
+            logger.error("Failed to load store item deadlines, retrying in {}s: {}",
+                        RETRY_DELAY.toSeconds(), e.getMessage(), e);
+            taskScheduler.schedule(this::reload, Instant.now().plus(RETRY_DELAY));
+        }
+    }
+
+    private synchronized void fire() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Expiry> due = new ArrayList<>();
+        pending = null;
+        pendingAt = null;
+        while (!queue.isEmpty() && !queue.peek().at().isAfter(now)) {
+            due.add(queue.poll());
+        }
+        if (due.isEmpty()) {
+            arm(now);
+            return;
+        }
+
+        try {
+            int expired = storeItemRepository.expireLimitedTimeItems(due.stream().map(Expiry::itemId).toList(), now);
+            logger.info("Expired {} limited-time store items", expired);
+            // Re-arms the timer through the invalidation event
+            storeCatalogService.invalidate();
+        } catch (Exception e) {
+            logger.error("Failed to expire {} store items, retrying in {}s: {}",
+                        due.size(), RETRY_DELAY.toSeconds(), e.getMessage(), e);
+            queue.addAll(due);
+            arm(now.plus(RETRY_DELAY));
+        }
+    }
+
+    // Points the timer at the earliest deadline, firing no sooner than notBefore
+    private void arm(LocalDateTime notBefore) {
+        Expiry next = queue.peek();
+        if (next == null) {
+            cancelPending();
+            return;
+        }
+        LocalDateTime at = next.at().isBefore(notBefore) ? notBefore : next.at();
+        if (pending != null && at.equals(pendingAt)) {
+            return;
+        }
+        cancelPending();
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), at).toMillis());
+        pending = taskScheduler.schedule(this::fire, Instant.now().plusMillis(delayMillis));
+        pendingAt = at;
+    }
+
+    private void cancelPending() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+            pendingAt = null;
+        }
+    }
+
+    private record Expiry(LocalDateTime at, Long itemId) {}
+}
@@ -1,6 +1,7 @@
 package com.betmate.service.store;
 
 import com.betmate.entity.store.StoreItem;
+import com.betmate.entity.store.StoreItemStats;
 import com.betmate.entity.user.UserInventory;
 import com.betmate.exception.store.StoreManagementException;
 import com.betmate.repository.store.StoreItemRepository;
@@ -15,6 +16,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -28,12 +30,18 @@ public class StoreManagementService {
 
     private final StoreItemRepository storeItemRepository;
     private final UserInventoryRepository userInventoryRepository;
+    private final StoreCatalogService storeCatalogService;
+    private final StoreAnalyticsService storeAnalyticsService;
 
     @Autowired
     public StoreManagementService(StoreItemRepository storeItemRepository,
-                                 UserInventoryRepository userInventoryRepository) {
+                                 UserInventoryRepository userInventoryRepository,
+                                 StoreCatalogService storeCatalogService,
+                                 StoreAnalyticsService storeAnalyticsService) {
         this.storeItemRepository = storeItemRepository;
         this.userInventoryRepository = userInventoryRepository;
+        this.storeCatalogService = storeCatalogService;
+        this.storeAnalyticsService = storeAnalyticsService;
     }
 
     // ==========================================
@@ -63,7 +71,9 @@ public class StoreManagementService {
         item.setAvailableUntil(request.availableUntil());
         item.setSortOrder(request.sortOrder() != null ? request.sortOrder() : 0);
         
-        return storeItemRepository.save(item);
+        StoreItem savedItem = storeItemRepository.save(item);
+        storeCatalogService.invalidate();
+        return savedItem;
     }
 
     /**
@@ -84,6 +94,7 @@ public class StoreManagementService {
         StoreItem item = getStoreItem(itemId);
         item.setIsActive(false);
         storeItemRepository.save(item);
+        storeCatalogService.invalidate();
     }
 
     /**
@@ -101,6 +112,7 @@ public class StoreManagementService {
         
         item.setIsActive(true);
         storeItemRepository.save(item);
+        storeCatalogService.invalidate();
     }
 
     // ==========================================
@@ -119,6 +131,7 @@ public class StoreManagementService {
         }
         
         storeItemRepository.saveAll(items);
+        storeCatalogService.invalidate();
     }
 
     /**
@@ -142,21 +155,19 @@ public class StoreManagementService {
         }
         
         storeItemRepository.save(item);
+        storeCatalogService.invalidate();
     }
 
     /**
-     * Processes expired promotions automatically.
+     * Ends expired promotions in one sweep. {@link StoreExpiryService} does this at each
+     * deadline; this is for an on-demand sweep.
      */
     @Transactional
     public void processExpiredPromotions() {
-        List<StoreItem> expiredItems = storeItemRepository.findExpiredLimitedTimeItems(LocalDateTime.now());
-        
-        for (StoreItem item : expiredItems) {
-            item.setIsActive(false);
-            item.setIsFeatured(false);
+        int expired = storeItemRepository.expireAllLimitedTimeItems(LocalDateTime.now());
+        if (expired > 0) {
+            storeCatalogService.invalidate();
         }
-        
-        storeItemRepository.saveAll(expiredItems);
     }
 
     // ==========================================
@@ -176,9 +187,10 @@ public class StoreManagementService {
      */
     public ItemInventoryStats getItemInventoryStats(@NotNull Long itemId) {
         StoreItem item = getStoreItem(itemId);
+        Optional<StoreItemStats> stats = storeAnalyticsService.getItemStats(itemId);
         
-        Long totalOwners = userInventoryRepository.countOwnersByItem(item);
-        BigDecimal totalRevenue = userInventoryRepository.getTotalRevenueByItem(item);
+        Long totalOwners = stats.map(StoreItemStats::getOwnerCount).orElse(0L);
+        BigDecimal totalRevenue = stats.map(StoreItemStats::getRevenue).orElse(BigDecimal.ZERO);
         
         return new ItemInventoryStats(item.getId(), item.getName(), totalOwners, totalRevenue);
     }
@@ -193,7 +205,7 @@ public class StoreManagementService {
     public StoreAnalyticsReport getStoreAnalyticsReport() {
         // Basic stats
         Long totalActiveItems = storeItemRepository.countActiveItems();
-        BigDecimal totalRevenue = userInventoryRepository.getTotalRevenue();
+        BigDecimal totalRevenue = storeAnalyticsService.getTotalRevenue();
         
         // Category distribution
         List<Object[]> categoryStats = storeItemRepository.getItemCountByCategory();
@@ -212,7 +224,7 @@ public class StoreManagementService {
             ));
         
         // Popular items
-        List<Object[]> popularItems = userInventoryRepository.getMostPopularItems();
+        List<Object[]> popularItems = storeAnalyticsService.getMostPopularItems();
         
         return new StoreAnalyticsReport(
             totalActiveItems,
@@ -7,8 +7,12 @@ import com.betmate.repository.store.StoreItemRepository;
 import com.betmate.repository.user.UserInventoryRepository;
 import com.betmate.exception.store.StoreItemNotFoundException;
 import com.betmate.exception.store.StoreOperationException;
+import com.betmate.service.user.UserCreditService;
+import com.betmate.service.user.UserInventoryService;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -16,6 +20,7 @@ import org.springframework.validation.annotation.Validated;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -28,60 +33,83 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StoreService {
 
+    // Unique key allowing one active copy of an item per user, see UserInventory
+    private static final String ACTIVE_OWNERSHIP_KEY = "uk_inventory_user_item_active";
+
     private final StoreItemRepository storeItemRepository;
     private final UserInventoryRepository userInventoryRepository;
+    private final StoreCatalogService storeCatalogService;
+    private final UserCreditService userCreditService;
+    private final UserInventoryService userInventoryService;
+    private final StoreAnalyticsService storeAnalyticsService;
 
     @Autowired
     public StoreService(StoreItemRepository storeItemRepository, 
-                       UserInventoryRepository userInventoryRepository) {
+                       UserInventoryRepository userInventoryRepository,
+                       StoreCatalogService storeCatalogService,
+                       UserCreditService userCreditService,
+                       UserInventoryService userInventoryService,
+                       StoreAnalyticsService storeAnalyticsService) {
         this.storeItemRepository = storeItemRepository;
         this.userInventoryRepository = userInventoryRepository;
+        this.storeCatalogService = storeCatalogService;
+        this.userCreditService = userCreditService;
+        this.userInventoryService = userInventoryService;
+        this.storeAnalyticsService = storeAnalyticsService;
     }
 
     // ==========================================
     // STORE BROWSING
     // ==========================================
 
+    /**
+     * Gets the current catalog snapshot. Browsing reads are served from it without
+     * touching the database; the returned items must not be modified.
+     */
+    public StoreCatalog getCatalog() {
+        return storeCatalogService.current();
+    }
+
     /**
      * Gets all available items for purchase.
      */
     public List<StoreItem> getAvailableItems() {
-        return storeItemRepository.findAvailableItems(LocalDateTime.now());
+        return getCatalog().available();
     }
 
     /**
      * Gets featured items for the store front page.
      */
     public List<StoreItem> getFeaturedItems() {
-        return storeItemRepository.findByIsActiveTrueAndIsFeaturedTrue();
+        return getCatalog().featured();
     }
 
     /**
      * Gets items by category, sorted by display order.
      */
     public List<StoreItem> getItemsByCategory(@NotNull StoreItem.ItemCategory category) {
-        return storeItemRepository.findByCategoryAndIsActiveTrueOrderBySortOrder(category);
+        return getCatalog().byCategory(category);
     }
 
     /**
      * Gets items by type.
      */
     public List<StoreItem> getItemsByType(@NotNull StoreItem.ItemType itemType) {
-        return storeItemRepository.findByItemType(itemType);
+        return getCatalog().byType(itemType);
     }
 
     /**
      * Gets items by rarity level.
      */
     public List<StoreItem> getItemsByRarity(@NotNull StoreItem.Rarity rarity) {
-        return storeItemRepository.findByRarity(rarity);
+        return getCatalog().byRarity(rarity);
     }
 
     /**
-     * Gets items within a price range.
+     * Gets items within a price range, cheapest first.
      */
     public List<StoreItem> getItemsByPriceRange(@NotNull BigDecimal minPrice, @NotNull BigDecimal maxPrice) {
-        return storeItemRepository.findByPriceBetween(minPrice, maxPrice);
+        return getCatalog().byPriceRange(minPrice, maxPrice);
     }
 
     /**
@@ -91,14 +119,17 @@ public class StoreService {
         if (searchTerm.trim().isEmpty()) {
             return getAvailableItems();
         }
-        return storeItemRepository.searchItems(searchTerm.trim());
+        String term = searchTerm.trim().toLowerCase(Locale.ROOT);
+        return getAvailableItems().stream()
+            .filter(item -> contains(item.getName(), term) || contains(item.getDescription(), term))
+            .toList();
     }
 
     /**
      * Gets limited time items that are still available.
      */
     public List<StoreItem> getLimitedTimeItems() {
-        return storeItemRepository.findByIsLimitedTimeTrueAndAvailableUntilAfter(LocalDateTime.now());
+        return getCatalog().limitedTime();
     }
 
     // ==========================================
@@ -113,6 +144,14 @@ public class StoreService {
             .orElseThrow(() -> new StoreItemNotFoundException("Store item not found: " + itemId));
     }
 
+    /**
+     * Gets a store item by ID from the catalog snapshot, for display only.
+     */
+    public StoreItem getCatalogItem(@NotNull Long itemId) {
+        return getCatalog().item(itemId)
+            .orElseThrow(() -> new StoreItemNotFoundException("Store item not found: " + itemId));
+    }
+
     /**
      * Checks if an item is available for purchase.
      */
@@ -134,44 +173,74 @@ public class StoreService {
     // ==========================================
 
     /**
-     * Purchases an item for a user.
+     * Purchases an item for a user and debits its price.
+     *
+     * Runs as one short transaction: the item is validated against the catalog snapshot, the
+     * credits are debited with a conditional update and the inventory row is inserted. A second
+     * active copy is rejected by the unique (user, item, active) key rather than a prior
+     * ownership query, so concurrent double-taps cannot both succeed or both be charged.
+     * The debit comes first so the user row is locked exclusively before the insert's foreign
+     * key check; inserting first would take a shared lock that concurrent purchases then
+     * deadlock upgrading.
+     *
+     * @throws StoreOperationException if the item is unavailable, mispriced or already owned
+     * @throws com.betmate.exception.user.InsufficientCreditsException if the user cannot afford it
      */
     @Transactional
     public UserInventory purchaseItem(@NotNull User user, @NotNull Long itemId, @NotNull BigDecimal pricePaid) {
-        StoreItem item = getStoreItem(itemId);
+        StoreItem item = getCatalogItem(itemId);
         
         // Validate purchase
-        validatePurchase(user, item, pricePaid);
+        validatePurchase(item, pricePaid);
+        
+        userCreditService.debitCredits(user.getId(), pricePaid, "Store purchase: " + item.getName());
         
-        // Create inventory entry using the static factory method
+        // Create inventory entry using the static factory method; a duplicate rolls back the debit above
         UserInventory inventory = UserInventory.createPurchase(user, item, pricePaid);
+        UserInventory savedInventory;
+        try {
+            savedInventory = userInventoryRepository.saveAndFlush(inventory);
+        } catch (DataIntegrityViolationException e) {
+            if (isActiveOwnershipViolation(e)) {
+                throw new StoreOperationException("User already owns this item", e);
+            }
+            throw e;
+        }
         
-        return userInventoryRepository.save(inventory);
+        storeAnalyticsService.recordPurchase(itemId, pricePaid);
+        userInventoryService.evictInventorySummary(user.getId());
+        
+        return savedInventory;
+    }
+
+    /**
+     * Whether an insert failed on the one-active-copy key, as opposed to some other
+     * constraint such as a missing user or item.
+     */
+    private static boolean isActiveOwnershipViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                // MySQL reports the key qualified by its table, e.g. user_inventory.uk_...
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(ACTIVE_OWNERSHIP_KEY);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(ACTIVE_OWNERSHIP_KEY);
     }
 
     /**
      * Validates if a purchase can be made.
      */
-    private void validatePurchase(User user, StoreItem item, BigDecimal pricePaid) {
+    private void validatePurchase(StoreItem item, BigDecimal pricePaid) {
         // Check if item is available
         if (!item.isAvailableForPurchase()) {
             throw new StoreOperationException("Item is not available for purchase");
         }
         
-        // Check if user already owns the item
-        if (doesUserOwnItem(user, item.getId())) {
-            throw new StoreOperationException("User already owns this item");
-        }
-        
         // Validate price
         if (pricePaid.compareTo(item.getPrice()) != 0) {
             throw new StoreOperationException("Price mismatch. Expected: " + item.getPrice() + ", Provided: " + pricePaid);
         }
-        
-        // TODO: Check user balance when user credit system is implemented
-        // if (user.getBalance().compareTo(pricePaid) < 0) {
-        //     throw new StoreOperationException("Insufficient balance");
-        // }
     }
 
     // ==========================================
@@ -188,7 +257,9 @@ public class StoreService {
             item.setSortOrder(0);
         }
         
-        return storeItemRepository.save(item);
+        StoreItem savedItem = storeItemRepository.save(item);
+        storeCatalogService.invalidate();
+        return savedItem;
     }
 
     /**
@@ -217,7 +288,9 @@ public class StoreService {
             item.setSortOrder(request.sortOrder());
         }
         
-        return storeItemRepository.save(item);
+        StoreItem savedItem = storeItemRepository.save(item);
+        storeCatalogService.invalidate();
+        return savedItem;
     }
 
     /**
@@ -228,6 +301,7 @@ public class StoreService {
         StoreItem item = getStoreItem(itemId);
         item.setIsActive(false);
         storeItemRepository.save(item);
+        storeCatalogService.invalidate();
     }
 
     /**
@@ -238,6 +312,7 @@ public class StoreService {
         StoreItem item = getStoreItem(itemId);
         item.setIsFeatured(featured);
         storeItemRepository.save(item);
+        storeCatalogService.invalidate();
     }
 
     // ==========================================
@@ -268,32 +343,35 @@ public class StoreService {
     }
 
     /**
-     * Gets most popular items based on purchase count.
+     * Gets most popular items based on owner count.
      */
     public List<Object[]> getMostPopularItems() {
-        return userInventoryRepository.getMostPopularItems();
+        return storeAnalyticsService.getMostPopularItems();
     }
 
     /**
      * Gets total revenue from store sales.
      */
     public BigDecimal getTotalRevenue() {
-        return userInventoryRepository.getTotalRevenue();
+        return storeAnalyticsService.getTotalRevenue();
     }
 
     /**
-     * Processes expired limited-time items.
+     * Processes expired limited-time items. {@link StoreExpiryService} does this at each
+     * deadline; this is for an on-demand sweep.
      */
     @Transactional
     public void processExpiredLimitedTimeItems() {
-        List<StoreItem> expiredItems = storeItemRepository.findExpiredLimitedTimeItems(LocalDateTime.now());
-        
-        for (StoreItem item : expiredItems) {
-            item.setIsActive(false);
-            storeItemRepository.save(item);
+        int expired = storeItemRepository.expireAllLimitedTimeItems(LocalDateTime.now());
+        if (expired > 0) {
+            storeCatalogService.invalidate();
         }
     }
 
+    private static boolean contains(String text, String lowerCaseTerm) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+    }
+
     // ==========================================
     // DTOs
     // ==========================================
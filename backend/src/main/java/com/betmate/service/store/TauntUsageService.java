@@ -0,0 +1,218 @@
+package com.betmate.service.store;
+
+import com.betmate.entity.store.TauntMessage;
+import com.betmate.exception.store.StoreItemNotFoundException;
+import com.betmate.repository.store.TauntMessageRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks taunt usage without a row update per use.
+ *
+ * Uses are counted in a LongAdder per taunt and flushed every few seconds, with taunts that
+ * share the same delta updated by a single statement. The flush also feeds an exponentially
+ * decayed score per taunt, from which the trending list is precomputed; both are per instance.
+ * Each user's uses are counted at most once per minimum interval, so one client replaying the
+ * use endpoint cannot inflate usage totals or push a taunt up the trending list.
+ */
+@Service
+@Validated
+public class TauntUsageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TauntUsageService.class);
+    // Scores below this have decayed to nothing and are dropped
+    private static final double MIN_TRENDING_SCORE = 0.01;
+
+    private final TauntMessageRepository tauntMessageRepository;
+    private final double halfLifeMillis;
+    private final int trendingSize;
+    private final long minUseIntervalMs;
+    private final ConcurrentHashMap<Long, LongAdder> pendingUsage = new ConcurrentHashMap<>();
+
+    // userId -> time of the user's last counted use; pruned on each flush
+    private final ConcurrentHashMap<Long, Long> lastCountedUse = new ConcurrentHashMap<>();
+
+    // Only touched while holding the flush lock
+    private final Map<Long, Double> trendingScores = new HashMap<>();
+    private long lastDecayMillis = System.currentTimeMillis();
+    private volatile List<Long> trendingIds = List.of();
+
+    @Autowired
+    public TauntUsageService(TauntMessageRepository tauntMessageRepository,
+                             @Value("${store.taunts.trending-half-life-minutes:60}") long halfLifeMinutes,
+                             @Value("${store.taunts.trending-size:50}") int trendingSize,
+                             @Value("${store.taunts.min-use-interval-ms:2000}") long minUseIntervalMs) {
+        this.tauntMessageRepository = tauntMessageRepository;
+        this.halfLifeMillis = halfLifeMinutes * 60_000d;
+        this.trendingSize = trendingSize;
+        this.minUseIntervalMs = minUseIntervalMs;
+    }
+
+    // ==========================================
+    // RECORDING
+    // ==========================================
+
+    /**
+     * Uses a taunt on behalf of a user: checks it is available and counts the use unless the
+     * user already had a use counted within the minimum interval.
+     * The availability check is a primary key read; the counter itself is not written per use.
+     *
+     * @throws StoreItemNotFoundException if the taunt does not exist or is not available for use
+     */
+    @Transactional(readOnly = true)
+    public TauntMessage useTaunt(@NotNull Long userId, @NotNull Long tauntId) {
+        TauntMessage taunt = tauntMessageRepository.findById(tauntId)
+            .filter(TauntMessage::isAvailableForUse)
+            .orElseThrow(() -> new StoreItemNotFoundException("Taunt not available: " + tauntId));
+        if (acquireUseSlot(userId, System.currentTimeMillis())) {
+            recordUse(tauntId);
+        } else {
+            logger.debug("Not counting taunt {} use by user {} within the minimum interval", tauntId, userId);
+        }
+        return taunt;
+    }
+
+    /**
+     * Counts one use of a taunt. Lock-free; the total reaches the database on the next flush.
+     */
+    public void recordUse(@NotNull Long tauntId) {
+        pendingUsage.computeIfAbsent(tauntId, id -> new LongAdder()).increment();
+    }
+
+    private boolean acquireUseSlot(Long userId, long now) {
+        boolean[] acquired = new boolean[1];
+        lastCountedUse.compute(userId, (id, last) -> {
+            if (last != null && now - last < minUseIntervalMs) {
+                return last;
+            }
+            acquired[0] = true;
+            return now;
+        });
+        return acquired[0];
+    }
+
+    // ==========================================
+    // TRENDING
+    // ==========================================
+
+    /**
+     * Gets the IDs of the taunts with the most recent use, highest first, as of the last flush.
+     */
+    public List<Long> getTrendingTauntIds(int limit) {
+        List<Long> ids = trendingIds;
+        return ids.subList(0, Math.min(Math.max(limit, 0), ids.size()));
+    }
+
+    /**
+     * Gets the trending taunts that are still available for use, highest first.
+     */
+    @Transactional(readOnly = true)
+    public List<TauntMessage> getTrendingTaunts(int limit) {
+        List<Long> ids = getTrendingTauntIds(trendingSize);
+        Map<Long, TauntMessage> taunts = tauntMessageRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(TauntMessage::getId, Function.identity()));
+
+        List<TauntMessage> result = new ArrayList<>();
+        for (Long id : ids) {
+            TauntMessage taunt = taunts.get(id);
+            if (taunt != null && taunt.isAvailableForUse()) {
+                result.add(taunt);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    // ==========================================
+    // FLUSH
+    // ==========================================
+
+    /**
+     * Writes accumulated usage to the database and refreshes the trending list. Deltas are
+     * put back if the write fails, so counts are delayed rather than lost.
+     */
+    @Scheduled(fixedDelayString = "${store.taunts.usage-flush-interval-ms:5000}")
+    public synchronized void flushUsage() {
+        long now = System.currentTimeMillis();
+        lastCountedUse.values().removeIf(last -> now - last >= minUseIntervalMs);
+
+        Map<Long, Long> deltas = drainPendingUsage();
+        updateTrending(deltas, now);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        deltas.forEach((tauntId, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(tauntId));
+        // Each statement commits on its own, so only the groups that failed are put back
+        idsByDelta.forEach((delta, ids) -> {
+            try {
+                tauntMessageRepository.incrementUsage(ids, delta);
+            } catch (Exception e) {
+                ids.forEach(tauntId -> pendingUsage.computeIfAbsent(tauntId, id -> new LongAdder()).add(delta));
+                logger.error("Failed to flush usage for {} taunts, will retry: {}", ids.size(), e.getMessage(), e);
+            }
+        });
+        logger.debug("Flushed usage for {} taunts in {} statements", deltas.size(), idsByDelta.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushUsage();
+    }
+
+    // Adders stay in the map so a concurrent increment never lands on a removed one
+    private Map<Long, Long> drainPendingUsage() {
+        Map<Long, Long> drained = new HashMap<>();
+        pendingUsage.forEach((tauntId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                drained.put(tauntId, delta);
+            }
+        });
+        return drained;
+    }
+
+    private void updateTrending(Map<Long, Long> deltas, long now) {
+        double decay = Math.pow(0.5, (now - lastDecayMillis) / halfLifeMillis);
+        lastDecayMillis = now;
+
+        Iterator<Map.Entry<Long, Double>> entries = trendingScores.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Long, Double> entry = entries.next();
+            double score = entry.getValue() * decay;
+            if (score < MIN_TRENDING_SCORE) {
+                entries.remove();
+            } else {
+                entry.setValue(score);
+            }
+        }
+        deltas.forEach((tauntId, delta) -> trendingScores.merge(tauntId, (double) delta, Double::sum));
+
+        trendingIds = trendingScores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.<Long, Double>comparingByKey()))
+            .limit(trendingSize)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+}
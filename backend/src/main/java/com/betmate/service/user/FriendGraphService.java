@@ -0,0 +1,247 @@
+package com.betmate.service.user;
+
+import com.betmate.entity.user.Friendship.FriendshipStatus;
+import com.betmate.repository.user.FriendEdgeRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import com.betmate.util.TransactionUtil;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory friendship adjacency store: userId to a sorted array of friend IDs.
+ *
+ * Adjacency is loaded from the database on first use and patched after accept and remove
+ * commit, so friend checks are binary searches and mutual friends are a linear merge of
+ * two sorted arrays. Arrays are never mutated in place; every change swaps in a new copy.
+ * The cache is bounded by an access-ordered map, so the least recently read users are
+ * dropped first and simply reloaded on their next read. Other instances are told through the
+ * {@link CacheInvalidationBus} to drop both users' lists, which they reload on the next read.
+ * Since those messages can be lost, the whole map is also cleared at a fixed interval.
+ */
+@Service
+@Validated
+public class FriendGraphService {
+
+    private static final long[] NO_FRIENDS = new long[0];
+    private static final String CACHE_NAME = "friend-graph";
+
+    private final FriendEdgeRepository friendEdgeRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<Long, long[]> adjacency;
+
+    // Bumped by every patch; a load that overlapped a patch is returned but not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public FriendGraphService(FriendEdgeRepository friendEdgeRepository,
+                              CacheInvalidationBus invalidationBus,
+                              @Value("${friends.graph.max-cached-users:50000}") int maxCachedUsers) {
+        this.friendEdgeRepository = friendEdgeRepository;
+        this.invalidationBus = invalidationBus;
+        this.adjacency = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+                return size() > maxCachedUsers;
+            }
+        });
+        invalidationBus.register(CACHE_NAME, this::evict);
+    }
+
+    // ==========================================
+    // READS
+    // ==========================================
+
+    /**
+     * Gets a user's friend IDs in ascending order. The returned array must not be modified.
+     */
+    public long[] getFriendIds(@NotNull Long userId) {
+        long[] friends = adjacency.get(userId);
+        if (friends != null) {
+            return friends;
+        }
+        // Load outside the lock so cache misses don't queue behind each other
+        long startedAt = generation.get();
+        long[] loaded = load(userId);
+        synchronized (adjacency) {
+            long[] cached = adjacency.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            if (generation.get() == startedAt) {
+                adjacency.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public int countFriends(@NotNull Long userId) {
+        return getFriendIds(userId).length;
+    }
+
+    public boolean areFriends(@NotNull Long userId1, @NotNull Long userId2) {
+        return Arrays.binarySearch(getFriendIds(userId1), userId2) >= 0;
+    }
+
+    /**
+     * Gets the IDs of friends two users have in common, in ascending order.
+     */
+    public long[] getMutualFriendIds(@NotNull Long userId1, @NotNull Long userId2) {
+        long[] a = getFriendIds(userId1);
+        long[] b = getFriendIds(userId2);
+        long[] result = new long[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    public int countMutualFriends(@NotNull Long userId1, @NotNull Long userId2) {
+        return getMutualFriendIds(userId1, userId2).length;
+    }
+
+    /**
+     * Ranks friends-of-friends by how many friends they share with the user.
+     * Existing friends and the user themself are excluded.
+     *
+     * @param limit maximum number of candidates to return
+     */
+    public List<FriendCandidate> getFriendsOfFriends(@NotNull Long userId, int limit) {
+        long[] friends = getFriendIds(userId);
+        Map<Long, Integer> mutualCounts = new HashMap<>();
+
+        for (long friendId : friends) {
+            for (long candidateId : getFriendIds(friendId)) {
+                if (candidateId != userId && Arrays.binarySearch(friends, candidateId) < 0) {
+                    mutualCounts.merge(candidateId, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<FriendCandidate> candidates = new ArrayList<>(mutualCounts.size());
+        mutualCounts.forEach((id, count) -> candidates.add(new FriendCandidate(id, count)));
+        candidates.sort(Comparator.comparingInt(FriendCandidate::mutualFriends).reversed()
+            .thenComparing(FriendCandidate::userId));
+        return candidates.subList(0, Math.min(Math.max(limit, 0), candidates.size()));
+    }
+
+    // ==========================================
+    // UPDATES
+    // ==========================================
+
+    /**
+     * Adds an edge between two users once the surrounding transaction commits.
+     */
+    public void recordFriendship(@NotNull Long userId1, @NotNull Long userId2) {
+        TransactionUtil.afterCommit(() -> {
+            synchronized (adjacency) {
+                generation.incrementAndGet();
+                adjacency.computeIfPresent(userId1, (id, friends) -> insert(friends, userId2));
+                adjacency.computeIfPresent(userId2, (id, friends) -> insert(friends, userId1));
+            }
+            invalidationBus.publish(CACHE_NAME, userId1);
+            invalidationBus.publish(CACHE_NAME, userId2);
+        });
+    }
+
+    /**
+     * Removes the edge between two users once the surrounding transaction commits.
+     */
+    public void removeFriendship(@NotNull Long userId1, @NotNull Long userId2) {
+        TransactionUtil.afterCommit(() -> {
+            synchronized (adjacency) {
+                generation.incrementAndGet();
+                adjacency.computeIfPresent(userId1, (id, friends) -> remove(friends, userId2));
+                adjacency.computeIfPresent(userId2, (id, friends) -> remove(friends, userId1));
+            }
+            invalidationBus.publish(CACHE_NAME, userId1);
+            invalidationBus.publish(CACHE_NAME, userId2);
+        });
+    }
+
+    public void evict(@NotNull Long userId) {
+        synchronized (adjacency) {
+            generation.incrementAndGet();
+            adjacency.remove(userId);
+        }
+    }
+
+    /**
+     * Drops every cached friend list, bounding how long one can stay stale after a missed invalidation.
+     */
+    @Scheduled(fixedDelayString = "${cache.local.refresh-interval-ms:600000}",
+               initialDelayString = "${cache.local.refresh-interval-ms:600000}")
+    public void evictAll() {
+        synchronized (adjacency) {
+            generation.incrementAndGet();
+            adjacency.clear();
+        }
+    }
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    private long[] load(Long userId) {
+        List<Long> ids = friendEdgeRepository.findFriendIdsByUserIdAndStatus(userId, FriendshipStatus.ACCEPTED);
+        if (ids.isEmpty()) {
+            return NO_FRIENDS;
+        }
+        long[] friends = ids.stream().mapToLong(Long::longValue).distinct().toArray();
+        Arrays.sort(friends);
+        return friends;
+    }
+
+    static long[] insert(long[] friends, long friendId) {
+        int index = Arrays.binarySearch(friends, friendId);
+        if (index >= 0) {
+            return friends;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[friends.length + 1];
+        System.arraycopy(friends, 0, updated, 0, insertAt);
+        updated[insertAt] = friendId;
+        System.arraycopy(friends, insertAt, updated, insertAt + 1, friends.length - insertAt);
+        return updated;
+    }
+
+    static long[] remove(long[] friends, long friendId) {
+        int index = Arrays.binarySearch(friends, friendId);
+        if (index < 0) {
+            return friends;
+        }
+        long[] updated = new long[friends.length - 1];
+        System.arraycopy(friends, 0, updated, 0, index);
+        System.arraycopy(friends, index + 1, updated, index, friends.length - index - 1);
+        return updated;
+    }
+
+    /**
+     * A friend-of-friend and the number of friends they share with the user.
+     */
+    public record FriendCandidate(Long userId, int mutualFriends) {}
+}
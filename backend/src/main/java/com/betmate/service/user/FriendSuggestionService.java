@@ -0,0 +1,216 @@
+package com.betmate.service.user;
+
+import com.betmate.entity.user.Friendship.FriendshipStatus;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.user.FriendEdgeRepository;
+import com.betmate.service.user.FriendGraphService.FriendCandidate;
+import com.betmate.util.TransactionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * "People you may know" suggestions, precomputed per user and stored in Redis.
+ *
+ * Each user's top candidates live in a sorted set scored by mutual friends and shared groups,
+ * so reading them is a single range query. Users whose social graph changed (or who have no
+ * stored suggestions yet) are added to a stale set, and a background job recomputes a bounded
+ * batch of them per run.
+ */
+@Service
+public class FriendSuggestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FriendSuggestionService.class);
+
+    private static final String KEY_PREFIX = "friend-suggestions:user:";
+    private static final String STALE_KEY = "friend-suggestions:stale";
+
+    // Present in every stored set so users with no candidates are not recomputed on each read
+    private static final String COMPUTED_MARKER = "_";
+
+    static final double MUTUAL_FRIEND_WEIGHT = 3.0;
+    static final double SHARED_GROUP_WEIGHT = 1.0;
+
+    private final StringRedisTemplate redisTemplate;
+    private final FriendGraphService friendGraphService;
+    private final FriendEdgeRepository friendEdgeRepository;
+    private final GroupMembershipRepository groupMembershipRepository;
+    private final int topK;
+    private final int batchSize;
+    private final int maxCandidatesPerSource;
+    private final long ttlSeconds;
+
+    @Autowired
+    public FriendSuggestionService(StringRedisTemplate redisTemplate,
+                                   FriendGraphService friendGraphService,
+                                   FriendEdgeRepository friendEdgeRepository,
+                                   GroupMembershipRepository groupMembershipRepository,
+                                   @Value("${friends.suggestions.top-k:50}") int topK,
+                                   @Value("${friends.suggestions.batch-size:200}") int batchSize,
+                                   @Value("${friends.suggestions.max-candidates-per-source:500}") int maxCandidatesPerSource,
+                                   @Value("${friends.suggestions.ttl-seconds:86400}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.friendGraphService = friendGraphService;
+        this.friendEdgeRepository = friendEdgeRepository;
+        this.groupMembershipRepository = groupMembershipRepository;
+        this.topK = topK;
+        this.batchSize = batchSize;
+        this.maxCandidatesPerSource = maxCandidatesPerSource;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    // ==========================================
+    // READS
+    // ==========================================
+
+    /**
+     * Gets a user's stored suggestions, best first. Returns an empty list and queues the user
+     * for computation if nothing is stored yet.
+     */
+    public List<Suggestion> getSuggestions(Long userId, int limit) {
+        int count = Math.min(Math.max(limit, 1), topK);
+        try {
+            // One extra slot for the marker, which always scores lowest
+            Set<TypedTuple<String>> stored = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key(userId), 0, count);
+            if (stored == null || stored.isEmpty()) {
+                markStale(List.of(userId));
+                return List.of();
+            }
+            List<Suggestion> suggestions = new ArrayList<>(count);
+            for (TypedTuple<String> tuple : stored) {
+                if (!COMPUTED_MARKER.equals(tuple.getValue()) && suggestions.size() < count) {
+                    suggestions.add(new Suggestion(Long.valueOf(tuple.getValue()),
+                        tuple.getScore() != null ? tuple.getScore() : 0));
+                }
+            }
+            return suggestions;
+        } catch (DataAccessException e) {
+            logger.warn("Redis unavailable for friend suggestions of user {}: {}", userId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    // ==========================================
+    // INVALIDATION
+    // ==========================================
+
+    /**
+     * Queues users for recomputation, e.g. after a friendship or group membership change.
+     * Inside a transaction the users are queued once it commits, so the refresh sees the change.
+     */
+    public void markStale(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String[] members = userIds.stream().map(String::valueOf).toArray(String[]::new);
+        TransactionUtil.afterCommit(() -> {
+            try {
+                redisTemplate.opsForSet().add(STALE_KEY, members);
+            } catch (DataAccessException e) {
+                logger.debug("Failed to queue friend suggestion refresh for {}: {}", userIds, e.getMessage());
+            }
+        });
+    }
+
+    // ==========================================
+    // BACKGROUND REFRESH
+    // ==========================================
+
+    /**
+     * Recomputes suggestions for at most one batch of stale users.
+     */
+    @Scheduled(fixedDelayString = "${friends.suggestions.refresh-interval-ms:30000}")
+    public void refreshStaleSuggestions() {
+        List<String> stale;
+        try {
+            stale = redisTemplate.opsForSet().pop(STALE_KEY, batchSize);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to read stale friend suggestion queue: {}", e.getMessage());
+            return;
+        }
+        if (stale == null || stale.isEmpty()) {
+            return;
+        }
+
+        int refreshed = 0;
+        for (String member : stale) {
+            Long userId = Long.valueOf(member);
+            try {
+                storeSuggestions(userId, computeSuggestions(userId));
+                refreshed++;
+            } catch (Exception e) {
+                logger.error("Failed to refresh friend suggestions for user {}: {}", userId, e.getMessage(), e);
+            }
+        }
+        logger.debug("Refreshed friend suggestions for {} users", refreshed);
+    }
+
+    /**
+     * Scores candidates from friends-of-friends and group co-members. Existing friends, users
+     * with a pending request either way and the user themself are excluded.
+     */
+    List<Suggestion> computeSuggestions(Long userId) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (FriendCandidate candidate : friendGraphService.getFriendsOfFriends(userId, maxCandidatesPerSource)) {
+            scores.merge(candidate.userId(), candidate.mutualFriends() * MUTUAL_FRIEND_WEIGHT, Double::sum);
+        }
+        for (Object[] row : groupMembershipRepository.findCoMemberCounts(userId, PageRequest.of(0, maxCandidatesPerSource))) {
+            scores.merge((Long) row[0], ((Long) row[1]) * SHARED_GROUP_WEIGHT, Double::sum);
+        }
+
+        long[] friends = friendGraphService.getFriendIds(userId);
+        Set<Long> pending = new HashSet<>(
+            friendEdgeRepository.findFriendIdsByUserIdAndStatus(userId, FriendshipStatus.PENDING));
+        scores.keySet().removeIf(id -> id.equals(userId) || pending.contains(id) || Arrays.binarySearch(friends, id) >= 0);
+
+        return scores.entrySet().stream()
+            .map(entry -> new Suggestion(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingDouble(Suggestion::score).reversed().thenComparing(Suggestion::userId))
+            .limit(topK)
+            .toList();
+    }
+
+    private void storeSuggestions(Long userId, List<Suggestion> suggestions) {
+        String key = key(userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.del(key);
+            stringConnection.zAdd(key, 0, COMPUTED_MARKER);
+            for (Suggestion suggestion : suggestions) {
+                stringConnection.zAdd(key, suggestion.score(), String.valueOf(suggestion.userId()));
+            }
+            stringConnection.expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    /**
+     * A suggested user and their relevance score.
+     */
+    public record Suggestion(Long userId, double score) {}
+}
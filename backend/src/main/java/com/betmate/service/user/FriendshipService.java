@@ -1,21 +1,35 @@
 package com.betmate.service.user;
 
+import com.betmate.dto.user.response.FriendSuggestionResponseDto;
+import com.betmate.dto.user.response.UserSearchResultResponseDto;
+import com.betmate.entity.user.FriendEdge;
 import com.betmate.entity.user.Friendship;
 import com.betmate.entity.user.Friendship.FriendshipStatus;
 import com.betmate.entity.user.User;
 import com.betmate.exception.user.UserNotFoundException;
+import com.betmate.repository.user.FriendEdgeRepository;
 import com.betmate.repository.user.FriendshipRepository;
 import com.betmate.repository.user.UserRepository;
 import com.betmate.service.notification.NotificationService;
 import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing user friendships and friend requests.
@@ -28,15 +42,25 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class FriendshipService {
 
+    private static final Logger logger = LoggerFactory.getLogger(FriendshipService.class);
+
     private final FriendshipRepository friendshipRepository;
+    private final FriendEdgeRepository friendEdgeRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final FriendGraphService friendGraphService;
+    private final FriendSuggestionService friendSuggestionService;
 
     @Autowired
-    public FriendshipService(FriendshipRepository friendshipRepository, UserRepository userRepository, NotificationService notificationService) {
+    public FriendshipService(FriendshipRepository friendshipRepository, FriendEdgeRepository friendEdgeRepository,
+                             UserRepository userRepository, NotificationService notificationService,
+                             FriendGraphService friendGraphService, FriendSuggestionService friendSuggestionService) {
         this.friendshipRepository = friendshipRepository;
+        this.friendEdgeRepository = friendEdgeRepository;
         this.userRepository = userRepository;
         this.notificationService = notificationService;
+        this.friendGraphService = friendGraphService;
+        this.friendSuggestionService = friendSuggestionService;
     }
 
     // ==========================================
@@ -76,6 +100,7 @@ public class FriendshipService {
                     // Allow new request after rejection
                     existing.setStatus(FriendshipStatus.PENDING);
                     Friendship reactivatedFriendship = friendshipRepository.save(existing);
+                    writeEdges(reactivatedFriendship);
 
                     // Create notification for the reactivated friend request
                     notificationService.createFriendRequestNotification(requester, accepter, reactivatedFriendship.getId());
@@ -86,6 +111,7 @@ public class FriendshipService {
 
         Friendship friendship = new Friendship(requester, accepter);
         Friendship savedFriendship = friendshipRepository.save(friendship);
+        writeEdges(savedFriendship);
 
         // Create notification for friend request
         notificationService.createFriendRequestNotification(requester, accepter, savedFriendship.getId());
@@ -115,6 +141,9 @@ public class FriendshipService {
 
         friendship.accept();
         Friendship savedFriendship = friendshipRepository.save(friendship);
+        writeEdges(savedFriendship);
+        friendGraphService.recordFriendship(friendship.getRequester().getId(), accepter.getId());
+        friendSuggestionService.markStale(List.of(friendship.getRequester().getId(), accepter.getId()));
 
         // Delete the friend request notification since it's been processed
         notificationService.deleteFriendRequestNotification(friendshipId);
@@ -148,6 +177,7 @@ public class FriendshipService {
 
         friendship.reject();
         Friendship savedFriendship = friendshipRepository.save(friendship);
+        writeEdges(savedFriendship);
 
         // Delete the friend request notification since it's been processed
         notificationService.deleteFriendRequestNotification(friendshipId);
@@ -177,6 +207,9 @@ public class FriendshipService {
         }
 
         friendshipRepository.delete(friendship);
+        friendEdgeRepository.deletePair(userId1, userId2);
+        friendGraphService.removeFriendship(userId1, userId2);
+        friendSuggestionService.markStale(List.of(userId1, userId2));
     }
 
     // ==========================================
@@ -185,14 +218,14 @@ public class FriendshipService {
 
     /**
      * Get all friends for a user.
+     * Friend IDs come from the cached friend graph, so this is a single user lookup.
      *
      * @param userId the user ID
      * @return list of friends
      */
     public List<User> getFriends(@NotNull Long userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
-        return friendshipRepository.findFriendsByUser(user);
+        requireUser(userId);
+        return findUsers(friendGraphService.getFriendIds(userId));
     }
 
     /**
@@ -202,9 +235,8 @@ public class FriendshipService {
      * @return number of friends
      */
     public long getFriendsCount(@NotNull Long userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
-        return friendshipRepository.countFriendsByUser(user);
+        requireUser(userId);
+        return friendGraphService.countFriends(userId);
     }
 
     /**
@@ -215,9 +247,41 @@ public class FriendshipService {
      * @return list of matching friends
      */
     public List<User> searchFriends(@NotNull Long userId, @NotNull String searchTerm) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
-        return friendshipRepository.findFriendsByUserAndSearchTerm(user, searchTerm);
+        requireUser(userId);
+        return friendEdgeRepository.findFriendsByUserIdAndSearchTerm(userId, searchTerm);
+    }
+
+    /**
+     * Get "people you may know" suggestions for a user from the precomputed store,
+     * skipping anyone who became a friend since the suggestions were computed.
+     *
+     * @param userId the user ID
+     * @param limit maximum number of suggestions
+     * @return suggested users with mutual friend counts, best first
+     */
+    public List<FriendSuggestionResponseDto> getFriendSuggestions(@NotNull Long userId, int limit) {
+        List<FriendSuggestionService.Suggestion> suggestions = friendSuggestionService.getSuggestions(userId, limit).stream()
+            .filter(suggestion -> !friendGraphService.areFriends(userId, suggestion.userId()))
+            .toList();
+        if (suggestions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> users = userRepository.findAllById(
+                suggestions.stream().map(FriendSuggestionService.Suggestion::userId).toList()).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // Keep the stored score order; skip users deleted or deactivated since the last refresh
+        return suggestions.stream()
+            .filter(suggestion -> {
+                User user = users.get(suggestion.userId());
+                return user != null && Boolean.TRUE.equals(user.getIsActive());
+            })
+            .map(suggestion -> new FriendSuggestionResponseDto(
+                UserSearchResultResponseDto.fromUser(users.get(suggestion.userId())),
+                friendGraphService.countMutualFriends(userId, suggestion.userId()),
+                suggestion.score()))
+            .toList();
     }
 
     /**
@@ -228,11 +292,9 @@ public class FriendshipService {
      * @return list of mutual friends
      */
     public List<User> getMutualFriends(@NotNull Long userId1, @NotNull Long userId2) {
-        User user1 = userRepository.findById(userId1)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId1));
-        User user2 = userRepository.findById(userId2)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId2));
-        return friendshipRepository.findMutualFriends(user1, user2);
+        requireUser(userId1);
+        requireUser(userId2);
+        return findUsers(friendGraphService.getMutualFriendIds(userId1, userId2));
     }
 
     /**
@@ -243,11 +305,9 @@ public class FriendshipService {
      * @return number of mutual friends
      */
     public long getMutualFriendsCount(@NotNull Long userId1, @NotNull Long userId2) {
-        User user1 = userRepository.findById(userId1)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId1));
-        User user2 = userRepository.findById(userId2)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId2));
-        return friendshipRepository.countMutualFriends(userId1, userId2);
+        requireUser(userId1);
+        requireUser(userId2);
+        return friendGraphService.countMutualFriends(userId1, userId2);
     }
 
     // ==========================================
@@ -302,11 +362,9 @@ public class FriendshipService {
      * @return true if users are friends
      */
     public boolean areFriends(@NotNull Long userId1, @NotNull Long userId2) {
-        User user1 = userRepository.findById(userId1)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId1));
-        User user2 = userRepository.findById(userId2)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId2));
-        return friendshipRepository.areFriends(user1, user2);
+        requireUser(userId1);
+        requireUser(userId2);
+        return friendGraphService.areFriends(userId1, userId2);
     }
 
     /**
@@ -317,11 +375,9 @@ public class FriendshipService {
      * @return true if there's a pending request
      */
     public boolean hasPendingRequest(@NotNull Long userId1, @NotNull Long userId2) {
-        User user1 = userRepository.findById(userId1)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId1));
-        User user2 = userRepository.findById(userId2)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId2));
-        return friendshipRepository.hasPendingRequest(user1, user2);
+        requireUser(userId1);
+        requireUser(userId2);
+        return friendEdgeRepository.existsByUserIdAndFriendIdAndStatus(userId1, userId2, FriendshipStatus.PENDING);
     }
 
     /**
@@ -332,13 +388,25 @@ public class FriendshipService {
      * @return friendship status or null if no relationship exists
      */
     public FriendshipStatus getFriendshipStatus(@NotNull Long userId1, @NotNull Long userId2) {
-        User user1 = userRepository.findById(userId1)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId1));
-        User user2 = userRepository.findById(userId2)
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId2));
+        requireUser(userId1);
+        requireUser(userId2);
+        return friendEdgeRepository.findStatus(userId1, userId2).orElse(null);
+    }
 
-        Optional<Friendship> friendship = friendshipRepository.findFriendshipBetweenUsers(user1, user2);
-        return friendship.map(Friendship::getStatus).orElse(null);
+    /**
+     * Get the friendship status between a user and each of the given users in one query.
+     * Users with no relationship are absent from the map.
+     *
+     * @param userId the user ID
+     * @param otherUserIds the IDs to look up
+     * @return status by other user ID
+     */
+    public Map<Long, FriendshipStatus> getFriendshipStatuses(@NotNull Long userId, @NotNull Collection<Long> otherUserIds) {
+        if (otherUserIds.isEmpty()) {
+            return Map.of();
+        }
+        return friendEdgeRepository.findByUserIdAndFriendIdIn(userId, otherUserIds).stream()
+            .collect(Collectors.toMap(FriendEdge::getFriendId, FriendEdge::getStatus));
     }
 
     /**
@@ -356,10 +424,51 @@ public class FriendshipService {
         return friendshipRepository.findFriendshipBetweenUsers(user1, user2);
     }
 
+    /**
+     * Mirrors a friendship's current status into both directed edges.
+     */
+    private void writeEdges(Friendship friendship) {
+        friendEdgeRepository.upsertPair(friendship.getRequester().getId(), friendship.getAccepter().getId(),
+            friendship.getStatus().name(), LocalDateTime.now());
+    }
+
+    /**
+     * Existence check for reads that no longer load the user entity itself.
+     */
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found with ID: " + userId);
+        }
+    }
+
+    private List<User> findUsers(long[] userIds) {
+        if (userIds.length == 0) {
+            return List.of();
+        }
+        return userRepository.findAllById(Arrays.stream(userIds).boxed().toList());
+    }
+
     // ==========================================
     // CLEANUP OPERATIONS
     // ==========================================
 
+    /**
+     * Backfills friend edges on first start after deployment, when the table is still empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillEdgesIfEmpty() {
+        try {
+            if (friendEdgeRepository.count() == 0 && friendshipRepository.count() > 0) {
+                int written = friendEdgeRepository.backfillFromFriendships();
+                logger.info("Backfilled {} friend edges from friendships", written);
+            }
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            logger.error("Failed to backfill friend edges: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * Clean up old rejected friend requests.
      *
@@ -370,6 +479,7 @@ public class FriendshipService {
     public void cleanupOldRejectedRequests(int daysOld) {
         LocalDateTime cutoff = LocalDateTime.now().minusDays(daysOld);
         friendshipRepository.deleteRejectedFriendshipsOlderThan(cutoff);
+        friendEdgeRepository.deleteRejectedOlderThan(cutoff);
     }
 
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.betmate.service.user;
 import com.betmate.entity.user.User;
 import com.betmate.exception.user.InsufficientCreditsException;
 import com.betmate.exception.user.InsufficientFrozenCreditsException;
+import com.betmate.repository.user.UserRepository;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
@@ -28,10 +29,12 @@ public class UserCreditService {
 
     private static final Logger log = LoggerFactory.getLogger(UserCreditService.class);
     private final UserService userService;
+    private final UserRepository userRepository;
 
     @Autowired
-    public UserCreditService(UserService userService) {
+    public UserCreditService(UserService userService, UserRepository userRepository) {
         this.userService = userService;
+        this.userRepository = userRepository;
     }
 
     /**
@@ -93,6 +96,24 @@ public class UserCreditService {
         return updatedUser;
     }
 
+    /**
+     * Debits available credits with a single conditional update, joining the caller's transaction.
+     * Unlike deductCredits this never reads the user first, so a purchase holds the user row
+     * lock only for the update itself. Runs at the default isolation when called on its own.
+     *
+     * @throws InsufficientCreditsException if available credits are below the amount
+     */
+    @Transactional
+    public void debitCredits(@NotNull Long userId,
+                             @NotNull @DecimalMin(value = "0.01", message = "Amount must be positive") BigDecimal amount,
+                             @NotNull String reason) {
+        if (userRepository.debitAvailableCredits(userId, amount) == 0) {
+            throw new InsufficientCreditsException(
+                String.format("Insufficient available credits. Required: %s", amount));
+        }
+        log.info("CREDIT_TRANSACTION: User={}, Type={}, Amount={}, Reason={}", userId, "DEBIT", amount, reason);
+    }
+
     /**
      * Transfers credits between two users atomically with consistent lock ordering
      * to prevent deadlocks and race conditions.
@@ -10,18 +10,36 @@ import com.betmate.entity.user.UserInventory;
 import com.betmate.exception.user.UserInventoryException;
 import com.betmate.mapper.InventoryMapper;
 import com.betmate.repository.user.UserInventoryRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import com.betmate.service.store.StoreAnalyticsService;
+import com.betmate.util.TransactionUtil;
 import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.validation.annotation.Validated;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for managing user inventory and owned items.
@@ -32,15 +50,34 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class UserInventoryService {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserInventoryService.class);
+
+    private static final String SUMMARY_CACHE = "inventory-summary";
+
     private final UserInventoryRepository inventoryRepository;
     private final InventoryMapper inventoryMapper;
+    private final UserLoadoutService loadoutService;
+    private final StoreAnalyticsService storeAnalyticsService;
+    private final CacheInvalidationBus invalidationBus;
+    private final int maxCachedSummaries;
+    // Per-user summaries, dropped on every instance after any purchase, equip or removal for that user commits
+    private final Map<Long, InventorySummaryResponseDto> summaries = new ConcurrentHashMap<>();
     // private final StoreService storeService; // TODO: Add when StoreService is created
     // private final UserService userService; // TODO: Add when needed
 
     @Autowired
-    public UserInventoryService(UserInventoryRepository inventoryRepository, InventoryMapper inventoryMapper) {
+    public UserInventoryService(UserInventoryRepository inventoryRepository, InventoryMapper inventoryMapper,
+                                UserLoadoutService loadoutService,
+                                StoreAnalyticsService storeAnalyticsService,
+                                CacheInvalidationBus invalidationBus,
+                                @Value("${inventory.summary.max-cached-users:10000}") int maxCachedSummaries) {
         this.inventoryRepository = inventoryRepository;
         this.inventoryMapper = inventoryMapper;
+        this.loadoutService = loadoutService;
+        this.storeAnalyticsService = storeAnalyticsService;
+        this.invalidationBus = invalidationBus;
+        this.maxCachedSummaries = maxCachedSummaries;
+        invalidationBus.register(SUMMARY_CACHE, summaries::remove);
         // this.storeService = storeService; // TODO: Add when StoreService is created
         // this.userService = userService; // TODO: Add when needed
     }
@@ -96,6 +133,14 @@ public class UserInventoryService {
         return inventoryRepository.existsByUserAndStoreItemAndIsActiveTrue(user, storeItem);
     }
 
+    /**
+     * Gets the IDs of all store items a user owns, for flagging ownership across a catalog page.
+     */
+    @PreAuthorize("#user.username == authentication.name or hasRole('ADMIN')")
+    public Set<Long> getOwnedStoreItemIds(@NotNull User user) {
+        return new HashSet<>(inventoryRepository.findOwnedStoreItemIds(user));
+    }
+
     /**
      * Adds an item to user's inventory (typically after purchase).
      */
@@ -116,7 +161,10 @@ public class UserInventoryService {
         inventory.setIsActive(true);
         inventory.setIsEquipped(false);
 
-        return inventoryRepository.save(inventory);
+        UserInventory savedInventory = inventoryRepository.save(inventory);
+        storeAnalyticsService.recordPurchase(storeItem.getId(), pricePaid);
+        evictInventorySummary(user.getId());
+        return savedInventory;
     }
 
     /**
@@ -136,19 +184,45 @@ public class UserInventoryService {
             throw new IllegalStateException("Cannot equip inactive item");
         }
 
-        StoreItem.ItemType itemType = inventoryItem.getStoreItem().getItemType();
+        // Swap the slot in one statement: this item on, whatever else was in it off
+        Map<StoreItem.ItemType, Long> slot = new EnumMap<>(StoreItem.ItemType.class);
+        slot.put(inventoryItem.getItemType(), inventoryId);
+        applySlots(user, slot);
+    }
 
-        // Unequip currently equipped item of same type
-        Optional<UserInventory> currentlyEquipped = getEquippedItemByType(user, itemType);
-        if (currentlyEquipped.isPresent()) {
-            currentlyEquipped.get().setIsEquipped(false);
-            inventoryRepository.save(currentlyEquipped.get());
+    /**
+     * Applies several loadout slots at once. Each slot maps to the inventory item to equip
+     * there, or to null to clear it; slots not mentioned are left as they are.
+     */
+    @Transactional
+    @PreAuthorize("#user.username == authentication.name or hasRole('ADMIN')")
+    public void applyLoadout(@NotNull User user, @NotNull Map<StoreItem.ItemType, Long> slots) {
+        List<Long> inventoryIds = slots.values().stream().filter(id -> id != null).toList();
+        Map<Long, UserInventory> items = new HashMap<>();
+        for (UserInventory item : inventoryRepository.findAllById(inventoryIds)) {
+            items.put(item.getId(), item);
         }
 
-        // Equip the new item
-        inventoryItem.setIsEquipped(true);
-        inventoryItem.setEquippedAt(LocalDateTime.now());
-        inventoryRepository.save(inventoryItem);
+        for (Map.Entry<StoreItem.ItemType, Long> slot : slots.entrySet()) {
+            if (slot.getValue() == null) {
+                continue;
+            }
+            UserInventory item = items.get(slot.getValue());
+            if (item == null) {
+                throw new UserInventoryException("Inventory item not found: " + slot.getValue());
+            }
+            if (!item.getUser().getId().equals(user.getId())) {
+                throw new IllegalArgumentException("User does not own this item");
+            }
+            if (!item.getIsActive()) {
+                throw new IllegalStateException("Cannot equip inactive item");
+            }
+            if (item.getItemType() != slot.getKey()) {
+                throw new IllegalArgumentException("Item " + item.getId() + " cannot be equipped as " + slot.getKey());
+            }
+        }
+
+        applySlots(user, slots);
     }
 
     /**
@@ -171,6 +245,8 @@ public class UserInventoryService {
         inventoryItem.setIsEquipped(false);
         inventoryItem.setEquippedAt(null);
         inventoryRepository.save(inventoryItem);
+        evictInventorySummary(user.getId());
+        loadoutService.invalidate(user.getId());
     }
 
     /**
@@ -179,12 +255,10 @@ public class UserInventoryService {
     @Transactional
     @PreAuthorize("#user.username == authentication.name or hasRole('ADMIN')")
     public void unequipItemsByType(@NotNull User user, @NotNull StoreItem.ItemType itemType) {
-        List<UserInventory> equippedItems = inventoryRepository.findByUserAndStoreItem_ItemTypeAndIsEquippedTrueAndIsActiveTrue(user, itemType);
-        
-        for (UserInventory item : equippedItems) {
-            item.setIsEquipped(false);
-            item.setEquippedAt(null);
-            inventoryRepository.save(item);
+        int unequipped = inventoryRepository.unequipByTypes(user.getId(), List.of(itemType));
+        if (unequipped > 0) {
+            evictInventorySummary(user.getId());
+            loadoutService.invalidate(user.getId());
         }
     }
 
@@ -217,10 +291,7 @@ public class UserInventoryService {
      */
     @PreAuthorize("#user.username == authentication.name or hasRole('ADMIN')")
     public List<InventoryItemResponseDto> getRecentPurchases(@NotNull User user, int limit) {
-        List<UserInventory> recentPurchases = inventoryRepository.findByUserAndIsActiveTrueOrderByPurchasedAtDesc(user)
-            .stream()
-            .limit(limit)
-            .toList();
+        List<UserInventory> recentPurchases = inventoryRepository.findRecentPurchases(user, PageRequest.of(0, limit));
         return inventoryMapper.toInventoryItemResponseList(recentPurchases);
     }
 
@@ -235,25 +306,39 @@ public class UserInventoryService {
 
     /**
      * Gets user's inventory summary with statistics.
+     *
+     * Built from one grouped aggregate and one limited recent-purchases query, then cached per
+     * user until their inventory next changes. The returned summary is shared and must not be modified.
      */
     @PreAuthorize("#user.username == authentication.name or hasRole('ADMIN')")
     public InventorySummaryResponseDto getInventorySummary(@NotNull User user) {
-        Long totalItems = getUserInventoryCount(user);
-        BigDecimal totalValue = getUserInventoryValue(user);
-        
-        // Get items by type
-        Map<String, Long> itemsByType = new java.util.HashMap<>();
-        for (StoreItem.ItemType itemType : StoreItem.ItemType.values()) {
-            Long count = getUserInventoryCountByType(user, itemType);
-            if (count > 0) {
-                itemsByType.put(itemType.name(), count);
-            }
+        InventorySummaryResponseDto summary = summaries.get(user.getId());
+        if (summary != null) {
+            return summary;
         }
-        
-        // Get recent purchases (last 5)
-        List<InventoryItemResponseDto> recentPurchases = getRecentPurchases(user, 5);
-        
-        return new InventorySummaryResponseDto(totalItems, totalValue, itemsByType, recentPurchases);
+        evictSummariesIfFull();
+        // Loading inside computeIfAbsent makes a concurrent eviction for this user wait for the load
+        return summaries.computeIfAbsent(user.getId(), id -> loadInventorySummary(user));
+    }
+
+    /**
+     * Drops a user's cached inventory summary on every instance once the surrounding transaction commits.
+     */
+    public void evictInventorySummary(@NotNull Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            summaries.remove(userId);
+            invalidationBus.publish(SUMMARY_CACHE, userId);
+        });
+    }
+
+    /**
+     * Drops all cached summaries on this instance; each is rebuilt on its next read.
+     * Runs periodically so a summary whose invalidation never arrived does not stay stale.
+     */
+    @Scheduled(fixedDelayString = "${cache.local.refresh-interval-ms:600000}",
+               initialDelayString = "${cache.local.refresh-interval-ms:600000}")
+    public void evictAllInventorySummaries() {
+        summaries.clear();
     }
 
     /**
@@ -268,13 +353,19 @@ public class UserInventoryService {
         if (inventoryItem.getIsEquipped()) {
             inventoryItem.setIsEquipped(false);
             inventoryItem.setEquippedAt(null);
+            loadoutService.invalidate(inventoryItem.getUser().getId());
         }
         
+        boolean wasActive = inventoryItem.getIsActive();
         inventoryItem.setIsActive(false);
         inventoryItem.setRemovedAt(LocalDateTime.now());
         inventoryItem.setRemovalReason(reason);
         
         inventoryRepository.save(inventoryItem);
+        if (wasActive) {
+            storeAnalyticsService.recordRemoval(inventoryItem.getStoreItem().getId(), inventoryItem.getPurchasePrice());
+        }
+        evictInventorySummary(inventoryItem.getUser().getId());
     }
 
     /**
@@ -292,6 +383,78 @@ public class UserInventoryService {
         return addItemToInventory(newOwner, originalItem.getStoreItem(), originalItem.getPricePaid());
     }
 
+    /**
+     * Fills the denormalized item type on inventory rows written before the column existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillItemTypes() {
+        try {
+            int updated = inventoryRepository.backfillItemTypes();
+            if (updated > 0) {
+                logger.info("Backfilled item type on {} inventory rows", updated);
+            }
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            logger.error("Failed to backfill inventory item types: {}", e.getMessage(), e);
+        }
+    }
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    // One UPDATE over the given slots; slots mapped to null are only cleared
+    private void applySlots(User user, Map<StoreItem.ItemType, Long> slots) {
+        if (slots.isEmpty()) {
+            return;
+        }
+        List<Long> equipIds = new ArrayList<>();
+        for (Long inventoryId : slots.values()) {
+            if (inventoryId != null) {
+                equipIds.add(inventoryId);
+            }
+        }
+        if (equipIds.isEmpty()) {
+            inventoryRepository.unequipByTypes(user.getId(), slots.keySet());
+        } else {
+            inventoryRepository.swapEquipped(user.getId(), slots.keySet(), equipIds);
+        }
+        evictInventorySummary(user.getId());
+        loadoutService.invalidate(user.getId());
+    }
+
+    private InventorySummaryResponseDto loadInventorySummary(User user) {
+        long totalItems = 0;
+        BigDecimal totalValue = BigDecimal.ZERO;
+        Map<String, Long> itemsByType = new HashMap<>();
+        for (Object[] row : inventoryRepository.getInventoryTotalsByType(user)) {
+            long count = (Long) row[1];
+            itemsByType.put(((StoreItem.ItemType) row[0]).name(), count);
+            totalItems += count;
+            if (row[2] != null) {
+                totalValue = totalValue.add((BigDecimal) row[2]);
+            }
+        }
+        
+        // Get recent purchases (last 5)
+        List<InventoryItemResponseDto> recentPurchases = getRecentPurchases(user, 5);
+        
+        return new InventorySummaryResponseDto(totalItems, totalValue, itemsByType, recentPurchases);
+    }
+
+    private void evictSummariesIfFull() {
+        if (summaries.size() < maxCachedSummaries) {
+            return;
+        }
+        int toEvict = Math.max(1, maxCachedSummaries / 10);
+        Iterator<Long> keys = summaries.keySet().iterator();
+        while (toEvict-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
 
     // ==========================================
     // EXCEPTIONS
@@ -0,0 +1,165 @@
+package com.betmate.service.user;
+
+import com.betmate.dto.store.response.LoadoutPreviewDto;
+import com.betmate.dto.store.response.LoadoutPreviewDto.EquippedCosmetic;
+import com.betmate.entity.store.StoreItem;
+import com.betmate.repository.user.UserInventoryRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import com.betmate.util.TransactionUtil;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory cache of equipped cosmetics: userId to a compact loadout.
+ *
+ * Lists that render many users (chat, members, leaderboards) fetch loadouts in bulk; cache
+ * misses are filled with a single IN query. Equipping, unequipping or removing an item drops
+ * the user's entry on every instance once the transaction commits. The cache is an access-ordered map capped at
+ * the configured size, so the least recently read users are dropped first.
+ */
+@Service
+@Validated
+public class UserLoadoutService {
+
+    private static final String CACHE_NAME = "loadouts";
+
+    private final UserInventoryRepository inventoryRepository;
+    private final CacheInvalidationBus invalidationBus;
+    // Guarded by itself, together with generation
+    private final Map<Long, LoadoutPreviewDto> loadouts;
+    // Bumped on every invalidation so a bulk load that raced one is not cached
+    private long generation;
+
+    @Autowired
+    public UserLoadoutService(UserInventoryRepository inventoryRepository,
+                              CacheInvalidationBus invalidationBus,
+                              @Value("${inventory.loadout.max-cached-users:50000}") int maxCachedUsers) {
+        this.inventoryRepository = inventoryRepository;
+        this.invalidationBus = invalidationBus;
+        this.loadouts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LoadoutPreviewDto> eldest) {
+                return size() > maxCachedUsers;
+            }
+        };
+        invalidationBus.register(CACHE_NAME, this::evict);
+    }
+
+    // ==========================================
+    // READS
+    // ==========================================
+
+    public LoadoutPreviewDto getLoadout(@NotNull Long userId) {
+        return getLoadouts(List.of(userId)).get(userId);
+    }
+
+    /**
+     * Gets loadouts for the given users. Every requested ID is present in the result;
+     * users with nothing equipped map to {@link LoadoutPreviewDto#EMPTY}.
+     */
+    public Map<Long, LoadoutPreviewDto> getLoadouts(@NotNull Collection<Long> userIds) {
+        Map<Long, LoadoutPreviewDto> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long startedAt;
+        synchronized (loadouts) {
+            for (Long userId : new LinkedHashSet<>(userIds)) {
+                LoadoutPreviewDto loadout = loadouts.get(userId);
+                if (loadout != null) {
+                    result.put(userId, loadout);
+                } else {
+                    misses.add(userId);
+                }
+            }
+            startedAt = generation;
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        // The query runs outside the lock; the generation check and the put share it with
+        // invalidate, so an invalidation can't slip in between them
+        Map<Long, LoadoutPreviewDto> loaded = load(misses);
+        result.putAll(loaded);
+        synchronized (loadouts) {
+            if (generation == startedAt) {
+                loadouts.putAll(loaded);
+            }
+        }
+        return result;
+    }
+
+    // ==========================================
+    // INVALIDATION
+    // ==========================================
+
+    /**
+     * Drops a user's cached loadout on every instance once the surrounding transaction commits.
+     */
+    public void invalidate(@NotNull Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            evict(userId);
+            invalidationBus.publish(CACHE_NAME, userId);
+        });
+    }
+
+    private void evict(Long userId) {
+        synchronized (loadouts) {
+            generation++;
+            loadouts.remove(userId);
+        }
+    }
+
+    /**
+     * Clears all cached loadouts periodically, as a backstop for invalidations lost on the way
+     * from another instance.
+     */
+    @Scheduled(fixedDelayString = "${cache.local.refresh-interval-ms:600000}",
+               initialDelayString = "${cache.local.refresh-interval-ms:600000}")
+    public void evictAll() {
+        synchronized (loadouts) {
+            generation++;
+            loadouts.clear();
+        }
+    }
+
+    // ==========================================
+    // HELPERS
+    // ==========================================
+
+    private Map<Long, LoadoutPreviewDto> load(List<Long> userIds) {
+        Map<Long, Map<StoreItem.ItemType, EquippedCosmetic>> slotsByUser = new HashMap<>();
+        // Row: [userId, storeItemId, itemType, name, iconUrl, rarity]
+        for (Object[] row : inventoryRepository.findEquippedCosmeticsByUserIds(userIds)) {
+            StoreItem.Rarity rarity = (StoreItem.Rarity) row[5];
+            EquippedCosmetic cosmetic = new EquippedCosmetic(
+                (Long) row[1], (String) row[3], (String) row[4], rarity != null ? rarity.name() : null);
+            slotsByUser.computeIfAbsent((Long) row[0], id -> new EnumMap<>(StoreItem.ItemType.class))
+                .put((StoreItem.ItemType) row[2], cosmetic);
+        }
+
+        Map<Long, LoadoutPreviewDto> loaded = new HashMap<>();
+        for (Long userId : userIds) {
+            Map<StoreItem.ItemType, EquippedCosmetic> slots = slotsByUser.get(userId);
+            loaded.put(userId, slots == null ? LoadoutPreviewDto.EMPTY : new LoadoutPreviewDto(
+                slots.get(StoreItem.ItemType.TITLE),
+                slots.get(StoreItem.ItemType.AVATAR_SKIN),
+                slots.get(StoreItem.ItemType.BADGE),
+                slots.get(StoreItem.ItemType.PROFILE_THEME),
+                slots.get(StoreItem.ItemType.PROFILE_FRAME)));
+        }
+        return loaded;
+    }
+}
@@ -3,6 +3,7 @@ package com.betmate.service.user;
 import com.betmate.entity.user.User;
 import com.betmate.exception.user.UserNotFoundException;
 import com.betmate.repository.user.UserRepository;
+import com.betmate.service.search.SearchIndexService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +13,10 @@ import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Core user management service handling CRUD operations and basic user data.
@@ -22,11 +26,16 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class UserService {
 
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final UserRepository userRepository;
+    private final SearchIndexService searchIndexService;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, SearchIndexService searchIndexService) {
         this.userRepository = userRepository;
+        this.searchIndexService = searchIndexService;
     }
 
     /**
@@ -66,10 +75,33 @@ public class UserService {
      * Searches users by name.
      */
     public List<User> searchUsers(@NotNull String searchTerm) {
+        return searchUsers(searchTerm, DEFAULT_SEARCH_LIMIT);
+    }
+
+    /**
+     * Searches users by username, first or last name, most relevant first.
+     * Uses the in-memory n-gram index once built, so prefixes and small typos match.
+     */
+    public List<User> searchUsers(@NotNull String searchTerm, int limit) {
         if (searchTerm.trim().isEmpty()) {
             return List.of();
         }
-        return userRepository.searchUsersByName(searchTerm.trim());
+        int maxResults = Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+        if (!searchIndexService.isReady()) {
+            return userRepository.searchUsersByName(searchTerm.trim()).stream().limit(maxResults).toList();
+        }
+
+        List<Long> rankedIds = searchIndexService.searchUserIds(searchTerm, maxResults);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, User> usersById = userRepository.findAllById(rankedIds).stream()
+            .filter(User::isActiveUser)
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        return rankedIds.stream()
+            .map(usersById::get)
+            .filter(user -> user != null)
+            .toList();
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.betmate.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Utility class for deferring work until the surrounding transaction has committed or completed.
+ */
+public final class TransactionUtil {
+
+    // Private constructor to prevent instantiation
+    private TransactionUtil() {
+        throw new UnsupportedOperationException("TransactionUtil is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or immediately when there is no
+     * transaction. Used to update in-memory caches only after the writes they reflect are
+     * visible, and never for a transaction that rolls back.
+     *
+     * @param action work to run after commit
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Runs the action once the current transaction completes, passing whether it committed,
+     * or immediately as committed when there is no transaction. Used where bookkeeping taken
+     * during the transaction has to be released on rollback too.
+     *
+     * @param action work to run after completion, given true if the transaction committed
+     */
+    public static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
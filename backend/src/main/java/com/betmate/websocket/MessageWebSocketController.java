@@ -4,7 +4,9 @@ import com.betmate.dto.messaging.request.SendMessageRequestDto;
 import com.betmate.dto.messaging.response.MessageResponseDto;
 import com.betmate.entity.messaging.Message;
 import com.betmate.entity.user.User;
+import com.betmate.service.messaging.MessageNotificationService;
 import com.betmate.service.messaging.MessageService;
+import com.betmate.service.messaging.PresenceService;
 import com.betmate.service.user.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -24,14 +26,20 @@ import java.security.Principal;
 public class MessageWebSocketController {
 
     private final MessageService messageService;
+    private final MessageNotificationService notificationService;
+    private final PresenceService presenceService;
     private final UserService userService;
     private final SimpMessageSendingOperations messagingTemplate;
 
     @Autowired
     public MessageWebSocketController(MessageService messageService,
+                                    MessageNotificationService notificationService,
+                                    PresenceService presenceService,
                                     UserService userService,
                                     SimpMessageSendingOperations messagingTemplate) {
         this.messageService = messageService;
+        this.notificationService = notificationService;
+        this.presenceService = presenceService;
         this.userService = userService;
         this.messagingTemplate = messagingTemplate;
     }
@@ -67,8 +75,8 @@ public class MessageWebSocketController {
             // Convert to response DTO
             MessageResponseDto response = convertToMessageResponse(savedMessage, currentUser);
 
-            // Broadcast the message to all users subscribed to the group topic
-            messagingTemplate.convertAndSend("/topic/group/" + groupId + "/messages", response);
+            // Broadcast through the shared notification path so the frame is serialized once
+            notificationService.broadcastMessage(savedMessage, response);
 
         } catch (Exception e) {
             // Send error back to the user who tried to send the message
@@ -81,7 +89,8 @@ public class MessageWebSocketController {
     }
 
     /**
-     * Handle typing indicators for reanow l-time feedback.
+     * Handle typing indicators for real-time feedback.
+     * Throttled per user and group so a burst of keystrokes produces at most one frame per window.
      */
     @MessageMapping("/group/{groupId}/typing")
     public void handleTyping(@DestinationVariable Long groupId,
@@ -90,9 +99,10 @@ public class MessageWebSocketController {
         try {
             // Add the username to the typing indicator
             typingIndicator.setUsername(principal.getName());
+            typingIndicator.setGroupId(groupId);
             
-            // Broadcast typing indicator to all group members except the sender
-            messagingTemplate.convertAndSend("/topic/group/" + groupId + "/typing", typingIndicator);
+            // Broadcast typing indicator to group members unless throttled
+            presenceService.handleTyping(groupId, typingIndicator);
             
         } catch (Exception e) {
             // Silently ignore typing indicator errors to avoid disrupting the chat experience
@@ -101,14 +111,12 @@ public class MessageWebSocketController {
 
     /**
      * Handle user presence updates (online/offline status).
+     * Changes are coalesced and published to friends and shared groups by the presence service.
      */
     @MessageMapping("/presence")
     public void updatePresence(@Payload UserPresenceDto presence, Principal principal) {
         try {
-            presence.setUsername(principal.getName());
-            
-            // Broadcast presence update to all connected users
-            messagingTemplate.convertAndSend("/topic/presence", presence);
+            presenceService.updatePresence(principal.getName(), presence.getStatus());
             
         } catch (Exception e) {
             // Silently ignore presence errors
@@ -0,0 +1,42 @@
+package com.betmate.websocket;
+
+import com.betmate.service.messaging.PresenceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * Inbound channel interceptor that treats every client frame, including STOMP heart-beats,
+ * as a presence heartbeat for the sending user.
+ */
+@Component
+public class PresenceHeartbeatInterceptor implements ChannelInterceptor {
+
+    private final PresenceService presenceService;
+
+    // Lazy to avoid a cycle: PresenceService needs the broker template, which needs WebSocketConfig
+    @Autowired
+    public PresenceHeartbeatInterceptor(@Lazy PresenceService presenceService) {
+        this.presenceService = presenceService;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (messageType == SimpMessageType.DISCONNECT || messageType == SimpMessageType.CONNECT) {
+            return;
+        }
+
+        Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        if (user != null) {
+            presenceService.recordHeartbeat(user.getName());
+        }
+    }
+}
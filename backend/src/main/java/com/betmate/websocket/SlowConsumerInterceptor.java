@@ -0,0 +1,139 @@
+package com.betmate.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outbound channel interceptor implementing the first stage of the slow-consumer policy.
+ *
+ * Tracks how many frames are queued for each session between the broker and the socket.
+ * Once a session's backlog reaches the soft limit, ephemeral frames (typing indicators and
+ * presence updates) are dropped so chat messages keep flowing. If the client still cannot keep
+ * up, the transport's send buffer and time limits close the session (second stage).
+ */
+@Component
+public class SlowConsumerInterceptor implements ExecutorChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowConsumerInterceptor.class);
+
+    private final int softQueueLimit;
+
+    // sessionId -> frames accepted on the outbound channel but not yet written to the session
+    private final ConcurrentHashMap<String, AtomicInteger> queueDepths = new ConcurrentHashMap<>();
+
+    private final Counter droppedFrames;
+
+    @Autowired
+    public SlowConsumerInterceptor(MeterRegistry meterRegistry,
+                                   @Value("${websocket.outbound.soft-queue-limit:50}") int softQueueLimit) {
+        this.softQueueLimit = softQueueLimit;
+        this.droppedFrames = Counter.builder("websocket.outbound.dropped")
+            .description("Ephemeral frames dropped for slow WebSocket consumers")
+            .register(meterRegistry);
+        Gauge.builder("websocket.session.queue.depth.max", this, SlowConsumerInterceptor::getMaxQueueDepth)
+            .description("Largest outbound backlog of any WebSocket session")
+            .register(meterRegistry);
+        Gauge.builder("websocket.session.queue.depth.total", this, SlowConsumerInterceptor::getTotalQueueDepth)
+            .description("Outbound frames queued across all WebSocket sessions")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+
+        // Sessions are tracked from CONNECT to DISCONNECT; frames for unknown sessions pass untracked
+        AtomicInteger depth = queueDepths.get(sessionId);
+        if (depth == null) {
+            return message;
+        }
+        if (depth.get() >= softQueueLimit && isEphemeral(message)) {
+            droppedFrames.increment();
+            logger.debug("Dropped ephemeral frame for slow session {} (backlog {})", sessionId, depth.get());
+            return null;
+        }
+        depth.incrementAndGet();
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // Frames rejected by the executor never reach afterMessageHandled
+        if (!sent || ex != null) {
+            release(message);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        release(message);
+    }
+
+    @EventListener
+    public void handleSessionConnect(SessionConnectEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            queueDepths.putIfAbsent(sessionId, new AtomicInteger());
+        }
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        queueDepths.remove(event.getSessionId());
+    }
+
+    /**
+     * Gets the current outbound backlog of a session.
+     */
+    public int getQueueDepth(String sessionId) {
+        AtomicInteger depth = queueDepths.get(sessionId);
+        return depth != null ? depth.get() : 0;
+    }
+
+    public int getMaxQueueDepth() {
+        return queueDepths.values().stream().mapToInt(AtomicInteger::get).max().orElse(0);
+    }
+
+    public int getTotalQueueDepth() {
+        return queueDepths.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    private void release(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            queueDepths.computeIfPresent(sessionId, (id, depth) -> {
+                depth.updateAndGet(value -> Math.max(0, value - 1));
+                return depth;
+            });
+        }
+    }
+
+    private boolean isEphemeral(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+            return false;
+        }
+        return destination.endsWith("/typing") || destination.endsWith("/presence")
+            || destination.startsWith("/queue/presence") || destination.startsWith("/user/queue/presence");
+    }
+}
@@ -0,0 +1,109 @@
+package com.betmate.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Broadcasting facade that serializes a payload once and fans the resulting frame
+ * out to any number of STOMP destinations.
+ *
+ * SimpMessagingTemplate.convertAndSend runs the Jackson converter on every call; this
+ * facade writes the JSON into a per-thread reusable buffer, wraps it in a single
+ * Message&lt;byte[]&gt; and hands that same payload to the broker for each destination.
+ */
+@Component
+public class StompBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(StompBroadcaster.class);
+
+    // Buffers grow to the largest frame seen on the thread; anything above this is not retained
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ReusableByteArrayOutputStream> BUFFERS =
+        ThreadLocal.withInitial(() -> new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public StompBroadcaster(SimpMessageSendingOperations messagingTemplate, ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Serializes a payload into an immutable JSON frame that can be sent to many destinations.
+     */
+    public Message<byte[]> serialize(Object payload) {
+        ReusableByteArrayOutputStream buffer = BUFFERS.get();
+        try {
+            objectMapper.writeValue(buffer, payload);
+            byte[] bytes = buffer.toByteArray();
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            return MessageBuilder.createMessage(bytes, accessor.getMessageHeaders());
+        } catch (JsonProcessingException e) {
+            throw new MessageDeliveryException("Failed to serialize broadcast payload: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new MessageDeliveryException("Failed to serialize broadcast payload: " + e.getMessage());
+        } finally {
+            buffer.recycle();
+        }
+    }
+
+    /**
+     * Serializes the payload once and sends it to every destination.
+     */
+    public void broadcast(Object payload, String... destinations) {
+        broadcast(serialize(payload), Arrays.asList(destinations));
+    }
+
+    /**
+     * Sends an already serialized frame to every destination.
+     * The payload array is shared; only the destination header differs per send.
+     */
+    public void broadcast(Message<byte[]> frame, Collection<String> destinations) {
+        for (String destination : destinations) {
+            try {
+                messagingTemplate.send(destination, frame);
+            } catch (Exception e) {
+                logger.warn("Failed to broadcast frame to {}: {}", destination, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * ByteArrayOutputStream that can be reset and reused without reallocating its buffer.
+     */
+    private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+
+        ReusableByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        void recycle() {
+            if (buf.length > MAX_RETAINED_BUFFER_SIZE) {
+                buf = new byte[INITIAL_BUFFER_SIZE];
+            }
+            reset();
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.betmate.websocket;
 
+import com.betmate.service.messaging.OfflineDigestService;
+import com.betmate.service.messaging.PresenceRegistry;
+import com.betmate.service.messaging.PresenceService;
+import com.betmate.service.user.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
 /**
  * WebSocket event listener to handle connection and disconnection events.
@@ -19,11 +23,22 @@ public class WebSocketEventListener {
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketEventListener.class);
 
-    private final SimpMessageSendingOperations messagingTemplate;
+    private static final String NOTIFICATION_QUEUE = "/user/queue/notifications";
+
+    private final PresenceService presenceService;
+    private final PresenceRegistry presenceRegistry;
+    private final UserService userService;
+    private final OfflineDigestService offlineDigestService;
 
     @Autowired
-    public WebSocketEventListener(SimpMessageSendingOperations messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    public WebSocketEventListener(PresenceService presenceService,
+                                  PresenceRegistry presenceRegistry,
+                                  UserService userService,
+                                  OfflineDigestService offlineDigestService) {
+        this.presenceService = presenceService;
+        this.presenceRegistry = presenceRegistry;
+        this.userService = userService;
+        this.offlineDigestService = offlineDigestService;
     }
 
     @EventListener
@@ -34,12 +49,13 @@ public class WebSocketEventListener {
         if (username != null) {
             logger.info("User {} connected to WebSocket", username);
             
-            // Broadcast user online status
-            MessageWebSocketController.UserPresenceDto presence = new MessageWebSocketController.UserPresenceDto();
-            presence.setUsername(username);
-            presence.setStatus(MessageWebSocketController.UserPresenceDto.PresenceStatus.ONLINE);
+            // Record the session so any node can answer whether the user is online
+            String sessionId = headerAccessor.getSessionId();
+            userService.getUserByUsername(username)
+                .ifPresent(user -> presenceRegistry.sessionOpened(sessionId, user.getId()));
             
-            messagingTemplate.convertAndSend("/topic/presence", presence);
+            // Queue user online status for the next presence flush
+            presenceService.updatePresence(username, MessageWebSocketController.UserPresenceDto.PresenceStatus.ONLINE);
         }
     }
 
@@ -51,13 +67,34 @@ public class WebSocketEventListener {
         if (username != null) {
             logger.info("User {} disconnected from WebSocket", username);
             
-            // Broadcast user offline status
-            MessageWebSocketController.UserPresenceDto presence = new MessageWebSocketController.UserPresenceDto();
-            presence.setUsername(username);
-            presence.setStatus(MessageWebSocketController.UserPresenceDto.PresenceStatus.OFFLINE);
-            presence.setLastSeen(java.time.LocalDateTime.now().toString());
-            
-            messagingTemplate.convertAndSend("/topic/presence", presence);
+            // Only go offline once the user's last session on this node is closed
+            int remainingSessions = presenceRegistry.sessionClosed(event.getSessionId());
+            if (remainingSessions <= 0) {
+                // Queue user offline status for the next presence flush
+                presenceService.markOffline(username);
+            }
+        }
+    }
+
+    /**
+     * Delivers missed-message digests once the client subscribes to its notification queue.
+     * Flushing on subscribe rather than on connect guarantees there is a listener for the frames.
+     */
+    @EventListener
+    public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        String username = getUsernameFromSession(headerAccessor);
+        if (username == null || !NOTIFICATION_QUEUE.equals(headerAccessor.getDestination())) {
+            return;
+        }
+
+        Long userId = presenceRegistry.getSessionOwner(headerAccessor.getSessionId());
+        if (userId != null) {
+            try {
+                offlineDigestService.flushDigests(userId, username);
+            } catch (Exception e) {
+                logger.error("Failed to deliver message digests to user {}: {}", username, e.getMessage());
+            }
         }
     }
 
@@ -0,0 +1,78 @@
+package com.betmate.repository.group;
+
+import com.betmate.dto.group.response.MemberPreviewDto;
+import com.betmate.entity.group.Group;
+import com.betmate.entity.group.GroupMembership;
+import com.betmate.entity.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@DisplayName("GroupMembershipRepository Query Tests")
+class GroupMembershipRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GroupMembershipRepository membershipRepository;
+
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        User owner = user("owner");
+        group = new Group();
+        group.setGroupName("Test Group");
+        group.setCreator(owner);
+        entityManager.persist(group);
+
+        // Joined in the opposite order of their role rank
+        member("member1", GroupMembership.MemberRole.MEMBER);
+        member("member2", GroupMembership.MemberRole.MEMBER);
+        member("officer", GroupMembership.MemberRole.OFFICER);
+        member("admin", GroupMembership.MemberRole.ADMIN);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should page members by role rank, then join order")
+    void should_OrderByRoleRank_When_PagingByRole() {
+        // When
+        Page<MemberPreviewDto> first = membershipRepository.findMemberPageByRole(group.getId(), PageRequest.of(0, 3));
+        Page<MemberPreviewDto> second = membershipRepository.findMemberPageByRole(group.getId(), PageRequest.of(1, 3));
+
+        // Then
+        assertThat(first.getContent()).extracting(MemberPreviewDto::username)
+            .containsExactly("admin", "officer", "member1");
+        assertThat(second.getContent()).extracting(MemberPreviewDto::username)
+            .containsExactly("member2");
+        assertThat(first.getTotalElements()).isEqualTo(4);
+    }
+
+    private User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPasswordHash("hash");
+        return entityManager.persist(user);
+    }
+
+    private void member(String username, GroupMembership.MemberRole role) {
+        GroupMembership membership = new GroupMembership();
+        membership.setUser(user(username));
+        membership.setGroup(group);
+        membership.setRole(role);
+        membership.setStatus(GroupMembership.MembershipStatus.APPROVED);
+        entityManager.persist(membership);
+    }
+}
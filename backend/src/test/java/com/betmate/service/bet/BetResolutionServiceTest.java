@@ -0,0 +1,123 @@
+package com.betmate.service.bet;
+
+import com.betmate.entity.betting.Bet;
+import com.betmate.entity.betting.BetParticipation;
+import com.betmate.entity.user.User;
+import com.betmate.repository.betting.BetParticipationRepository;
+import com.betmate.repository.betting.BetRepository;
+import com.betmate.repository.betting.BetResolutionVoteRepository;
+import com.betmate.repository.betting.BetResolverRepository;
+import com.betmate.service.group.GroupLeaderboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("BetResolutionService Unit Tests")
+class BetResolutionServiceTest {
+
+    @Mock
+    private BetRepository betRepository;
+
+    @Mock
+    private BetResolverRepository betResolverRepository;
+
+    @Mock
+    private BetResolutionVoteRepository betResolutionVoteRepository;
+
+    @Mock
+    private BetParticipationRepository betParticipationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GroupLeaderboardService leaderboardService;
+
+    private BetResolutionService betResolutionService;
+    private User creator;
+    private Bet bet;
+
+    @BeforeEach
+    void setUp() {
+        betResolutionService = new BetResolutionService(betRepository, betResolverRepository,
+            betResolutionVoteRepository, betParticipationRepository, eventPublisher,
+            leaderboardService);
+
+        creator = new User();
+        creator.setId(1L);
+        bet = new Bet();
+        bet.setId(10L);
+        bet.setCreator(creator);
+        bet.setStatus(Bet.BetStatus.CLOSED);
+
+        when(betRepository.findById(10L)).thenReturn(Optional.of(bet));
+        when(betRepository.save(any(Bet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(betParticipationRepository.findByBetId(10L)).thenReturn(List.of(participation(2L, 1), participation(3L, 2)));
+    }
+
+    @Test
+    @DisplayName("Should record results without paying out when the creator resolves the bet")
+    void should_RecordResults_When_CreatorResolves() {
+        // Given
+        bet.setResolutionMethod(Bet.BetResolutionMethod.CREATOR_ONLY);
+
+        // When
+        Bet resolved = betResolutionService.resolveBet(10L, creator, Bet.BetOutcome.OPTION_1, null);
+
+        // Then
+        assertThat(resolved.getStatus()).isEqualTo(Bet.BetStatus.RESOLVED);
+        List<BetParticipation> participations = betParticipationRepository.findByBetId(10L);
+        assertThat(participations).extracting(BetParticipation::getStatus)
+            .containsExactly(BetParticipation.ParticipationStatus.WON, BetParticipation.ParticipationStatus.LOST);
+        assertThat(participations.get(0).getActualWinnings()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(leaderboardService).recordSettlements(bet, participations);
+    }
+
+    @Test
+    @DisplayName("Should record results when consensus voting reaches a majority")
+    void should_RecordResults_When_ConsensusReached() {
+        // Given
+        bet.setResolutionMethod(Bet.BetResolutionMethod.CONSENSUS_VOTING);
+        bet.setMinimumVotesRequired(2);
+        when(betResolutionVoteRepository.getValidVoteDistributionByBet(bet))
+            .thenReturn(List.<Object[]>of(new Object[]{Bet.BetOutcome.OPTION_2, 2L}));
+
+        // When
+        boolean resolved = betResolutionService.checkAndResolveIfConsensusReached(bet);
+
+        // Then
+        assertThat(resolved).isTrue();
+        assertThat(bet.getOutcome()).isEqualTo(Bet.BetOutcome.OPTION_2);
+        assertThat(betParticipationRepository.findByBetId(10L)).extracting(BetParticipation::getStatus)
+            .containsExactly(BetParticipation.ParticipationStatus.LOST, BetParticipation.ParticipationStatus.WON);
+        verify(leaderboardService).recordSettlements(eq(bet), anyList());
+    }
+
+    private BetParticipation participation(Long userId, int chosenOption) {
+        User user = new User();
+        user.setId(userId);
+        BetParticipation participation = new BetParticipation();
+        participation.setUser(user);
+        participation.setBet(bet);
+        participation.setChosenOption(chosenOption);
+        participation.setBetAmount(new BigDecimal("10.00"));
+        participation.setStatus(BetParticipation.ParticipationStatus.ACTIVE);
+        return participation;
+    }
+}
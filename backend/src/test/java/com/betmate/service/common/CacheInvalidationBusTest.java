@@ -0,0 +1,109 @@
+package com.betmate.service.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CacheInvalidationBus Unit Tests")
+class CacheInvalidationBusTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private CacheInvalidationBus invalidationBus;
+    private final List<Long> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new CacheInvalidationBus(redisTemplate, listenerContainer);
+        invalidationBus.register("loadouts", received::add);
+    }
+
+    @Test
+    @DisplayName("Should apply invalidations published by another instance")
+    void should_RunHandler_When_OtherNodePublishes() {
+        // Given
+        CacheInvalidationBus otherNode = new CacheInvalidationBus(redisTemplate, listenerContainer);
+
+        // When
+        otherNode.publish("loadouts", 42L);
+        otherNode.publishAll("loadouts");
+        deliverPublishedMessages(2);
+
+        // Then
+        assertThat(received).containsExactly(42L, null);
+    }
+
+    @Test
+    @DisplayName("Should ignore its own invalidations and unknown caches")
+    void should_SkipHandler_When_OwnMessageOrUnknownCache() {
+        // When
+        invalidationBus.publish("loadouts", 42L);
+        deliverPublishedMessages(1);
+        invalidationBus.onMessage(message("other-node|summaries|7"), null);
+
+        // Then
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not fail the caller when Redis is unavailable")
+    void should_SwallowFailure_When_RedisUnavailable() {
+        // Given
+        doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        // When / Then
+        assertThatCode(() -> invalidationBus.publishAll("store-catalog")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should start without a subscription and retry it when Redis is unavailable")
+    void should_RetrySubscription_When_StartFails() {
+        // Given
+        when(listenerContainer.isListening()).thenReturn(false);
+        when(listenerContainer.isRunning()).thenReturn(false, true);
+        doThrow(new RedisConnectionFailureException("down")).doNothing().when(listenerContainer).start();
+
+        // When
+        assertThatCode(() -> invalidationBus.subscribeOnStartup()).doesNotThrowAnyException();
+        invalidationBus.ensureSubscribed();
+
+        // Then
+        verify(listenerContainer, times(2)).start();
+        verify(listenerContainer).stop();
+    }
+
+    private void deliverPublishedMessages(int count) {
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(count)).convertAndSend(eq(CacheInvalidationBus.CHANNEL), body.capture());
+        body.getAllValues().forEach(value -> invalidationBus.onMessage(message(value), null));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,231 @@
+package com.betmate.service.common;
+
+import com.betmate.exception.IdempotencyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("IdempotencyService Unit Tests")
+class IdempotencyServiceTest {
+
+    private static final String KEY = "idempotency:1:store-purchase:abc";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        idempotencyService = new IdempotencyService(redisTemplate, objectMapper, 60, 24);
+    }
+
+    @Test
+    @DisplayName("Should run the action and store its response for a new key")
+    void should_StoreResponse_When_KeyIsNew() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(Duration.ofSeconds(60)))).thenReturn(true);
+
+        // When
+        ResponseEntity<String> response = execute(Map.of("storeItemId", 5), this::purchase);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(KEY), stored.capture(), eq(Duration.ofHours(24)));
+        assertThat(stored.getValue()).contains("\"status\":201");
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without running the action again")
+    void should_ReplayResponse_When_RetriedWithSameKey() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true, false);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        execute(Map.of("storeItemId", 5), this::purchase);
+        verify(valueOperations).set(eq(KEY), stored.capture(), any(Duration.class));
+        when(valueOperations.get(KEY)).thenReturn(stored.getValue());
+
+        // When
+        ResponseEntity<String> replayed = execute(Map.of("storeItemId", 5), this::purchase);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getBody()).isEqualTo("purchased");
+        assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request body")
+    void should_RejectReuse_When_BodyDiffers() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true, false);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        execute(Map.of("storeItemId", 5), this::purchase);
+        verify(valueOperations).set(eq(KEY), stored.capture(), any(Duration.class));
+        when(valueOperations.get(KEY)).thenReturn(stored.getValue());
+
+        // When / Then
+        assertThatThrownBy(() -> execute(Map.of("storeItemId", 6), this::purchase))
+            .isInstanceOf(IdempotencyException.KeyReuseException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a retry while the original request is still running")
+    void should_RejectRetry_When_RequestInProgress() {
+        // Given
+        AtomicReference<String> pending = new AtomicReference<>();
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            pending.set(invocation.getArgument(1));
+            return false;
+        });
+        when(valueOperations.get(KEY)).thenAnswer(invocation -> pending.get());
+
+        // When / Then
+        assertThatThrownBy(() -> execute(Map.of("storeItemId", 5), this::purchase))
+            .isInstanceOf(IdempotencyException.RequestInProgressException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should release the key when the action fails")
+    void should_ReleaseKey_When_ActionThrows() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> execute(Map.of("storeItemId", 5), () -> {
+            throw new IllegalStateException("insufficient credits");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate).delete(KEY);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should run without idempotency when Redis is unavailable")
+    void should_RunAction_When_RedisUnavailable() {
+        // Given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+            .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // When
+        ResponseEntity<String> response = execute(Map.of("storeItemId", 5), this::purchase);
+
+        // Then
+        assertThat(response.getBody()).isEqualTo("purchased");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the key when rendering fails after the action committed")
+    void should_KeepKey_When_RenderFailsAfterAction() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> executeTwoPhase(Map.of("betId", 5), () -> {
+            throw new IllegalStateException("failed to load bet details");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(executions).hasValue(1);
+        verify(redisTemplate, never()).delete(anyString());
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(KEY), stored.capture(), eq(Duration.ofHours(24)));
+        assertThat(stored.getValue()).contains("\"committed\":true");
+    }
+
+    @Test
+    @DisplayName("Should render again without repeating a committed action on retry")
+    void should_RenderOnly_When_RetriedAfterRenderFailure() {
+        // Given
+        AtomicReference<String> value = new AtomicReference<>();
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            if (value.get() != null) {
+                return false;
+            }
+            value.set(invocation.getArgument(1));
+            return true;
+        });
+        doAnswer(invocation -> {
+            value.set(invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(eq(KEY), anyString(), any(Duration.class));
+        when(valueOperations.get(KEY)).thenAnswer(invocation -> value.get());
+        assertThatThrownBy(() -> executeTwoPhase(Map.of("betId", 5), () -> {
+            throw new IllegalStateException("failed to load bet details");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // When
+        ResponseEntity<String> retried = executeTwoPhase(Map.of("betId", 5), () -> ResponseEntity.ok("bet details"));
+        ResponseEntity<String> replayed = executeTwoPhase(Map.of("betId", 5), () -> ResponseEntity.ok("other"));
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(retried.getBody()).isEqualTo("bet details");
+        assertThat(retried.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replayed.getBody()).isEqualTo("bet details");
+    }
+
+    @Test
+    @DisplayName("Should release the key when the two-phase action fails")
+    void should_ReleaseKey_When_TwoPhaseActionThrows() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> idempotencyService.execute(1L, "store-purchase", "abc", Map.of("betId", 5), String.class,
+            () -> {
+                throw new IllegalStateException("bet is closed");
+            },
+            () -> ResponseEntity.ok("bet details")))
+            .isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate).delete(KEY);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    private ResponseEntity<String> executeTwoPhase(Object request, Supplier<ResponseEntity<String>> render) {
+        return idempotencyService.execute(1L, "store-purchase", "abc", request, String.class,
+            executions::incrementAndGet, render);
+    }
+
+    private ResponseEntity<String> execute(Object request, Supplier<ResponseEntity<String>> action) {
+        return idempotencyService.execute(1L, "store-purchase", "abc", request, String.class, action);
+    }
+
+    private ResponseEntity<String> purchase() {
+        executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body("purchased");
+    }
+}
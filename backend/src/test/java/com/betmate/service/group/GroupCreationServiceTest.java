@@ -80,6 +80,7 @@ class GroupCreationServiceTest {
         assertEquals(25, result.getMaxMembers());
         assertEquals(testUser, result.getCreator());
         assertTrue(result.getIsActive());
+        assertEquals(1, result.getMemberCount());
         
         verify(groupService).saveGroup(any(Group.class));
         verify(membershipService).addCreatorMembership(any(Group.class), eq(testUser));
@@ -0,0 +1,109 @@
+package com.betmate.service.group;
+
+import com.betmate.dto.betting.response.BetPreviewDto;
+import com.betmate.dto.group.response.GroupDashboardResponseDto;
+import com.betmate.dto.group.response.MemberPreviewDto;
+import com.betmate.entity.group.Group;
+import com.betmate.entity.group.GroupMembership;
+import com.betmate.entity.user.User;
+import com.betmate.exception.group.GroupPermissionException;
+import com.betmate.repository.betting.BetRepository;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.messaging.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("GroupDashboardService Unit Tests")
+class GroupDashboardServiceTest {
+
+    @Mock
+    private GroupService groupService;
+
+    @Mock
+    private GroupMembershipRepository membershipRepository;
+
+    @Mock
+    private BetRepository betRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private GroupDashboardService dashboardService;
+
+    private Group group;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Run sections inline so the test stays deterministic
+        dashboardService = new GroupDashboardService(groupService, membershipRepository,
+            betRepository, messageRepository, Runnable::run);
+
+        group = new Group();
+        group.setId(10L);
+        group.setGroupName("Friday Poker");
+        user = new User();
+        user.setId(1L);
+        user.setUsername("alice");
+
+        when(groupService.getGroupById(10L)).thenReturn(group);
+    }
+
+    @Test
+    @DisplayName("Should assemble all sections with the requested limits after one membership check")
+    void should_ReturnAllSections_When_UserIsMember() {
+        // Given
+        GroupMembership membership = new GroupMembership();
+        membership.setRole(GroupMembership.MemberRole.ADMIN);
+        when(membershipRepository.findByUserAndGroupAndIsActiveTrue(user, group)).thenReturn(Optional.of(membership));
+        when(membershipRepository.findMemberPreviews(eq(10L), any())).thenReturn(List.of(
+            new MemberPreviewDto(1L, "alice", "alice", GroupMembership.MemberRole.ADMIN, null, null, null, null, null)));
+        when(betRepository.findBetPreviews(eq(10L), any())).thenReturn(List.<BetPreviewDto>of());
+        when(messageRepository.findMessagePreviews(eq(10L), any())).thenReturn(List.of());
+        when(messageRepository.countMessagesByGroup(group)).thenReturn(42L);
+        when(messageRepository.countMessagesByGroupBetween(eq(group), any(), any())).thenReturn(3L);
+
+        // When
+        GroupDashboardResponseDto result = dashboardService.getDashboard(10L, user,
+            new GroupDashboardService.DashboardLimits(5, 500, 0));
+
+        // Then
+        assertThat(result.group().getUserRole()).isEqualTo("ADMIN");
+        assertThat(result.members()).hasSize(1);
+        assertThat(result.messageStats().totalMessages()).isEqualTo(42L);
+        assertThat(result.messageStats().todayMessages()).isEqualTo(3L);
+        verify(membershipRepository).findMemberPreviews(10L, PageRequest.of(0, 5));
+        verify(betRepository).findBetPreviews(10L, PageRequest.of(0, GroupDashboardService.MAX_SECTION_LIMIT));
+        verify(messageRepository).findMessagePreviews(10L, PageRequest.of(0, 1));
+        verify(membershipRepository, times(1)).findByUserAndGroupAndIsActiveTrue(user, group);
+    }
+
+    @Test
+    @DisplayName("Should reject non-members before loading any section")
+    void should_ThrowPermissionException_When_UserIsNotMember() {
+        // Given
+        when(membershipRepository.findByUserAndGroupAndIsActiveTrue(user, group)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> dashboardService.getDashboard(10L, user,
+                new GroupDashboardService.DashboardLimits(20, 10, 30)))
+            .isInstanceOf(GroupPermissionException.class);
+        verifyNoInteractions(betRepository, messageRepository);
+    }
+}
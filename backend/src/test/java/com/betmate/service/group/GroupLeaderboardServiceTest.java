@@ -0,0 +1,158 @@
+package com.betmate.service.group;
+
+import com.betmate.dto.group.response.GroupLeaderboardResponseDto;
+import com.betmate.dto.group.response.LeaderboardEntryDto;
+import com.betmate.entity.betting.Bet;
+import com.betmate.entity.betting.BetParticipation;
+import com.betmate.entity.group.Group;
+import com.betmate.entity.user.User;
+import com.betmate.repository.betting.BetParticipationRepository;
+import com.betmate.repository.group.GroupLeaderboardRepository;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.group.GroupRepository;
+import com.betmate.repository.user.UserRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("GroupLeaderboardService Unit Tests")
+class GroupLeaderboardServiceTest {
+
+    @Mock
+    private GroupLeaderboardRepository leaderboardRepository;
+
+    @Mock
+    private BetParticipationRepository participationRepository;
+
+    @Mock
+    private GroupMembershipRepository membershipRepository;
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private GroupLeaderboardService leaderboardService;
+    private Group group;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new GroupLeaderboardService(leaderboardRepository, participationRepository,
+            membershipRepository, groupRepository, userRepository, invalidationBus, 100);
+
+        group = new Group();
+        group.setId(10L);
+        alice = new User();
+        alice.setId(1L);
+        alice.setUsername("alice");
+
+        when(groupRepository.findById(10L)).thenReturn(Optional.of(group));
+        when(membershipRepository.existsByUserAndGroupAndIsActiveTrue(alice, group)).thenReturn(true);
+        when(leaderboardRepository.findStandingsByGroupId(10L)).thenReturn(List.of(
+            new LeaderboardEntryDto(1L, "alice", new BigDecimal("50.00"), 3, 1, 2, 2)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should patch the cached view once the settlement commits")
+    void should_PatchCachedView_When_SettlementCommits() {
+        // Given
+        leaderboardService.getLeaderboard(10L, alice, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        leaderboardService.recordSettlements(bet(), List.of(win(alice, "20.00", "35.00")));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        GroupLeaderboardResponseDto response = leaderboardService.getLeaderboard(10L, alice, 10);
+
+        // Then
+        assertThat(response.currentUser().netWinnings()).isEqualByComparingTo("65.00");
+        verify(leaderboardRepository, times(1)).findStandingsByGroupId(10L);
+        verify(invalidationBus).publish("group-leaderboard", 10L);
+    }
+
+    @Test
+    @DisplayName("Should not cache a view loaded while a settlement of the group is in flight")
+    void should_NotCacheLoad_When_SettlementInFlight() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        leaderboardService.recordSettlements(bet(), List.of(win(alice, "20.00", "35.00")));
+
+        // When
+        leaderboardService.getLeaderboard(10L, alice, 10);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        leaderboardService.getLeaderboard(10L, alice, 10);
+        leaderboardService.getLeaderboard(10L, alice, 10);
+
+        // Then
+        verify(leaderboardRepository, times(2)).findStandingsByGroupId(10L);
+    }
+
+    @Test
+    @DisplayName("Should leave the cached view untouched when the settlement rolls back")
+    void should_SkipPatch_When_SettlementRollsBack() {
+        // Given
+        leaderboardService.getLeaderboard(10L, alice, 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        leaderboardService.recordSettlements(bet(), List.of(win(alice, "20.00", "35.00")));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        GroupLeaderboardResponseDto response = leaderboardService.getLeaderboard(10L, alice, 10);
+
+        // Then
+        assertThat(response.currentUser().netWinnings()).isEqualByComparingTo("50.00");
+        verify(invalidationBus, never()).publish(anyString(), anyLong());
+    }
+
+    private Bet bet() {
+        Bet bet = new Bet();
+        bet.setGroup(group);
+        return bet;
+    }
+
+    private static BetParticipation win(User user, String amount, String payout) {
+        BetParticipation participation = new BetParticipation();
+        participation.setUser(user);
+        participation.setStatus(BetParticipation.ParticipationStatus.WON);
+        participation.setBetAmount(new BigDecimal(amount));
+        participation.setActualWinnings(new BigDecimal(payout));
+        return participation;
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,81 @@
+package com.betmate.service.group;
+
+import com.betmate.dto.group.response.LeaderboardEntryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GroupLeaderboard Unit Tests")
+class GroupLeaderboardTest {
+
+    private GroupLeaderboard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new GroupLeaderboard(List.of(
+            new LeaderboardEntryDto(1L, "alice", new BigDecimal("50.00"), 3, 1, 2, 2),
+            new LeaderboardEntryDto(2L, "bob", new BigDecimal("120.00"), 4, 0, 4, 4),
+            new LeaderboardEntryDto(3L, "carol", new BigDecimal("-20.00"), 1, 3, -2, 1)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should order standings by net winnings and assign ranks")
+    void should_RankByNetWinnings_When_Loaded() {
+        // When
+        List<LeaderboardEntryDto> top = board.top(2);
+
+        // Then
+        assertThat(top).extracting(LeaderboardEntryDto::username).containsExactly("bob", "alice");
+        assertThat(top).extracting(LeaderboardEntryDto::rank).containsExactly(1, 2);
+        assertThat(board.standingOf(3L)).get().extracting(LeaderboardEntryDto::rank).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should move a member and update streaks when a result is applied")
+    void should_Rerank_When_ResultApplied() {
+        // When
+        board.apply(3L, "carol", new BigDecimal("200.00"), true);
+        board.apply(2L, "bob", new BigDecimal("-10.00"), false);
+
+        // Then
+        LeaderboardEntryDto carol = board.standingOf(3L).orElseThrow();
+        assertThat(carol.rank()).isEqualTo(1);
+        assertThat(carol.netWinnings()).isEqualByComparingTo("180.00");
+        assertThat(carol.currentStreak()).isEqualTo(1);
+
+        LeaderboardEntryDto bob = board.standingOf(2L).orElseThrow();
+        assertThat(bob.rank()).isEqualTo(2);
+        assertThat(bob.currentStreak()).isEqualTo(-1);
+        assertThat(bob.longestWinStreak()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should add new members and report no standing for unranked users")
+    void should_AddMember_When_FirstResultApplied() {
+        // When
+        board.apply(4L, "dave", new BigDecimal("5.00"), true);
+
+        // Then
+        assertThat(board.size()).isEqualTo(4);
+        assertThat(board.standingOf(4L)).get().extracting(LeaderboardEntryDto::rank).isEqualTo(3);
+        assertThat(board.standingOf(3L)).get().extracting(LeaderboardEntryDto::rank).isEqualTo(4);
+        assertThat(board.standingOf(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should use the expected payout for winners without a recorded payout")
+    void should_ComputeNetResult_When_PayoutMissing() {
+        assertThat(GroupLeaderboardService.netResult(true, new BigDecimal("10"), null, new BigDecimal("25")))
+            .isEqualByComparingTo("15");
+        assertThat(GroupLeaderboardService.netResult(true, new BigDecimal("10"), new BigDecimal("30"), new BigDecimal("25")))
+            .isEqualByComparingTo("20");
+        assertThat(GroupLeaderboardService.netResult(false, new BigDecimal("10"), BigDecimal.ZERO, null))
+            .isEqualByComparingTo("-10");
+    }
+}
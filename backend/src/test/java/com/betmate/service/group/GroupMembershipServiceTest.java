@@ -5,12 +5,16 @@ import com.betmate.entity.group.GroupMembership;
 import com.betmate.entity.user.User;
 import com.betmate.repository.group.GroupMembershipRepository;
 import com.betmate.exception.group.GroupMembershipException;
+import com.betmate.service.user.FriendSuggestionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -37,6 +41,9 @@ class GroupMembershipServiceTest {
     @Mock
     private GroupPermissionService permissionService;
 
+    @Mock
+    private FriendSuggestionService friendSuggestionService;
+
     @InjectMocks
     private GroupMembershipService membershipService;
 
@@ -82,8 +89,7 @@ class GroupMembershipServiceTest {
     void joinGroup_WithRole_Success() {
         when(permissionService.canJoinGroup(testUser, testGroup)).thenReturn(true);
         when(membershipRepository.save(any(GroupMembership.class))).thenReturn(testMembership);
-        when(membershipRepository.countActiveMembers(testGroup)).thenReturn(5L);
-        doNothing().when(groupService).updateMemberCount(anyLong(), anyInt());
+        when(groupService.tryIncrementMemberCount(testGroup.getId())).thenReturn(true);
 
         GroupMembership result = membershipService.joinGroup(testUser, testGroup, GroupMembership.MemberRole.MEMBER);
 
@@ -95,8 +101,7 @@ class GroupMembershipServiceTest {
     void joinGroup_WithoutRole_DefaultsToMember() {
         when(permissionService.canJoinGroup(testUser, testGroup)).thenReturn(true);
         when(membershipRepository.save(any(GroupMembership.class))).thenReturn(testMembership);
-        when(membershipRepository.countActiveMembers(testGroup)).thenReturn(5L);
-        doNothing().when(groupService).updateMemberCount(anyLong(), anyInt());
+        when(groupService.tryIncrementMemberCount(testGroup.getId())).thenReturn(true);
 
         GroupMembership result = membershipService.joinGroup(testUser, testGroup);
 
@@ -105,6 +110,17 @@ class GroupMembershipServiceTest {
             membership.getRole() == GroupMembership.MemberRole.MEMBER));
     }
 
+    @Test
+    void joinGroup_SlotTakenConcurrently_ThrowsException() {
+        when(permissionService.canJoinGroup(testUser, testGroup)).thenReturn(true);
+        when(groupService.tryIncrementMemberCount(testGroup.getId())).thenReturn(false);
+
+        assertThrows(GroupMembershipException.class, () -> 
+            membershipService.joinGroup(testUser, testGroup, GroupMembership.MemberRole.MEMBER));
+        verify(membershipRepository, never()).save(any(GroupMembership.class));
+        verify(membershipRepository, never()).countActiveMembers(any());
+    }
+
     @Test
     void joinGroup_UserAlreadyMember_ThrowsException() {
         when(permissionService.canJoinGroup(testUser, testGroup)).thenReturn(false);
@@ -137,8 +153,7 @@ class GroupMembershipServiceTest {
         when(permissionService.canInviteUsers(adminUser, testGroup)).thenReturn(true);
         when(permissionService.canJoinGroup(testUser, testGroup)).thenReturn(true);
         when(membershipRepository.save(any(GroupMembership.class))).thenReturn(testMembership);
-        when(membershipRepository.countActiveMembers(testGroup)).thenReturn(5L);
-        doNothing().when(groupService).updateMemberCount(anyLong(), anyInt());
+        when(groupService.tryIncrementMemberCount(testGroup.getId())).thenReturn(true);
 
         GroupMembership result = membershipService.inviteUserToGroup(adminUser, testUser, testGroup, GroupMembership.MemberRole.MEMBER);
 
@@ -152,8 +167,7 @@ class GroupMembershipServiceTest {
         when(permissionService.canChangeRoles(adminUser, testGroup)).thenReturn(true);
         when(permissionService.canJoinGroup(testUser, testGroup)).thenReturn(true);
         when(membershipRepository.save(any(GroupMembership.class))).thenReturn(testMembership);
-        when(membershipRepository.countActiveMembers(testGroup)).thenReturn(5L);
-        doNothing().when(groupService).updateMemberCount(anyLong(), anyInt());
+        when(groupService.tryIncrementMemberCount(testGroup.getId())).thenReturn(true);
 
         GroupMembership result = membershipService.inviteUserToGroup(adminUser, testUser, testGroup, GroupMembership.MemberRole.ADMIN);
 
@@ -182,8 +196,7 @@ class GroupMembershipServiceTest {
     void addCreatorMembership_Success() {
         when(permissionService.canJoinGroup(testUser, testGroup)).thenReturn(true);
         when(membershipRepository.save(any(GroupMembership.class))).thenReturn(testMembership);
-        when(membershipRepository.countActiveMembers(testGroup)).thenReturn(1L);
-        doNothing().when(groupService).updateMemberCount(anyLong(), anyInt());
+        when(groupService.tryIncrementMemberCount(testGroup.getId())).thenReturn(true);
 
         GroupMembership result = membershipService.addCreatorMembership(testGroup, testUser);
 
@@ -432,4 +445,30 @@ class GroupMembershipServiceTest {
 
         assertEquals(5L, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getGroupMemberPage_OversizedRequest_ClampsSizeAndUsesRoleOrder() {
+        when(membershipRepository.findMemberPageByRole(eq(1L), any(Pageable.class))).thenReturn(Page.empty());
+
+        membershipService.getGroupMemberPage(1L, -1, 500, null);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(membershipRepository).findMemberPageByRole(eq(1L), captor.capture());
+        verify(membershipRepository, never()).findMemberPage(anyLong(), any(Pageable.class));
+        Pageable pageable = captor.getValue();
+        assertEquals(0, pageable.getPageNumber());
+        assertEquals(100, pageable.getPageSize());
+        assertTrue(pageable.getSort().isUnsorted());
+    }
+
+    @Test
+    void getGroupMemberPage_NewestSort_PassesSortToRepository() {
+        when(membershipRepository.findMemberPage(eq(1L), any(Pageable.class))).thenReturn(Page.empty());
+
+        membershipService.getGroupMemberPage(1L, 0, 20, GroupMembershipService.MemberSort.NEWEST);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(membershipRepository).findMemberPage(eq(1L), captor.capture());
+        assertEquals(GroupMembershipService.MemberSort.NEWEST.toSort(), captor.getValue().getSort());
+    }
+}
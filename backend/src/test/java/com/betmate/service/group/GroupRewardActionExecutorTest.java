@@ -0,0 +1,146 @@
+package com.betmate.service.group;
+
+import com.betmate.entity.group.GroupRewardAction;
+import com.betmate.repository.group.GroupRewardActionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("GroupRewardActionExecutor Unit Tests")
+class GroupRewardActionExecutorTest {
+
+    private static final String CLAIM_TOKEN = "claim-1";
+
+    @Mock
+    private GroupRewardActionRepository groupRewardActionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private GroupRewardActionHandler boostHandler;
+
+    private MeterRegistry meterRegistry;
+    private GroupRewardActionExecutor executor;
+    private GroupRewardAction action;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(boostHandler.getActionType()).thenReturn(GroupRewardAction.ActionType.SOCIAL_BOOST);
+
+        action = new GroupRewardAction();
+        action.setId(7L);
+        action.setActionType(GroupRewardAction.ActionType.SOCIAL_BOOST);
+        action.setClaimToken(CLAIM_TOKEN);
+
+        when(groupRewardActionRepository.countReadyActions(any())).thenReturn(3L);
+        when(groupRewardActionRepository.findReadyActionIds(any(), any(), any())).thenReturn(List.of(7L));
+        when(groupRewardActionRepository.claimActions(anyCollection(), anyString(), any())).thenReturn(1);
+        when(groupRewardActionRepository.findByClaimTokenAndStatus(anyString(), eq(GroupRewardAction.ActionStatus.EXECUTING)))
+            .thenReturn(List.of(action));
+
+        executor = new GroupRewardActionExecutor(groupRewardActionRepository, List.of(boostHandler), Runnable::run,
+            transactionManager, meterRegistry, 50, 100, 600000);
+    }
+
+    @Test
+    @DisplayName("Should claim ready actions of handled types and complete them")
+    void should_ExecuteClaimedActions_When_Polling() {
+        // Given
+        when(boostHandler.execute(action)).thenReturn("Boost applied");
+        when(groupRewardActionRepository.completeAction(eq(7L), eq(CLAIM_TOKEN), eq("Boost applied"), any())).thenReturn(1);
+
+        // When
+        executor.pollReadyActions();
+
+        // Then
+        verify(groupRewardActionRepository).findReadyActionIds(eq(Set.of(GroupRewardAction.ActionType.SOCIAL_BOOST)), any(), any());
+        verify(groupRewardActionRepository).claimActions(eq(List.of(7L)), anyString(), any());
+        verify(groupRewardActionRepository).completeAction(eq(7L), eq(CLAIM_TOKEN), eq("Boost applied"), any());
+        verify(transactionManager).commit(any());
+        assertThat(meterRegistry.get("group.rewards.queue.depth").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("group.rewards.execution").tag("outcome", "executed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should mark the action failed when its handler throws")
+    void should_FailAction_When_HandlerThrows() {
+        // Given
+        when(boostHandler.execute(action)).thenThrow(new IllegalStateException("target left the group"));
+
+        // When
+        executor.pollReadyActions();
+
+        // Then
+        verify(groupRewardActionRepository, never()).completeAction(anyLong(), any(), any(), any());
+        verify(groupRewardActionRepository).failAction(eq(7L), eq(CLAIM_TOKEN), eq("Failed: target left the group"), any());
+        verify(transactionManager).rollback(any());
+        assertThat(meterRegistry.get("group.rewards.execution").tag("outcome", "failed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should roll back without completing when the action was released and reclaimed")
+    void should_AbandonAction_When_ClaimReclaimedByAnotherRun() {
+        // Given
+        when(boostHandler.execute(action)).thenReturn("Boost applied");
+        // The stale claim was released and another run now holds the action under a new token
+        when(groupRewardActionRepository.completeAction(eq(7L), eq(CLAIM_TOKEN), anyString(), any())).thenReturn(0);
+
+        // When
+        executor.pollReadyActions();
+
+        // Then
+        verify(transactionManager).commit(argThat(TransactionStatus::isRollbackOnly));
+        verify(groupRewardActionRepository, never()).failAction(anyLong(), any(), any(), any());
+        assertThat(meterRegistry.get("group.rewards.execution").tag("outcome", "abandoned").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not claim anything when no handlers are registered")
+    void should_SkipClaiming_When_NoHandlers() {
+        // Given
+        executor = new GroupRewardActionExecutor(groupRewardActionRepository, List.of(), Runnable::run,
+            transactionManager, meterRegistry, 50, 100, 600000);
+
+        // When
+        executor.pollReadyActions();
+
+        // Then
+        verify(groupRewardActionRepository, never()).claimActions(anyCollection(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should expire overdue actions in bulk and count them")
+    void should_ExpireInBulk_When_Sweeping() {
+        // Given
+        when(groupRewardActionRepository.expireOverdueActions(any())).thenReturn(4);
+
+        // When
+        executor.expireOverdueActions();
+
+        // Then
+        verify(groupRewardActionRepository).releaseStaleClaims(any(), any());
+        assertThat(meterRegistry.get("group.rewards.expired").counter().count()).isEqualTo(4.0);
+    }
+}
@@ -1,18 +1,25 @@
 package com.betmate.service.group;
 
 import com.betmate.dto.group.request.GroupUpdateRequestDto;
+import com.betmate.dto.group.response.GroupSummaryResponseDto;
 import com.betmate.entity.group.Group;
 import com.betmate.entity.user.User;
 import com.betmate.exception.group.GroupNotFoundException;
 import com.betmate.repository.group.GroupRepository;
+import com.betmate.service.search.SearchIndexService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +38,9 @@ class GroupServiceTest {
     
     @Mock
     private GroupRepository groupRepository;
+
+    @Mock
+    private SearchIndexService searchIndexService;
     
     // Test data constants
     private static final Long TEST_GROUP_ID = 123L;
@@ -45,7 +55,7 @@ class GroupServiceTest {
 
     @BeforeEach
     void setUp() {
-        groupService = new GroupService(groupRepository);
+        groupService = new GroupService(groupRepository, searchIndexService);
         
         // Create test user
         testUser = createTestUser(TEST_USER_ID, TEST_USERNAME);
@@ -558,4 +568,39 @@ class GroupServiceTest {
         assertThat(result).isEqualTo(expectedCount);
         verify(groupRepository).countActiveGroups();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should discover public groups with a bounded page and activity ranking")
+    void discoverPublicGroups_ClampsPageSizeAndRanksByActivity() {
+        // Arrange
+        Page<GroupSummaryResponseDto> expectedPage = new PageImpl<>(List.of());
+        when(groupRepository.findDiscoverableGroups(eq(TEST_USER_ID), any(Pageable.class))).thenReturn(expectedPage);
+
+        // Act
+        Page<GroupSummaryResponseDto> result = groupService.discoverPublicGroups(TEST_USER_ID, -1, 1000, null);
+
+        // Assert
+        assertThat(result).isSameAs(expectedPage);
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(groupRepository).findDiscoverableGroups(eq(TEST_USER_ID), captor.capture());
+        Pageable pageable = captor.getValue();
+        assertThat(pageable.getPageNumber()).isZero();
+        assertThat(pageable.getPageSize()).isEqualTo(100);
+        assertThat(pageable.getSort().getOrderFor("totalMessages")).isNotNull();
+        assertThat(pageable.getSort().getOrderFor("totalMessages").getDirection()).isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    @DisplayName("Should report a full group when the conditional increment matches no row")
+    void tryIncrementMemberCount_GroupFull() {
+        // Arrange
+        when(groupRepository.incrementMemberCount(TEST_GROUP_ID)).thenReturn(0);
+
+        // Act
+        boolean reserved = groupService.tryIncrementMemberCount(TEST_GROUP_ID);
+
+        // Assert
+        assertThat(reserved).isFalse();
+        verify(groupRepository).incrementMemberCount(TEST_GROUP_ID);
+    }
+}
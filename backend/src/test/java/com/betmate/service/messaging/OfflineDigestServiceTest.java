@@ -0,0 +1,124 @@
+package com.betmate.service.messaging;
+
+import com.betmate.entity.group.Group;
+import com.betmate.entity.messaging.Notification;
+import com.betmate.entity.messaging.PendingMessageDigest;
+import com.betmate.entity.user.User;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.messaging.PendingMessageDigestRepository;
+import com.betmate.service.notification.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("OfflineDigestService Unit Tests")
+class OfflineDigestServiceTest {
+
+    @Mock
+    private PendingMessageDigestRepository digestRepository;
+
+    @Mock
+    private GroupMembershipRepository groupMembershipRepository;
+
+    @Mock
+    private PresenceRegistry presenceRegistry;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private OfflineDigestService offlineDigestService;
+
+    @BeforeEach
+    void setUp() {
+        offlineDigestService = new OfflineDigestService(digestRepository, groupMembershipRepository,
+            presenceRegistry, notificationService, messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("Should queue the message only for offline members other than the sender")
+    @SuppressWarnings("unchecked")
+    void should_UpsertOfflineMembersOnly_When_MessageRecorded() {
+        // Given
+        when(groupMembershipRepository.findActiveMemberIdsByGroupId(10L)).thenReturn(List.of(1L, 2L, 3L));
+        when(presenceRegistry.filterOnline(anyCollection())).thenReturn(Set.of(2L));
+
+        // When
+        offlineDigestService.recordGroupMessage(10L, 500L, 1L, "alice");
+
+        // Then
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(digestRepository).upsertDigests(eq(10L), captor.capture(), eq(500L), eq("alice"), any());
+        assertThat(captor.getValue()).containsExactly(3L);
+        verify(digestRepository).deleteByGroupIdAndUserId(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should skip the upsert when every member is online")
+    void should_SkipUpsert_When_AllMembersOnline() {
+        // Given
+        when(groupMembershipRepository.findActiveMemberIdsByGroupId(10L)).thenReturn(List.of(1L, 2L));
+        when(presenceRegistry.filterOnline(anyCollection())).thenReturn(Set.of(2L));
+
+        // When
+        offlineDigestService.recordGroupMessage(10L, 500L, 1L, "alice");
+
+        // Then
+        verify(digestRepository, never()).upsertDigests(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should turn pending digests into one notification per group and clear them")
+    void should_DeliverAndDeleteDigests_When_Flushed() {
+        // Given
+        User bob = new User();
+        bob.setId(3L);
+        bob.setUsername("bob");
+        Group group = new Group();
+        group.setId(10L);
+        group.setGroupName("Friday Poker");
+
+        PendingMessageDigest digest = new PendingMessageDigest();
+        digest.setId(77L);
+        digest.setUser(bob);
+        digest.setGroup(group);
+        digest.setMessageCount(12);
+
+        Notification notification = new Notification();
+        notification.setNotificationType(Notification.NotificationType.GROUP_MESSAGE);
+        notification.setPriority(Notification.NotificationPriority.NORMAL);
+
+        when(digestRepository.findByUserIdWithGroup(3L)).thenReturn(List.of(digest));
+        when(notificationService.createNotification(any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(notification);
+
+        // When
+        int delivered = offlineDigestService.flushDigests(3L, "bob");
+
+        // Then
+        assertThat(delivered).isEqualTo(1);
+        verify(notificationService).createNotification(eq(bob), anyString(), eq("12 new messages in Friday Poker"),
+            eq(Notification.NotificationType.GROUP_MESSAGE), any(), eq("/groups/10"), eq(10L), eq("GROUP"));
+        verify(messagingTemplate).convertAndSendToUser(eq("bob"), eq("/queue/notifications"), any(Object.class));
+        verify(digestRepository).deleteByIdIn(List.of(77L));
+    }
+}
@@ -0,0 +1,159 @@
+package com.betmate.service.messaging;
+
+import com.betmate.entity.group.Group;
+import com.betmate.entity.user.User;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.user.FriendEdgeRepository;
+import com.betmate.repository.user.UserRepository;
+import com.betmate.websocket.MessageWebSocketController.TypingIndicatorDto;
+import com.betmate.websocket.MessageWebSocketController.UserPresenceDto.PresenceStatus;
+import com.betmate.websocket.StompBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PresenceService Unit Tests")
+class PresenceServiceTest {
+
+    @Mock
+    private StompBroadcaster broadcaster;
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FriendEdgeRepository friendEdgeRepository;
+
+    @Mock
+    private GroupMembershipRepository groupMembershipRepository;
+
+    private PresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        presenceService = new PresenceService(broadcaster, messagingTemplate, userRepository,
+            friendEdgeRepository, groupMembershipRepository, 60_000L, 90_000L);
+    }
+
+    @Test
+    @DisplayName("Should forward only the first typing frame within the throttle window")
+    void should_ThrottleTypingFrames_When_SentInBurst() {
+        // When
+        boolean first = presenceService.handleTyping(1L, typing("alice", true));
+        boolean second = presenceService.handleTyping(1L, typing("alice", true));
+        boolean otherGroup = presenceService.handleTyping(2L, typing("alice", true));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(otherGroup).isTrue();
+        verify(broadcaster, times(2)).broadcast(any(Object.class), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("Should always forward stop-typing frames")
+    void should_ForwardStopTyping_When_WithinThrottleWindow() {
+        // Given
+        presenceService.handleTyping(1L, typing("alice", true));
+
+        // When
+        boolean stopped = presenceService.handleTyping(1L, typing("alice", false));
+        boolean restarted = presenceService.handleTyping(1L, typing("alice", true));
+
+        // Then
+        assertThat(stopped).isTrue();
+        assertThat(restarted).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should coalesce presence changes into one frame per group and online friend")
+    void should_PublishBatchedDiffs_When_Flushed() {
+        // Given
+        User alice = user(1L, "alice");
+        User bob = user(2L, "bob");
+        Group group = new Group();
+        group.setId(10L);
+
+        when(userRepository.findByUsernameIgnoreCase("alice")).thenReturn(Optional.of(alice));
+        when(userRepository.findByUsernameIgnoreCase("bob")).thenReturn(Optional.of(bob));
+        when(friendEdgeRepository.findFriendsByUserId(alice.getId())).thenReturn(List.of(bob));
+        when(friendEdgeRepository.findFriendsByUserId(bob.getId())).thenReturn(List.of(alice));
+        when(groupMembershipRepository.findGroupsByUser(any(User.class))).thenReturn(List.of(group));
+
+        presenceService.updatePresence("alice", PresenceStatus.ONLINE);
+        presenceService.updatePresence("alice", PresenceStatus.AWAY);
+        presenceService.updatePresence("bob", PresenceStatus.ONLINE);
+
+        // When
+        presenceService.flushPresenceChanges();
+
+        // Then
+        verify(broadcaster, times(1)).broadcast(any(PresenceService.PresenceDiffFrame.class), eq("/topic/group/10/presence"));
+        verify(messagingTemplate).convertAndSendToUser(eq("bob"), eq("/queue/presence"), any(PresenceService.PresenceDiffFrame.class));
+        verify(messagingTemplate).convertAndSendToUser(eq("alice"), eq("/queue/presence"), any(PresenceService.PresenceDiffFrame.class));
+        assertThat(presenceService.getStatus("alice")).isEqualTo(PresenceStatus.AWAY);
+    }
+
+    @Test
+    @DisplayName("Should not publish anything when presence did not change")
+    void should_SkipFlush_When_NoChanges() {
+        // Given
+        presenceService.updatePresence("alice", PresenceStatus.ONLINE);
+        when(userRepository.findByUsernameIgnoreCase("alice")).thenReturn(Optional.empty());
+        presenceService.flushPresenceChanges();
+        reset(broadcaster, messagingTemplate, userRepository);
+
+        // When
+        presenceService.updatePresence("alice", PresenceStatus.ONLINE);
+        presenceService.flushPresenceChanges();
+
+        // Then
+        verifyNoInteractions(broadcaster, messagingTemplate, userRepository);
+    }
+
+    @Test
+    @DisplayName("Should mark user offline on disconnect")
+    void should_MarkOffline_When_Disconnected() {
+        // Given
+        presenceService.updatePresence("alice", PresenceStatus.ONLINE);
+
+        // When
+        presenceService.markOffline("alice");
+
+        // Then
+        assertThat(presenceService.isOnline("alice")).isFalse();
+        assertThat(presenceService.getStatus("alice")).isEqualTo(PresenceStatus.OFFLINE);
+    }
+
+    private TypingIndicatorDto typing(String username, boolean isTyping) {
+        TypingIndicatorDto dto = new TypingIndicatorDto();
+        dto.setUsername(username);
+        dto.setTyping(isTyping);
+        return dto;
+    }
+
+    private User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
@@ -0,0 +1,75 @@
+package com.betmate.service.search;
+
+import com.betmate.service.search.NGramIndex.IndexedField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("NGramIndex Unit Tests")
+class NGramIndexTest {
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex(0.3);
+        index.put(1L, List.of(new IndexedField("Friday Poker", 1.0), new IndexedField("Weekly card games", 0.5)));
+        index.put(2L, List.of(new IndexedField("Fantasy Football", 1.0), new IndexedField("Friday picks", 0.5)));
+        index.put(3L, List.of(new IndexedField("Chess Club", 1.0), new IndexedField(null, 0.5)));
+    }
+
+    @Test
+    @DisplayName("Should match prefixes and rank name matches above description matches")
+    void should_RankNameAboveDescription_When_PrefixMatches() {
+        // When
+        List<Long> results = index.search("fri", 10);
+
+        // Then
+        assertThat(results).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should tolerate small typos")
+    void should_MatchDespiteTypo_When_QueryMisspelled() {
+        // When
+        List<Long> results = index.search("pokr", 10);
+
+        // Then
+        assertThat(results).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents")
+    void should_NormalizeText_When_Searching() {
+        // Given
+        index.put(4L, List.of(new IndexedField("Café Crème", 1.0)));
+
+        // When / Then
+        assertThat(index.search("CAFE", 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals")
+    void should_ReflectChanges_When_DocumentsUpdatedOrRemoved() {
+        // When
+        index.put(3L, List.of(new IndexedField("Poker Night", 1.0)));
+        index.remove(1L);
+
+        // Then
+        assertThat(index.search("poker", 10)).containsExactly(3L);
+        assertThat(index.search("chess", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should respect the result limit and skip blank queries")
+    void should_LimitResults_When_ManyMatch() {
+        // When / Then
+        assertThat(index.search("f", 1)).hasSize(1);
+        assertThat(index.search("   ", 10)).isEmpty();
+    }
+}
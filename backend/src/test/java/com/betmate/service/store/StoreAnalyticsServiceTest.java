@@ -0,0 +1,65 @@
+package com.betmate.service.store;
+
+import com.betmate.repository.store.StoreDailySalesRepository;
+import com.betmate.repository.store.StoreItemStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StoreAnalyticsService Unit Tests")
+class StoreAnalyticsServiceTest {
+
+    @Mock
+    private StoreItemStatsRepository statsRepository;
+
+    @Mock
+    private StoreDailySalesRepository dailySalesRepository;
+
+    private StoreAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new StoreAnalyticsService(statsRepository, dailySalesRepository, 2);
+    }
+
+    @Test
+    @DisplayName("Should skip the item rebuild when no totals drifted")
+    void should_SkipRebuild_When_NoDrift() {
+        // Given
+        when(statsRepository.findDriftedItemIds()).thenReturn(List.of());
+
+        // When
+        analyticsService.reconcile();
+
+        // Then
+        verify(statsRepository, never()).rebuildFromInventory();
+        verify(dailySalesRepository).rebuildSince(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should rebuild item totals when drifted items are found")
+    void should_Rebuild_When_ItemsDrifted() {
+        // Given
+        when(statsRepository.findDriftedItemIds()).thenReturn(List.of(3L, 7L));
+
+        // When
+        analyticsService.reconcile();
+
+        // Then
+        verify(statsRepository).rebuildFromInventory();
+        verify(dailySalesRepository).rebuildSince(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,106 @@
+package com.betmate.service.store;
+
+import com.betmate.entity.store.StoreItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StoreCatalog Unit Tests")
+class StoreCatalogTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private StoreItem badge;
+    private StoreItem title;
+    private StoreItem promo;
+    private StoreItem retired;
+    private StoreCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        badge = item(1L, StoreItem.ItemCategory.PROGRESSION, "30.00", 2);
+        badge.setIsFeatured(true);
+        title = item(2L, StoreItem.ItemCategory.PROGRESSION, "10.00", 1);
+        promo = item(3L, StoreItem.ItemCategory.SOCIAL, "20.00", 0);
+        promo.setIsLimitedTime(true);
+        promo.setAvailableUntil(now.plusHours(1));
+        retired = item(4L, StoreItem.ItemCategory.SOCIAL, "20.00", 0);
+        retired.setIsActive(false);
+
+        catalog = StoreCatalog.of(List.of(badge, title, promo, retired), now);
+    }
+
+    @Test
+    @DisplayName("Should index active items by category in display order")
+    void should_IndexByCategory_When_Built() {
+        // When / Then
+        assertThat(catalog.available()).containsExactly(promo, title, badge);
+        assertThat(catalog.byCategory(StoreItem.ItemCategory.PROGRESSION)).containsExactly(title, badge);
+        assertThat(catalog.byCategory(StoreItem.ItemCategory.CUSTOMIZATION)).isEmpty();
+        assertThat(catalog.featured()).containsExactly(badge);
+        assertThat(catalog.item(4L)).contains(retired);
+    }
+
+    @Test
+    @DisplayName("Should return price ranges inclusive of both bounds")
+    void should_ReturnInclusiveRange_When_QueryingByPrice() {
+        // When / Then
+        assertThat(catalog.byPriceRange(new BigDecimal("20.00"), new BigDecimal("30.00")))
+            .containsExactly(promo, retired, badge);
+        assertThat(catalog.byPriceRange(new BigDecimal("11"), new BigDecimal("19"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should go stale once a limited-time item expires")
+    void should_BecomeStale_When_PromotionExpires() {
+        // When / Then
+        assertThat(catalog.isStale(now.plusMinutes(59))).isFalse();
+        assertThat(catalog.isStale(now.plusHours(1))).isTrue();
+
+        StoreCatalog rebuilt = StoreCatalog.of(List.of(badge, title, promo, retired), now.plusHours(1));
+        assertThat(rebuilt.available()).containsExactly(title, badge);
+        assertThat(rebuilt.version()).isNotEqualTo(catalog.version());
+    }
+
+    @Test
+    @DisplayName("Should list active limited-time items as expiring even past their deadline")
+    void should_KeepExpiredItemsInExpiring_When_StillActive() {
+        // Given
+        StoreCatalog later = StoreCatalog.of(List.of(badge, title, promo, retired), now.plusHours(2));
+
+        // When / Then
+        assertThat(catalog.expiring()).containsExactly(promo);
+        assertThat(later.limitedTime()).isEmpty();
+        assertThat(later.expiring()).containsExactly(promo);
+    }
+
+    @Test
+    @DisplayName("Should vary the ETag with the caller's owned items")
+    void should_IncludeOwnership_When_ComputingEtag() {
+        // When / Then
+        assertThat(catalog.etag(Set.of(1L))).isEqualTo(catalog.etag(Set.of(1L)));
+        assertThat(catalog.etag(Set.of(1L))).isNotEqualTo(catalog.etag(Set.of(1L, 2L)));
+        assertThat(catalog.etag(List.of(2L, 1L))).isEqualTo(catalog.etag(Set.of(1L, 2L)));
+        // Sets with equal hash codes must still get different ETags
+        assertThat(catalog.etag(Set.of(1L, 2L))).isNotEqualTo(catalog.etag(Set.of(3L)));
+        assertThat(StoreCatalog.of(List.of(title, badge, retired, promo), now).version()).isEqualTo(catalog.version());
+    }
+
+    private static StoreItem item(Long id, StoreItem.ItemCategory category, String price, int sortOrder) {
+        StoreItem item = new StoreItem();
+        item.setId(id);
+        item.setName("Item " + id);
+        item.setItemType(StoreItem.ItemType.BADGE);
+        item.setCategory(category);
+        item.setPrice(new BigDecimal(price));
+        item.setSortOrder(sortOrder);
+        return item;
+    }
+}
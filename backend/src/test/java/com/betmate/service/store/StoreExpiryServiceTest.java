@@ -0,0 +1,76 @@
+package com.betmate.service.store;
+
+import com.betmate.entity.store.StoreItem;
+import com.betmate.repository.store.StoreItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StoreExpiryService Unit Tests")
+class StoreExpiryServiceTest {
+
+    @Mock
+    private StoreItemRepository storeItemRepository;
+
+    @Mock
+    private StoreCatalogService storeCatalogService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private StoreExpiryService expiryService;
+
+    @BeforeEach
+    void setUp() {
+        expiryService = new StoreExpiryService(storeItemRepository, storeCatalogService, taskScheduler);
+    }
+
+    @Test
+    @DisplayName("Should expire due items on the shared scheduler and invalidate the catalog")
+    void should_ExpireDueItems_When_TimerFires() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        StoreItem promo = new StoreItem();
+        promo.setId(3L);
+        promo.setName("Promo");
+        promo.setItemType(StoreItem.ItemType.BADGE);
+        promo.setCategory(StoreItem.ItemCategory.SOCIAL);
+        promo.setPrice(new BigDecimal("20.00"));
+        promo.setSortOrder(0);
+        promo.setIsLimitedTime(true);
+        promo.setAvailableUntil(now.minusMinutes(1));
+        when(storeCatalogService.current()).thenReturn(StoreCatalog.of(List.of(promo), now.minusHours(1)));
+
+        // When
+        expiryService.start();
+        runLastScheduled(1);
+        runLastScheduled(2);
+
+        // Then
+        verify(storeItemRepository).expireLimitedTimeItems(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(storeCatalogService).invalidate();
+    }
+
+    private void runLastScheduled(int scheduledSoFar) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(scheduledSoFar)).schedule(task.capture(), any(Instant.class));
+        task.getValue().run();
+    }
+}
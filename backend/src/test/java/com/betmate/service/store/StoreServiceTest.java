@@ -0,0 +1,163 @@
+package com.betmate.service.store;
+
+import com.betmate.entity.store.StoreItem;
+import com.betmate.entity.user.User;
+import com.betmate.entity.user.UserInventory;
+import com.betmate.exception.store.StoreOperationException;
+import com.betmate.exception.user.InsufficientCreditsException;
+import com.betmate.repository.store.StoreItemRepository;
+import com.betmate.repository.user.UserInventoryRepository;
+import com.betmate.service.user.UserCreditService;
+import com.betmate.service.user.UserInventoryService;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StoreService Unit Tests")
+class StoreServiceTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("25.00");
+
+    @Mock
+    private StoreItemRepository storeItemRepository;
+
+    @Mock
+    private UserInventoryRepository userInventoryRepository;
+
+    @Mock
+    private StoreCatalogService storeCatalogService;
+
+    @Mock
+    private UserCreditService userCreditService;
+
+    @Mock
+    private UserInventoryService userInventoryService;
+
+    @Mock
+    private StoreAnalyticsService storeAnalyticsService;
+
+    private StoreService storeService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        storeService = new StoreService(storeItemRepository, userInventoryRepository, storeCatalogService,
+            userCreditService, userInventoryService, storeAnalyticsService);
+
+        user = new User();
+        user.setId(1L);
+
+        StoreItem item = new StoreItem();
+        item.setId(5L);
+        item.setName("High Roller");
+        item.setItemType(StoreItem.ItemType.TITLE);
+        item.setCategory(StoreItem.ItemCategory.PROGRESSION);
+        item.setPrice(PRICE);
+        item.setSortOrder(0);
+        when(storeCatalogService.current()).thenReturn(StoreCatalog.of(List.of(item), LocalDateTime.now()));
+        when(userInventoryRepository.saveAndFlush(any(UserInventory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should debit the price, insert the inventory row and record the sale")
+    void should_DebitAndRecord_When_PurchaseSucceeds() {
+        // When
+        UserInventory inventory = storeService.purchaseItem(user, 5L, PRICE);
+
+        // Then
+        assertThat(inventory.getStoreItem().getId()).isEqualTo(5L);
+        assertThat(inventory.getPurchasePrice()).isEqualByComparingTo(PRICE);
+        verify(userCreditService).debitCredits(eq(1L), eq(PRICE), anyString());
+        verify(storeAnalyticsService).recordPurchase(5L, PRICE);
+        verify(userInventoryService).evictInventorySummary(1L);
+    }
+
+    @Test
+    @DisplayName("Should debit credits before inserting the inventory row")
+    void should_DebitBeforeInsert_When_Purchasing() {
+        // When
+        storeService.purchaseItem(user, 5L, PRICE);
+
+        // Then
+        InOrder inOrder = inOrder(userCreditService, userInventoryRepository);
+        inOrder.verify(userCreditService).debitCredits(eq(1L), eq(PRICE), anyString());
+        inOrder.verify(userInventoryRepository).saveAndFlush(any(UserInventory.class));
+    }
+
+    @Test
+    @DisplayName("Should report an existing copy when the active ownership key is violated")
+    void should_ThrowAlreadyOwns_When_ActiveOwnershipKeyViolated() {
+        // Given
+        when(userInventoryRepository.saveAndFlush(any(UserInventory.class)))
+            .thenThrow(violation("user_inventory.uk_inventory_user_item_active"));
+
+        // When / Then
+        assertThatThrownBy(() -> storeService.purchaseItem(user, 5L, PRICE))
+            .isInstanceOf(StoreOperationException.class)
+            .hasMessage("User already owns this item");
+        verify(storeAnalyticsService, never()).recordPurchase(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should rethrow other integrity violations unchanged")
+    void should_Rethrow_When_OtherConstraintViolated() {
+        // Given
+        DataIntegrityViolationException violation = violation("fk_inventory_user");
+        when(userInventoryRepository.saveAndFlush(any(UserInventory.class))).thenThrow(violation);
+
+        // When / Then
+        assertThatThrownBy(() -> storeService.purchaseItem(user, 5L, PRICE)).isSameAs(violation);
+        verify(storeAnalyticsService, never()).recordPurchase(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should not insert or record the sale when the conditional debit fails")
+    void should_NotRecordSale_When_CreditsInsufficient() {
+        // Given
+        doThrow(new InsufficientCreditsException("Insufficient available credits"))
+            .when(userCreditService).debitCredits(eq(1L), eq(PRICE), anyString());
+
+        // When / Then
+        assertThatThrownBy(() -> storeService.purchaseItem(user, 5L, PRICE))
+            .isInstanceOf(InsufficientCreditsException.class);
+        verify(userInventoryRepository, never()).saveAndFlush(any());
+        verify(storeAnalyticsService, never()).recordPurchase(anyLong(), any());
+        verify(userInventoryService, never()).evictInventorySummary(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject a price that differs from the catalog before writing")
+    void should_RejectPurchase_When_PriceMismatch() {
+        // When / Then
+        assertThatThrownBy(() -> storeService.purchaseItem(user, 5L, new BigDecimal("20.00")))
+            .isInstanceOf(StoreOperationException.class)
+            .hasMessageStartingWith("Price mismatch");
+        verify(userInventoryRepository, never()).saveAndFlush(any());
+        verify(userCreditService, never()).debitCredits(anyLong(), any(), anyString());
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        SQLException sqlException = new SQLException("Integrity constraint violated", "23000");
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+}
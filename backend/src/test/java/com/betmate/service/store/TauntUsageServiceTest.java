@@ -0,0 +1,142 @@
+package com.betmate.service.store;
+
+import com.betmate.entity.store.TauntMessage;
+import com.betmate.exception.store.StoreItemNotFoundException;
+import com.betmate.repository.store.TauntMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TauntUsageService Unit Tests")
+class TauntUsageServiceTest {
+
+    @Mock
+    private TauntMessageRepository tauntMessageRepository;
+
+    private TauntUsageService tauntUsageService;
+
+    @BeforeEach
+    void setUp() {
+        tauntUsageService = new TauntUsageService(tauntMessageRepository, 60, 50, 60000);
+    }
+
+    @Test
+    @DisplayName("Should flush taunts sharing a delta in one statement")
+    void should_GroupByDelta_When_Flushing() {
+        // Given
+        tauntUsageService.recordUse(1L);
+        tauntUsageService.recordUse(2L);
+        tauntUsageService.recordUse(3L);
+        tauntUsageService.recordUse(3L);
+
+        // When
+        tauntUsageService.flushUsage();
+        tauntUsageService.flushUsage();
+
+        // Then
+        verify(tauntMessageRepository).incrementUsage(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(1L));
+        verify(tauntMessageRepository).incrementUsage(List.of(3L), 2L);
+        verify(tauntMessageRepository, times(2)).incrementUsage(anyCollection(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should put deltas back when the write fails")
+    void should_RetryDeltas_When_FlushFails() {
+        // Given
+        tauntUsageService.recordUse(1L);
+        when(tauntMessageRepository.incrementUsage(anyCollection(), anyLong()))
+            .thenThrow(new RuntimeException("database unavailable"))
+            .thenReturn(1);
+
+        // When
+        tauntUsageService.flushUsage();
+        tauntUsageService.flushUsage();
+
+        // Then
+        verify(tauntMessageRepository, times(2)).incrementUsage(List.of(1L), 1L);
+    }
+
+    @Test
+    @DisplayName("Should rank trending taunts by recent use")
+    void should_RankByUse_When_ComputingTrending() {
+        // Given
+        tauntUsageService.recordUse(1L);
+        tauntUsageService.recordUse(2L);
+        tauntUsageService.recordUse(2L);
+
+        // When
+        tauntUsageService.flushUsage();
+
+        // Then
+        assertThat(tauntUsageService.getTrendingTauntIds(10)).containsExactly(2L, 1L);
+        assertThat(tauntUsageService.getTrendingTauntIds(1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should count uses of available taunts towards usage and trending")
+    void should_CountUse_When_TauntAvailable() {
+        // Given
+        TauntMessage taunt = new TauntMessage();
+        taunt.setId(7L);
+        when(tauntMessageRepository.findById(7L)).thenReturn(Optional.of(taunt));
+
+        // When
+        TauntMessage used = tauntUsageService.useTaunt(1L, 7L);
+        tauntUsageService.flushUsage();
+
+        // Then
+        assertThat(used).isSameAs(taunt);
+        verify(tauntMessageRepository).incrementUsage(List.of(7L), 1L);
+        assertThat(tauntUsageService.getTrendingTauntIds(10)).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("Should count one use per user within the minimum interval")
+    void should_CountOncePerUser_When_UsesRepeatedWithinInterval() {
+        // Given
+        TauntMessage taunt = new TauntMessage();
+        taunt.setId(7L);
+        when(tauntMessageRepository.findById(7L)).thenReturn(Optional.of(taunt));
+
+        // When
+        tauntUsageService.useTaunt(1L, 7L);
+        tauntUsageService.useTaunt(1L, 7L);
+        tauntUsageService.useTaunt(1L, 7L);
+        tauntUsageService.useTaunt(2L, 7L);
+        tauntUsageService.flushUsage();
+
+        // Then
+        verify(tauntMessageRepository).incrementUsage(List.of(7L), 2L);
+    }
+
+    @Test
+    @DisplayName("Should reject uses of reported or unknown taunts without counting them")
+    void should_RejectUse_When_TauntUnavailable() {
+        // Given
+        TauntMessage reported = new TauntMessage();
+        reported.setId(8L);
+        reported.setIsReported(true);
+        when(tauntMessageRepository.findById(8L)).thenReturn(Optional.of(reported));
+        when(tauntMessageRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> tauntUsageService.useTaunt(1L, 8L)).isInstanceOf(StoreItemNotFoundException.class);
+        assertThatThrownBy(() -> tauntUsageService.useTaunt(1L, 9L)).isInstanceOf(StoreItemNotFoundException.class);
+        tauntUsageService.flushUsage();
+        verify(tauntMessageRepository, never()).incrementUsage(anyCollection(), anyLong());
+    }
+}
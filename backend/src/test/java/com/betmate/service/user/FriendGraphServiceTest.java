@@ -0,0 +1,123 @@
+package com.betmate.service.user;
+
+import com.betmate.entity.user.Friendship.FriendshipStatus;
+import com.betmate.repository.user.FriendEdgeRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import com.betmate.service.user.FriendGraphService.FriendCandidate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FriendGraphService Unit Tests")
+class FriendGraphServiceTest {
+
+    @Mock
+    private FriendEdgeRepository friendEdgeRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private FriendGraphService friendGraphService;
+
+    @BeforeEach
+    void setUp() {
+        friendGraphService = new FriendGraphService(friendEdgeRepository, invalidationBus, 1000);
+
+        // 1 - 2, 1 - 3, 1 - 4, 2 - 3, 2 - 5, 3 - 5, 4 - 6
+        when(friendEdgeRepository.findFriendIdsByUserIdAndStatus(1L, FriendshipStatus.ACCEPTED)).thenReturn(List.of(4L, 2L, 3L));
+        when(friendEdgeRepository.findFriendIdsByUserIdAndStatus(2L, FriendshipStatus.ACCEPTED)).thenReturn(List.of(5L, 1L, 3L));
+        when(friendEdgeRepository.findFriendIdsByUserIdAndStatus(3L, FriendshipStatus.ACCEPTED)).thenReturn(List.of(1L, 2L, 5L));
+        when(friendEdgeRepository.findFriendIdsByUserIdAndStatus(4L, FriendshipStatus.ACCEPTED)).thenReturn(List.of(1L, 6L));
+        when(friendEdgeRepository.findFriendIdsByUserIdAndStatus(5L, FriendshipStatus.ACCEPTED)).thenReturn(List.of(2L, 3L));
+        when(friendEdgeRepository.findFriendIdsByUserIdAndStatus(6L, FriendshipStatus.ACCEPTED)).thenReturn(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("Should load friend IDs sorted and serve repeat reads from memory")
+    void should_CacheSortedFriendIds_When_Loaded() {
+        // When
+        long[] first = friendGraphService.getFriendIds(1L);
+        long[] second = friendGraphService.getFriendIds(1L);
+
+        // Then
+        assertThat(first).containsExactly(2L, 3L, 4L);
+        assertThat(second).isSameAs(first);
+        verify(friendEdgeRepository, times(1)).findFriendIdsByUserIdAndStatus(1L, FriendshipStatus.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("Should intersect friend lists for mutual friends")
+    void should_ReturnMutualFriends_When_ListsOverlap() {
+        // When / Then
+        assertThat(friendGraphService.getMutualFriendIds(1L, 5L)).containsExactly(2L, 3L);
+        assertThat(friendGraphService.countMutualFriends(1L, 6L)).isEqualTo(1);
+        assertThat(friendGraphService.getMutualFriendIds(5L, 6L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should patch cached lists when friendships are added and removed")
+    void should_UpdateCachedLists_When_FriendshipsChange() {
+        // Given
+        friendGraphService.getFriendIds(1L);
+        friendGraphService.getFriendIds(5L);
+
+        // When
+        friendGraphService.recordFriendship(1L, 5L);
+
+        // Then
+        assertThat(friendGraphService.getFriendIds(1L)).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(friendGraphService.areFriends(5L, 1L)).isTrue();
+        verify(invalidationBus).publish("friend-graph", 1L);
+        verify(invalidationBus).publish("friend-graph", 5L);
+
+        // When
+        friendGraphService.removeFriendship(5L, 1L);
+
+        // Then
+        assertThat(friendGraphService.areFriends(1L, 5L)).isFalse();
+        assertThat(friendGraphService.getFriendIds(5L)).containsExactly(2L, 3L);
+        verify(friendEdgeRepository, times(1)).findFriendIdsByUserIdAndStatus(1L, FriendshipStatus.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently read user when the cache is full")
+    void should_EvictLeastRecentlyRead_When_CacheFull() {
+        // Given
+        FriendGraphService smallGraph = new FriendGraphService(friendEdgeRepository, invalidationBus, 2);
+        smallGraph.getFriendIds(1L);
+        smallGraph.getFriendIds(2L);
+        smallGraph.getFriendIds(1L);
+
+        // When
+        smallGraph.getFriendIds(3L);
+        smallGraph.getFriendIds(1L);
+        smallGraph.getFriendIds(2L);
+
+        // Then
+        verify(friendEdgeRepository, times(1)).findFriendIdsByUserIdAndStatus(1L, FriendshipStatus.ACCEPTED);
+        verify(friendEdgeRepository, times(2)).findFriendIdsByUserIdAndStatus(2L, FriendshipStatus.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("Should rank friends-of-friends by mutual friend count")
+    void should_RankFriendsOfFriends_When_Suggesting() {
+        // When
+        List<FriendCandidate> candidates = friendGraphService.getFriendsOfFriends(1L, 10);
+
+        // Then
+        assertThat(candidates).containsExactly(new FriendCandidate(5L, 2), new FriendCandidate(6L, 1));
+        assertThat(friendGraphService.getFriendsOfFriends(1L, 1)).hasSize(1);
+    }
+}
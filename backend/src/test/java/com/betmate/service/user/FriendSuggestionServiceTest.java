@@ -0,0 +1,102 @@
+package com.betmate.service.user;
+
+import com.betmate.entity.user.Friendship.FriendshipStatus;
+import com.betmate.repository.group.GroupMembershipRepository;
+import com.betmate.repository.user.FriendEdgeRepository;
+import com.betmate.service.user.FriendGraphService.FriendCandidate;
+import com.betmate.service.user.FriendSuggestionService.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FriendSuggestionService Unit Tests")
+class FriendSuggestionServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private FriendGraphService friendGraphService;
+
+    @Mock
+    private FriendEdgeRepository friendEdgeRepository;
+
+    @Mock
+    private GroupMembershipRepository groupMembershipRepository;
+
+    private FriendSuggestionService friendSuggestionService;
+
+    @BeforeEach
+    void setUp() {
+        friendSuggestionService = new FriendSuggestionService(redisTemplate, friendGraphService,
+            friendEdgeRepository, groupMembershipRepository, 3, 200, 500, 86400);
+
+        when(friendGraphService.getFriendIds(1L)).thenReturn(new long[] {2L, 3L});
+        when(friendEdgeRepository.findFriendIdsByUserIdAndStatus(1L, FriendshipStatus.PENDING)).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Should combine mutual friends and shared groups into one score")
+    void should_RankByCombinedScore_When_CandidatesComeFromBothSources() {
+        // Given
+        when(friendGraphService.getFriendsOfFriends(eq(1L), anyInt()))
+            .thenReturn(List.of(new FriendCandidate(10L, 2), new FriendCandidate(11L, 1)));
+        when(groupMembershipRepository.findCoMemberCounts(eq(1L), any(Pageable.class)))
+            .thenReturn(List.of(new Object[] {11L, 4L}, new Object[] {12L, 1L}));
+
+        // When
+        List<Suggestion> suggestions = friendSuggestionService.computeSuggestions(1L);
+
+        // Then - 11 scores 1 * 3 + 4 * 1, 10 scores 2 * 3, 12 scores 1
+        assertThat(suggestions).containsExactly(
+            new Suggestion(11L, 7.0), new Suggestion(10L, 6.0), new Suggestion(12L, 1.0));
+    }
+
+    @Test
+    @DisplayName("Should exclude self, friends and pending requests")
+    void should_ExcludeKnownUsers_When_ComputingSuggestions() {
+        // Given
+        when(friendGraphService.getFriendsOfFriends(eq(1L), anyInt()))
+            .thenReturn(List.of(new FriendCandidate(10L, 1), new FriendCandidate(13L, 1)));
+        when(groupMembershipRepository.findCoMemberCounts(eq(1L), any(Pageable.class)))
+            .thenReturn(List.of(new Object[] {1L, 2L}, new Object[] {2L, 2L}, new Object[] {14L, 1L}));
+        when(friendEdgeRepository.findFriendIdsByUserIdAndStatus(1L, FriendshipStatus.PENDING)).thenReturn(List.of(13L));
+
+        // When
+        List<Suggestion> suggestions = friendSuggestionService.computeSuggestions(1L);
+
+        // Then
+        assertThat(suggestions).extracting(Suggestion::userId).containsExactly(10L, 14L);
+    }
+
+    @Test
+    @DisplayName("Should keep only the top K suggestions")
+    void should_TruncateToTopK_When_ManyCandidates() {
+        // Given
+        when(friendGraphService.getFriendsOfFriends(eq(1L), anyInt())).thenReturn(List.of(
+            new FriendCandidate(10L, 4), new FriendCandidate(11L, 3),
+            new FriendCandidate(12L, 2), new FriendCandidate(13L, 1)));
+        when(groupMembershipRepository.findCoMemberCounts(eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        List<Suggestion> suggestions = friendSuggestionService.computeSuggestions(1L);
+
+        // Then
+        assertThat(suggestions).extracting(Suggestion::userId).containsExactly(10L, 11L, 12L);
+    }
+}
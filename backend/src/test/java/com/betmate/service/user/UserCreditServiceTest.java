@@ -3,6 +3,7 @@ package com.betmate.service.user;
 import com.betmate.entity.user.User;
 import com.betmate.exception.user.InsufficientCreditsException;
 import com.betmate.exception.user.InsufficientFrozenCreditsException;
+import com.betmate.repository.user.UserRepository;
 import com.betmate.service.user.UserCreditService.TransferResult;
 import com.betmate.service.user.UserCreditService.CreditSummary;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 @DisplayName("UserCreditService Unit Tests")
 class UserCreditServiceTest {
@@ -31,7 +33,7 @@ class UserCreditServiceTest {
     @BeforeEach
     void setUp() {
         userService = new TestUserService();
-        creditService = new UserCreditService(userService);
+        creditService = new UserCreditService(userService, mock(UserRepository.class));
         
         // Create test users with initial balances
         testUser1 = createTestUser(TEST_USER_1_ID, "testuser1", INITIAL_BALANCE);
@@ -540,7 +542,7 @@ class UserCreditServiceTest {
         private final Map<Long, User> users = new ConcurrentHashMap<>();
 
         public TestUserService() {
-            super(null); // Pass null repository for testing
+            super(null, null); // Pass null dependencies for testing
         }
 
         @Override
@@ -0,0 +1,140 @@
+package com.betmate.service.user;
+
+import com.betmate.dto.store.response.InventorySummaryResponseDto;
+import com.betmate.entity.store.StoreItem;
+import com.betmate.entity.user.User;
+import com.betmate.entity.user.UserInventory;
+import com.betmate.mapper.InventoryMapper;
+import com.betmate.repository.user.UserInventoryRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import com.betmate.service.store.StoreAnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("UserInventoryService Unit Tests")
+class UserInventoryServiceTest {
+
+    @Mock
+    private UserInventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryMapper inventoryMapper;
+
+    @Mock
+    private UserLoadoutService loadoutService;
+
+    @Mock
+    private StoreAnalyticsService storeAnalyticsService;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private UserInventoryService inventoryService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        inventoryService = new UserInventoryService(inventoryRepository, inventoryMapper, loadoutService, storeAnalyticsService, invalidationBus, 100);
+        user = new User();
+        user.setId(1L);
+        user.setUsername("player");
+
+        when(inventoryRepository.getInventoryTotalsByType(user)).thenReturn(List.of(
+            new Object[] {StoreItem.ItemType.BADGE, 2L, new BigDecimal("30.00")},
+            new Object[] {StoreItem.ItemType.TITLE, 1L, new BigDecimal("15.50")}
+        ));
+        when(inventoryRepository.findRecentPurchases(eq(user), any(Pageable.class))).thenReturn(List.of());
+        when(inventoryMapper.toInventoryItemResponseList(any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Should build the summary from the grouped totals")
+    void should_AggregateTotals_When_BuildingSummary() {
+        // When
+        InventorySummaryResponseDto summary = inventoryService.getInventorySummary(user);
+
+        // Then
+        assertThat(summary.getTotalItems()).isEqualTo(3L);
+        assertThat(summary.getTotalValue()).isEqualByComparingTo("45.50");
+        assertThat(summary.getItemsByType()).containsEntry("BADGE", 2L).containsEntry("TITLE", 1L).hasSize(2);
+        verify(inventoryRepository, never()).countByUserAndStoreItem_ItemTypeAndIsActiveTrue(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should serve repeat reads from the cache until evicted")
+    void should_CacheSummary_When_NotEvicted() {
+        // When
+        InventorySummaryResponseDto first = inventoryService.getInventorySummary(user);
+        InventorySummaryResponseDto second = inventoryService.getInventorySummary(user);
+        inventoryService.evictInventorySummary(user.getId());
+        InventorySummaryResponseDto third = inventoryService.getInventorySummary(user);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        verify(inventoryRepository, times(2)).getInventoryTotalsByType(user);
+        verify(invalidationBus).publish("inventory-summary", user.getId());
+    }
+
+    @Test
+    @DisplayName("Should apply several slots with a single swap statement")
+    void should_SwapAllSlotsAtOnce_When_ApplyingLoadout() {
+        // Given
+        UserInventory title = inventoryItem(10L, StoreItem.ItemType.TITLE);
+        when(inventoryRepository.findAllById(List.of(10L))).thenReturn(List.of(title));
+        Map<StoreItem.ItemType, Long> slots = new EnumMap<>(StoreItem.ItemType.class);
+        slots.put(StoreItem.ItemType.TITLE, 10L);
+        slots.put(StoreItem.ItemType.BADGE, null);
+
+        // When
+        inventoryService.applyLoadout(user, slots);
+
+        // Then
+        verify(inventoryRepository).swapEquipped(1L, slots.keySet(), List.of(10L));
+        verify(inventoryRepository, never()).save(any());
+        verify(loadoutService).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject an item placed in a slot of another type")
+    void should_Reject_When_ItemTypeDoesNotMatchSlot() {
+        // Given
+        UserInventory badge = inventoryItem(11L, StoreItem.ItemType.BADGE);
+        when(inventoryRepository.findAllById(List.of(11L))).thenReturn(List.of(badge));
+
+        // When / Then
+        assertThatThrownBy(() -> inventoryService.applyLoadout(user, Map.of(StoreItem.ItemType.TITLE, 11L)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(inventoryRepository, never()).swapEquipped(anyLong(), anyCollection(), anyCollection());
+    }
+
+    private UserInventory inventoryItem(Long id, StoreItem.ItemType itemType) {
+        StoreItem storeItem = new StoreItem();
+        storeItem.setItemType(itemType);
+        UserInventory item = new UserInventory();
+        item.setId(id);
+        item.setUser(user);
+        item.setStoreItem(storeItem);
+        return item;
+    }
+}
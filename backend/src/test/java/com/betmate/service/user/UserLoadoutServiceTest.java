@@ -0,0 +1,113 @@
+package com.betmate.service.user;
+
+import com.betmate.dto.store.response.LoadoutPreviewDto;
+import com.betmate.entity.store.StoreItem;
+import com.betmate.repository.user.UserInventoryRepository;
+import com.betmate.service.common.CacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("UserLoadoutService Unit Tests")
+class UserLoadoutServiceTest {
+
+    @Mock
+    private UserInventoryRepository inventoryRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private UserLoadoutService loadoutService;
+
+    @BeforeEach
+    void setUp() {
+        loadoutService = new UserLoadoutService(inventoryRepository, invalidationBus, 1000);
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1L, 10L, StoreItem.ItemType.TITLE, "High Roller", null, StoreItem.Rarity.RARE});
+        rows.add(new Object[] {1L, 11L, StoreItem.ItemType.AVATAR_SKIN, "Golden", "gold.png", StoreItem.Rarity.EPIC});
+        when(inventoryRepository.findEquippedCosmeticsByUserIds(anyCollection())).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("Should fill every requested user from one bulk query")
+    void should_LoadMissesInOneQuery_When_FetchingInBulk() {
+        // When
+        Map<Long, LoadoutPreviewDto> loadouts = loadoutService.getLoadouts(List.of(1L, 2L, 1L));
+
+        // Then
+        assertThat(loadouts).containsOnlyKeys(1L, 2L);
+        assertThat(loadouts.get(1L).title().name()).isEqualTo("High Roller");
+        assertThat(loadouts.get(1L).avatar().iconUrl()).isEqualTo("gold.png");
+        assertThat(loadouts.get(1L).badge()).isNull();
+        assertThat(loadouts.get(2L)).isSameAs(LoadoutPreviewDto.EMPTY);
+        verify(inventoryRepository, times(1)).findEquippedCosmeticsByUserIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should serve cached loadouts and reload only invalidated users")
+    void should_ReloadOnlyInvalidatedUser_When_Invalidated() {
+        // Given
+        loadoutService.getLoadouts(List.of(1L, 2L));
+
+        // When
+        loadoutService.invalidate(2L);
+        loadoutService.getLoadouts(List.of(1L, 2L));
+
+        // Then
+        verify(inventoryRepository).findEquippedCosmeticsByUserIds(List.of(2L));
+        verify(inventoryRepository, times(2)).findEquippedCosmeticsByUserIds(anyCollection());
+        verify(invalidationBus).publish("loadouts", 2L);
+    }
+
+    @Test
+    @DisplayName("Should not cache a bulk load that raced an invalidation")
+    void should_SkipCaching_When_InvalidatedDuringLoad() {
+        // Given
+        when(inventoryRepository.findEquippedCosmeticsByUserIds(List.of(3L))).thenAnswer(invocation -> {
+            loadoutService.invalidate(3L);
+            return List.of();
+        });
+
+        // When
+        loadoutService.getLoadout(3L);
+        loadoutService.getLoadout(3L);
+
+        // Then
+        verify(inventoryRepository, times(2)).findEquippedCosmeticsByUserIds(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently read user when the cache is full")
+    void should_EvictLeastRecentlyRead_When_CacheFull() {
+        // Given
+        UserLoadoutService smallCache = new UserLoadoutService(inventoryRepository, invalidationBus, 2);
+        smallCache.getLoadout(1L);
+        smallCache.getLoadout(2L);
+        smallCache.getLoadout(1L);
+
+        // When
+        smallCache.getLoadout(3L);
+        smallCache.getLoadout(1L);
+        smallCache.getLoadout(2L);
+
+        // Then
+        verify(inventoryRepository, times(1)).findEquippedCosmeticsByUserIds(List.of(1L));
+        verify(inventoryRepository, times(2)).findEquippedCosmeticsByUserIds(List.of(2L));
+    }
+}
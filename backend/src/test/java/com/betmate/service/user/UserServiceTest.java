@@ -2,6 +2,7 @@ package com.betmate.service.user;
 
 import com.betmate.entity.user.User;
 import com.betmate.repository.user.UserRepository;
+import com.betmate.service.search.SearchIndexService;
 import com.betmate.service.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,9 @@ class UserServiceTest {
     
     @Mock
     private UserRepository userRepository;
+
+    @Mock
+    private SearchIndexService searchIndexService;
     
     // Test data constants
     private static final Long TEST_USER_ID = 123L;
@@ -43,7 +47,7 @@ class UserServiceTest {
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository);
+        userService = new UserService(userRepository, searchIndexService);
         
         // Create test user
         testUser = createTestUser(TEST_USER_ID, TEST_USERNAME, TEST_EMAIL, false);
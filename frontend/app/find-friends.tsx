@@ -26,9 +26,19 @@ export default function FindFriends() {
           setSearchResults(results);
           debugLog('User search results:', results);
 
-          // Load friendship statuses for all search results
-          if (results.length > 0) {
-            loadFriendshipStatuses(results.map(user => user.id));
+          // Search results carry their friendship status; only fetch it for any that don't
+          const embeddedStatuses = new Map<number, 'none' | 'pending_sent' | 'pending_received' | 'friends'>();
+          results.forEach(user => {
+            if (user.friendshipStatus) {
+              embeddedStatuses.set(user.id, FriendshipService.getFriendRequestStatus(
+                FriendshipService.fromFriendshipStatusName(user.friendshipStatus)));
+            }
+          });
+          setFriendStatuses(embeddedStatuses);
+
+          const missingIds = results.filter(user => !user.friendshipStatus).map(user => user.id);
+          if (missingIds.length > 0) {
+            loadFriendshipStatuses(missingIds);
           }
         } catch (error) {
           errorLog('Error searching users:', error);
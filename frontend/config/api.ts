@@ -37,6 +37,7 @@ export const API_ENDPOINTS = {
   GROUP_BY_ID: (id: number) => `/groups/${id}`,
   GROUP_UPDATE: (id: number) => `/groups/${id}`,
   GROUP_MEMBERS: (id: number) => `/groups/${id}/members`,
+  GROUP_MEMBERS_PAGE: (id: number) => `/groups/${id}/members/page`,
   GROUP_PUBLIC: '/groups/public',
   GROUP_MY_GROUPS: '/groups/my-groups',
   GROUP_SEARCH: '/groups/search',
@@ -76,4 +77,5 @@ export const API_ENDPOINTS = {
   PENDING_REQUESTS_COUNT: '/friendships/requests/received/count',
   MUTUAL_FRIENDS: (userId: number) => `/friendships/mutual/${userId}`,
   MUTUAL_FRIENDS_COUNT: (userId: number) => `/friendships/mutual/${userId}/count`,
+  FRIEND_SUGGESTIONS: '/friendships/suggestions',
 } as const;
\ No newline at end of file
@@ -189,6 +189,10 @@ export const handleApiResponse = <T>(response: AxiosResponse<ApiResponse<T> | T>
   return response.data as T;
 };
 
+// Key for the Idempotency-Key header; create one per user action so retries of it share the key
+export const createIdempotencyKey = (): string =>
+  `${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}${Math.random().toString(36).slice(2)}`;
+
 // Retry utility for failed requests
 export const retryRequest = async <T>(
   requestFn: () => Promise<T>,
@@ -1,4 +1,5 @@
 import { BaseApiService } from '../api/baseService';
+import { createIdempotencyKey } from '../api/baseClient';
 import { API_ENDPOINTS } from '../../config/api';
 
 export interface CreateBetRequest {
@@ -134,9 +135,11 @@ class BetService extends BaseApiService {
     return this.get<BetSummaryResponse[]>(`/status/${status}`);
   }
 
-  // Place a bet on an existing bet
+  // Place a bet on an existing bet; retries reuse the idempotency key so the bet is placed once
   async placeBet(betId: number, request: PlaceBetRequest): Promise<BetResponse> {
-    return this.post<BetResponse, PlaceBetRequest>(`/${betId}/participate`, request);
+    return this.post<BetResponse, PlaceBetRequest>(`/${betId}/participate`, request, {
+      headers: { 'Idempotency-Key': createIdempotencyKey() },
+    });
   }
 
   // Get all participations for a bet (for resolvers to see who participated)
@@ -1,5 +1,6 @@
 import { BaseApiService } from '../api/baseService';
 import { API_ENDPOINTS } from '../../config/api';
+import { PagedResponse } from '../../types/api';
 
 // Group DTOs matching backend
 export interface GroupCreationRequest {
@@ -17,6 +18,8 @@ export interface GroupUpdateRequest {
   autoApproveMembers?: boolean;
 }
 
+export type GroupDiscoverySort = 'ACTIVITY' | 'RECENT' | 'CAPACITY' | 'NEWEST';
+
 export interface GroupSummaryResponse {
   id: number;
   groupName: string;
@@ -52,6 +55,36 @@ export interface GroupMemberResponse {
   totalBets: number;
   totalWins: number;
   totalLosses: number;
+  loadout?: LoadoutPreview;
+}
+
+export interface EquippedCosmetic {
+  storeItemId: number;
+  name: string;
+  iconUrl?: string;
+  rarity?: string;
+}
+
+export interface LoadoutPreview {
+  title?: EquippedCosmetic;
+  avatar?: EquippedCosmetic;
+  badge?: EquippedCosmetic;
+  theme?: EquippedCosmetic;
+  frame?: EquippedCosmetic;
+}
+
+export type GroupMemberSort = 'ROLE' | 'JOINED' | 'NEWEST';
+
+export interface GroupMemberPreview {
+  userId: number;
+  username: string;
+  displayName: string;
+  role: 'MEMBER' | 'OFFICER' | 'ADMIN';
+  joinedAt: string;
+  lastActivityAt?: string;
+  avatarItemId?: number;
+  avatarName?: string;
+  avatarIconUrl?: string;
 }
 
 export class GroupService extends BaseApiService {
@@ -67,10 +100,24 @@ export class GroupService extends BaseApiService {
   }
 
   /**
-   * Get public groups for discovery
+   * Get one page of public groups for discovery
+   */
+  async discoverPublicGroups(
+    page: number = 0,
+    size: number = 20,
+    sort: GroupDiscoverySort = 'ACTIVITY'
+  ): Promise<PagedResponse<GroupSummaryResponse>> {
+    return this.get<PagedResponse<GroupSummaryResponse>>(API_ENDPOINTS.GROUP_PUBLIC, {
+      params: { page, size, sort }
+    });
+  }
+
+  /**
+   * Get the first page of public groups for discovery
    */
   async getPublicGroups(): Promise<GroupSummaryResponse[]> {
-    return this.get<GroupSummaryResponse[]>(API_ENDPOINTS.GROUP_PUBLIC);
+    const page = await this.discoverPublicGroups();
+    return page.content;
   }
 
   /**
@@ -132,6 +179,20 @@ export class GroupService extends BaseApiService {
     return this.get<GroupMemberResponse[]>(API_ENDPOINTS.GROUP_MEMBERS(groupId));
   }
 
+  /**
+   * Get one page of group members as lightweight previews
+   */
+  async getGroupMemberPage(
+    groupId: number,
+    page: number = 0,
+    size: number = 50,
+    sort: GroupMemberSort = 'ROLE'
+  ): Promise<PagedResponse<GroupMemberPreview>> {
+    return this.get<PagedResponse<GroupMemberPreview>>(API_ENDPOINTS.GROUP_MEMBERS_PAGE(groupId), {
+      params: { page, size, sort }
+    });
+  }
+
   /**
    * Remove a member from the group
    */
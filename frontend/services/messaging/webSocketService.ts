@@ -5,6 +5,7 @@ import {
   MessageResponse,
   TypingIndicator,
   UserPresence,
+  PresenceDiffFrame,
   PresenceStatus,
   WebSocketError,
   WebSocketMessage,
@@ -386,14 +387,15 @@ export class WebSocketMessagingService {
   }
 
   /**
-   * Subscribe to user presence updates
+   * Subscribe to user presence updates.
+   * The server sends batched diffs for friends and shared group members.
    */
   async subscribeToPresence(): Promise<void> {
     if (!this.client.connected) {
       await this.connect();
     }
 
-    const destination = '/topic/presence';
+    const destination = '/user/queue/presence';
     const subscriptionKey = 'presence';
 
     if (this.subscriptions.has(subscriptionKey)) {
@@ -402,9 +404,9 @@ export class WebSocketMessagingService {
 
     const subscription = this.client.subscribe(destination, (message: IMessage) => {
       try {
-        const presenceData: UserPresence = JSON.parse(message.body);
-        debugLog('User presence update:', presenceData);
-        this.globalEventHandlers.onUserPresence?.(presenceData);
+        const frame: PresenceDiffFrame = JSON.parse(message.body);
+        debugLog('User presence update:', frame);
+        frame.updates.forEach((presenceData) => this.globalEventHandlers.onUserPresence?.(presenceData));
       } catch (error) {
         errorLog('Error parsing presence update:', error);
       }
@@ -17,6 +17,12 @@ export interface FriendshipStatus {
   hasPendingRequest: boolean;
 }
 
+export interface FriendSuggestion {
+  user: UserSearchResult;
+  mutualFriendsCount: number;
+  score: number;
+}
+
 export class FriendshipService extends BaseApiService {
   constructor() {
     super('/friendships');
@@ -79,6 +85,13 @@ export class FriendshipService extends BaseApiService {
     return this.get<{ mutualFriendsCount: number }>(`/mutual/${userId}/count`);
   }
 
+  /**
+   * Get "people you may know" suggestions for the current user
+   */
+  async getFriendSuggestions(limit: number = 20): Promise<FriendSuggestion[]> {
+    return this.get<FriendSuggestion[]>(`/suggestions?limit=${limit}`);
+  }
+
   /**
    * Get pending friend requests sent by the current user
    */
@@ -156,6 +169,17 @@ export class FriendshipService extends BaseApiService {
     return 'none';
   }
 
+  /**
+   * Build friendship status from the status embedded in a search result
+   */
+  static fromFriendshipStatusName(friendshipStatus: FriendshipStatus['friendshipStatus']): FriendshipStatus {
+    return {
+      friendshipStatus,
+      areFriends: friendshipStatus === 'ACCEPTED',
+      hasPendingRequest: friendshipStatus === 'PENDING'
+    };
+  }
+
   /**
    * Get friend request status for a user (simplified for UI)
    */
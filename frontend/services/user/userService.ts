@@ -34,6 +34,8 @@ export interface UserSearchResult {
   lastName?: string;
   profileImageUrl?: string;
   isActive: boolean;
+  // Relationship to the current user; set on search results
+  friendshipStatus?: 'NONE' | 'PENDING' | 'ACCEPTED' | 'REJECTED';
 }
 
 export interface UserStatistics {
@@ -232,6 +232,11 @@ export interface UserPresence {
   lastSeen?: string;
 }
 
+export interface PresenceDiffFrame {
+  updates: UserPresence[];
+  timestamp: number;
+}
+
 export interface WebSocketError {
   error: string;
   timestamp: number;